@@ -0,0 +1,50 @@
+package com.nexora.common.api;
+
+import java.util.List;
+
+/**
+ * Cursor-based (keyset) page of results.
+ *
+ * <p>Unlike {@link PageResult}, no total count is computed and the cost of fetching a page
+ * does not grow with its depth. Pass {@code nextCursor} back to fetch the following page.
+ *
+ * <p>Example:
+ * <pre>
+ * {
+ *   "records": [...],
+ *   "size": 50,
+ *   "nextCursor": "MTcwMDAwMDAwMDAwMDoxMjM0"
+ * }
+ * </pre>
+ *
+ * @param <T> record type
+ * @author sujie
+ * @since 1.0.0
+ */
+public record CursorPageResult<T>(
+    List<T> records,
+    int size,
+    String nextCursor
+) {
+
+    /**
+     * Create empty cursor page result.
+     */
+    public static <T> CursorPageResult<T> empty(int size) {
+        return new CursorPageResult<>(List.of(), size, null);
+    }
+
+    /**
+     * Create cursor page result; {@code nextCursor} is {@code null} on the last page.
+     */
+    public static <T> CursorPageResult<T> of(List<T> records, int size, String nextCursor) {
+        return new CursorPageResult<>(records, size, nextCursor);
+    }
+
+    /**
+     * Check if there is a next page.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
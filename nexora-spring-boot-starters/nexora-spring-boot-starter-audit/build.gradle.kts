@@ -21,10 +21,28 @@ dependencies {
     // Spring AOP (for aspect) - using direct dependency as starter may not be available in Boot 4.0.2 milestone
     api("org.springframework:spring-aop")
 
+    // Micrometer for audit executor and pipeline metrics
+    implementation(libs.micrometer.core)
+
+    // Caffeine for the bounded in-process failed-login tracker
+    implementation(libs.caffeine)
+
+    // Spring Kafka (optional journal ship target)
+    compileOnly(libs.spring.kafka)
+
+    // Redisson (optional shared failed-login tracker)
+    compileOnly(libs.redisson)
+
+    // Reactor (optional Flux audit queries)
+    compileOnly(libs.reactor.core)
+
     // Spring Web (for HttpServletRequest)
     compileOnly(libs.jakarta.servlet.api)
+    compileOnly("org.springframework:spring-web")
 
     // Test dependencies
     testImplementation(libs.spring.boot.starter.test)
     testImplementation(libs.h2)
+    testImplementation(libs.reactor.core)
+    testImplementation(libs.jakarta.servlet.api)
 }
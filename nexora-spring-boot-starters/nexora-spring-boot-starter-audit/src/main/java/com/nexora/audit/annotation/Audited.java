@@ -0,0 +1,58 @@
+package com.nexora.audit.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Audit every invocation of the annotated method (or of all public methods of the annotated class).
+ *
+ * <p>The outcome, duration and, on failure, the exception are recorded asynchronously through
+ * {@link com.nexora.audit.service.AuditLogService}. High-frequency actions can be thinned with
+ * {@link #sampleRate()} and capped with {@link #maxPerSecond()}.
+ *
+ * <p>Usage:
+ * <pre>
+ * &#64;Audited(action = "USER_UPDATE", module = "user")
+ * public User updateUser(Long id, UserRequest request) { ... }
+ *
+ * // Keep 1% of successful lookups, never more than 50 per second
+ * &#64;Audited(action = "USER_VIEW", sampleRate = 0.01, maxPerSecond = 50)
+ * public User getUser(Long id) { ... }
+ * </pre>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Audited {
+
+    /**
+     * Action type recorded in the audit log (e.g. {@code USER_UPDATE}).
+     */
+    String action();
+
+    /**
+     * Module name recorded in the audit log; empty for none.
+     */
+    String module() default "";
+
+    /**
+     * Fraction of successful invocations that are recorded, between 0 and 1.
+     */
+    double sampleRate() default 1.0;
+
+    /**
+     * Whether failed invocations bypass sampling. Rate caps still apply.
+     */
+    boolean alwaysAuditFailures() default true;
+
+    /**
+     * Maximum audit logs per second for this action across all annotated methods; 0 for no cap.
+     */
+    double maxPerSecond() default 0;
+}
@@ -0,0 +1,45 @@
+package com.nexora.audit.aspect;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as a generic cell rate algorithm.
+ *
+ * <p>Instead of a token count, a single "theoretical arrival time" is advanced by one
+ * emission interval per permit, so acquiring is one CAS. The bucket holds
+ * {@code max(1, permitsPerSecond)} permits, allowing a one-second burst.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+final class AuditRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long interval;
+    private final long burst;
+    private final AtomicLong theoreticalArrival;
+
+    AuditRateLimiter(double permitsPerSecond) {
+        this.interval = Math.max(1, (long) (NANOS_PER_SECOND / permitsPerSecond));
+        this.burst = interval * Math.max(1, (long) permitsPerSecond);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat - now, 0) + interval;
+            if (next > burst) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, now + next)) {
+                return true;
+            }
+        }
+    }
+}
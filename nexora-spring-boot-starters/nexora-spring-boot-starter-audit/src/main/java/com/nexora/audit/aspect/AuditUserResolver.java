@@ -0,0 +1,19 @@
+package com.nexora.audit.aspect;
+
+/**
+ * Resolves the current user for {@link com.nexora.audit.annotation.Audited} methods.
+ *
+ * <p>Register a bean to link declarative audit logs to users, e.g. from the security context.
+ * Without one, logs are recorded without a user ID.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AuditUserResolver {
+
+    /**
+     * @return the current user ID, or {@code null} if unknown
+     */
+    Long resolveUserId();
+}
@@ -0,0 +1,177 @@
+package com.nexora.audit.aspect;
+
+import com.nexora.audit.annotation.Audited;
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.service.AuditLogService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Records an audit log for every invocation of an {@link Audited} method.
+ *
+ * <p>The outcome, duration and exception type are written through
+ * {@link AuditLogService#logAsync(AuditLog, Map, HttpServletRequest)}, so the audited call only
+ * pays for the capture. Successful calls are sampled with {@link Audited#sampleRate()}, and
+ * every action is capped by a shared token bucket when {@link Audited#maxPerSecond()} is set.
+ * Exceptions thrown by the method are always rethrown unchanged; failures to audit are logged.
+ *
+ * <p>The service is looked up on first use so that registering the advisor does not force
+ * early initialization of the audit service and its repository.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditedMethodInterceptor implements MethodInterceptor, MeterBinder {
+
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+        "org.springframework.web.context.request.RequestContextHolder", AuditedMethodInterceptor.class.getClassLoader());
+
+    private static final AuditedSpec NOT_AUDITED = new AuditedSpec(null, null, 0, false, null);
+
+    private final Supplier<AuditLogService> auditLogService;
+    private final Supplier<AuditUserResolver> userResolver;
+    private final Map<MethodClassKey, AuditedSpec> specs = new ConcurrentHashMap<>();
+    private final Map<String, AuditRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    private final AtomicLong sampledOut = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    public AuditedMethodInterceptor(AuditLogService auditLogService, AuditUserResolver userResolver) {
+        this(() -> auditLogService, () -> userResolver);
+    }
+
+    /**
+     * @param auditLogService lazy audit service lookup
+     * @param userResolver    lazy user resolver lookup; may supply {@code null}
+     */
+    public AuditedMethodInterceptor(Supplier<AuditLogService> auditLogService,
+                                    Supplier<AuditUserResolver> userResolver) {
+        this.auditLogService = auditLogService;
+        this.userResolver = userResolver;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        AuditedSpec spec = specs.computeIfAbsent(new MethodClassKey(invocation.getMethod(), targetClass),
+            key -> resolve(invocation.getMethod(), targetClass));
+        if (spec == NOT_AUDITED) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            audit(spec, start, null);
+            return result;
+        } catch (Throwable ex) {
+            audit(spec, start, ex);
+            throw ex;
+        }
+    }
+
+    private AuditedSpec resolve(Method method, Class<?> target) {
+        Class<?> targetClass = target != null ? target : method.getDeclaringClass();
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Audited audited = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Audited.class);
+        if (audited == null) {
+            audited = AnnotatedElementUtils.findMergedAnnotation(targetClass, Audited.class);
+        }
+        if (audited == null) {
+            return NOT_AUDITED;
+        }
+        double maxPerSecond = audited.maxPerSecond();
+        if (maxPerSecond > 0) {
+            limiters.computeIfAbsent(audited.action(), action -> new AuditRateLimiter(maxPerSecond));
+        }
+        return new AuditedSpec(audited.action(), audited.module().isEmpty() ? null : audited.module(),
+            audited.sampleRate(), audited.alwaysAuditFailures(),
+            targetClass.getSimpleName() + "." + method.getName());
+    }
+
+    private void audit(AuditedSpec spec, long start, Throwable failure) {
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        try {
+            boolean sampled = failure != null && spec.alwaysAuditFailures()
+                || spec.sampleRate() >= 1.0
+                || ThreadLocalRandom.current().nextDouble() < spec.sampleRate();
+            if (!sampled) {
+                sampledOut.incrementAndGet();
+                return;
+            }
+            AuditRateLimiter limiter = limiters.get(spec.action());
+            if (limiter != null && !limiter.tryAcquire()) {
+                rateLimited.incrementAndGet();
+                return;
+            }
+
+            AuditUserResolver resolver = userResolver.get();
+            Long userId = resolver != null ? resolver.resolveUserId() : null;
+            AuditLog auditLog = failure == null
+                ? AuditLog.success(spec.action(), userId)
+                : AuditLog.failure(spec.action(), userId, failure.getMessage());
+            auditLog.setModuleName(spec.module());
+
+            Map<String, Object> contextData = new LinkedHashMap<>(4);
+            contextData.put("method", spec.method());
+            contextData.put("durationMs", durationMillis);
+            if (failure != null) {
+                contextData.put("exception", failure.getClass().getName());
+            }
+            if (spec.sampleRate() < 1.0) {
+                contextData.put("sampleRate", spec.sampleRate());
+            }
+            auditLogService.get().logAsync(auditLog, contextData, WEB_PRESENT ? RequestHolder.currentRequest() : null);
+        } catch (Exception e) {
+            log.warn("Failed to audit {} ({}): {}", spec.method(), spec.action(), e.getMessage());
+        }
+    }
+
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("nexora.audit.aspect.skipped", sampledOut, AtomicLong::get)
+            .tag("reason", "sampled")
+            .description("Audited invocations not recorded")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.aspect.skipped", rateLimited, AtomicLong::get)
+            .tag("reason", "rate_limited")
+            .description("Audited invocations not recorded")
+            .register(registry);
+    }
+
+    /**
+     * Isolates spring-web types so the interceptor loads without them.
+     */
+    private static final class RequestHolder {
+
+        static HttpServletRequest currentRequest() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+        }
+    }
+
+    private record AuditedSpec(String action, String module, double sampleRate, boolean alwaysAuditFailures,
+                               String method) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.nexora.audit.async;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, bounded executor for asynchronous audit logging.
+ *
+ * <p>Runs audit tasks either on a small platform thread pool or on one virtual thread per
+ * task. In both modes the number of queued plus running tasks is capped at
+ * {@code max-pending}; tasks beyond the cap are rejected and counted instead of growing
+ * an unbounded queue or borrowing the common ForkJoinPool.
+ *
+ * <p>This deliberately does not implement {@link Executor}: exposing it as an executor bean
+ * would make Spring Boot back off its application task executor and route every
+ * {@code @Async} method in the application through the audit pool.
+ *
+ * <p>Metrics (bound automatically when Micrometer is configured):
+ * <ul>
+ *   <li>{@code nexora.audit.executor.pending} - tasks queued or running</li>
+ *   <li>{@code nexora.audit.executor.submitted} - tasks accepted</li>
+ *   <li>{@code nexora.audit.executor.rejected} - tasks rejected because the cap was reached</li>
+ * </ul>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditTaskExecutor implements MeterBinder, DisposableBean {
+
+    private final Executor delegate;
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final int maxPending;
+    private final Duration awaitTermination;
+    private final String mode;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AuditTaskExecutor(AuditProperties.AsyncExecutor config) {
+        this.maxPending = config.getMaxPending();
+        this.permits = new Semaphore(maxPending);
+        this.awaitTermination = config.getAwaitTermination();
+        if (config.isVirtualThreads()) {
+            this.executorService = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("audit-vt-", 0).factory());
+            this.mode = "virtual";
+        } else {
+            // Permits already bound the backlog; size the queue so the pool can still grow to max
+            int queueCapacity = Math.max(1, maxPending - config.getMaxPoolSize());
+            this.executorService = new ThreadPoolExecutor(
+                config.getCorePoolSize(), config.getMaxPoolSize(),
+                config.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new AuditThreadFactory());
+            this.mode = "platform";
+        }
+        this.delegate = executorService;
+    }
+
+    private AuditTaskExecutor(Executor delegate, String mode) {
+        this.maxPending = Integer.MAX_VALUE;
+        this.permits = new Semaphore(Integer.MAX_VALUE);
+        this.awaitTermination = Duration.ZERO;
+        this.executorService = null;
+        this.delegate = delegate;
+        this.mode = mode;
+    }
+
+    /**
+     * Create an executor that runs tasks on the calling thread.
+     * Used when {@code nexora.audit.async=false}.
+     */
+    public static AuditTaskExecutor sameThread() {
+        return new AuditTaskExecutor(Runnable::run, "same-thread");
+    }
+
+    /**
+     * Adapt an application-provided executor. Its bounds and lifecycle stay with the
+     * application; {@code max-pending} does not apply.
+     */
+    public static AuditTaskExecutor of(Executor executor) {
+        return new AuditTaskExecutor(executor, "custom");
+    }
+
+    /**
+     * Execute a task.
+     *
+     * @param task the task
+     * @throws RejectedExecutionException if {@code max-pending} tasks are already queued or running
+     */
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new RejectedExecutionException("Audit executor saturated (" + maxPending + " pending)");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Run a supplier on this executor.
+     *
+     * @return a future completed with the result, or failed if the task was rejected or threw
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, this::execute);
+        } catch (RejectedExecutionException e) {
+            log.warn("Audit task rejected: {}", e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Number of tasks queued or running.
+     */
+    public int getPendingCount() {
+        return executorService == null ? 0 : maxPending - permits.availablePermits();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Execution mode: {@code platform}, {@code virtual}, {@code same-thread} or {@code custom}.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("mode", mode);
+        Gauge.builder("nexora.audit.executor.pending", this, AuditTaskExecutor::getPendingCount)
+            .tags(tags)
+            .description("Audit tasks queued or running")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.executor.submitted", submitted, LongAdder::sum)
+            .tags(tags)
+            .description("Audit tasks accepted by the executor")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.executor.rejected", rejected, LongAdder::sum)
+            .tags(tags)
+            .description("Audit tasks rejected because the executor was saturated")
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        if (!executorService.awaitTermination(awaitTermination.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Audit executor did not terminate within {}, {} tasks pending",
+                awaitTermination, getPendingCount());
+            executorService.shutdownNow();
+        }
+    }
+
+    private static final class AuditThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "audit-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
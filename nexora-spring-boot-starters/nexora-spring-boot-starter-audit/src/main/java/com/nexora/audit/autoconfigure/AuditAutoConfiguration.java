@@ -1,18 +1,62 @@
 package com.nexora.audit.autoconfigure;
 
+import com.nexora.audit.annotation.Audited;
+import com.nexora.audit.aspect.AuditUserResolver;
+import com.nexora.audit.aspect.AuditedMethodInterceptor;
+import com.nexora.audit.async.AuditTaskExecutor;
+import com.nexora.audit.context.AuditContextSerializer;
+import com.nexora.audit.journal.AuditJournal;
+import com.nexora.audit.journal.AuditJournalShipper;
+import com.nexora.audit.journal.AuditShipTarget;
+import com.nexora.audit.journal.JournalAuditLogWriter;
+import com.nexora.audit.journal.KafkaAuditShipTarget;
+import com.nexora.audit.login.LocalLoginFailureTracker;
+import com.nexora.audit.login.LoginFailureTracker;
+import com.nexora.audit.login.RedisLoginFailureTracker;
+import com.nexora.audit.repository.AuditLogRepository;
+import com.nexora.audit.retention.AuditRetentionService;
+import com.nexora.audit.rollup.AuditAnalyticsService;
+import com.nexora.audit.rollup.AuditRollupRecorder;
+import com.nexora.audit.rollup.RollupRecordingAuditLogWriter;
+import com.nexora.audit.service.AuditLogService;
+import com.nexora.audit.service.ReactiveAuditLogService;
+import com.nexora.audit.writer.AuditLogWriter;
+import com.nexora.audit.writer.BufferedAuditWriter;
+import com.nexora.audit.writer.JdbcAuditLogWriter;
+import com.nexora.audit.writer.RepositoryAuditLogWriter;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
 // EntityScan not available in Spring Boot 4.x milestone - using @Configuration with @ComponentScan instead
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 /**
@@ -21,17 +65,25 @@ import java.util.concurrent.Executor;
  * <p>Automatically configures:
  * <ul>
  *   <li>{@link com.nexora.audit.service.AuditLogService}</li>
+ *   <li>{@link AuditLogWriter} - repository-backed, or buffered and batched when
+ *       {@code nexora.audit.buffer.enabled=true}</li>
+ *   <li>Local append-only audit journal with background shipping when
+ *       {@code nexora.audit.journal.enabled=true}</li>
  * <li>Entity scanning for audit-related entities</li>
  * <li>Repository scanning for audit repositories</li>
- *   <li>Async support for non-blocking audit logging</li>
- *   <li>Scheduled cleanup of old audit logs</li>
+ *   <li>{@link Audited} method auditing with sampling and per-action rate caps</li>
+ *   <li>Dedicated bounded {@link AuditTaskExecutor} for non-blocking audit logging</li>
+ *   <li>Per-minute and per-hour rollups with {@link AuditAnalyticsService} when
+ *       {@code nexora.audit.rollup.enabled=true}</li>
+ *   <li>Scheduled cleanup of old audit logs ({@link AuditRetentionService})</li>
  * </ul>
  *
  * @author sujie
  * @since 1.0.0
  */
 @Slf4j
-@AutoConfiguration
+// After the DataSource and JPA auto-configurations, so @ConditionalOnBean(DataSource.class) sees Boot's DataSource
+@AutoConfiguration(after = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
 @ConditionalOnClass(name = "org.springframework.data.jpa.repository.JpaRepository")
 @EnableConfigurationProperties(AuditProperties.class)
 @ConditionalOnProperty(prefix = "nexora.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
@@ -50,21 +102,287 @@ public class AuditAutoConfiguration {
     }
 
     /**
-     * Configure async executor for audit logging.
+     * Dedicated bounded executor for async audit logging.
+     * Runs tasks on the calling thread when {@code nexora.audit.async=false}.
      */
     @Bean
-    @ConditionalOnMissingBean(name = "auditTaskExecutor")
-    public Executor auditTaskExecutor() {
-        // Configure a dedicated thread pool for audit logging
-        org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor executor =
-            new org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("audit-async-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(30);
-        executor.initialize();
+    @ConditionalOnMissingBean(value = AuditTaskExecutor.class, name = "auditTaskExecutor")
+    public AuditTaskExecutor auditTaskExecutor() {
+        if (!properties.isAsync()) {
+            return AuditTaskExecutor.sameThread();
+        }
+        AuditTaskExecutor executor = new AuditTaskExecutor(properties.getExecutor());
+        log.info("Audit executor initialized in {} mode with max-pending: {}",
+            executor.getMode(), properties.getExecutor().getMaxPending());
         return executor;
     }
+
+    /**
+     * Adapts an application {@code Executor} bean named {@code auditTaskExecutor}, the way
+     * the audit executor used to be overridden.
+     */
+    @Bean
+    @ConditionalOnMissingBean(AuditTaskExecutor.class)
+    @ConditionalOnBean(name = "auditTaskExecutor")
+    public AuditTaskExecutor auditTaskExecutorAdapter(@Qualifier("auditTaskExecutor") Executor executor) {
+        log.info("Audit executor uses the application's auditTaskExecutor bean");
+        return AuditTaskExecutor.of(executor);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditLogWriter auditLogWriter(AuditLogRepository auditLogRepository) {
+        return new RepositoryAuditLogWriter(auditLogRepository);
+    }
+
+    /**
+     * Shared serializer that masks and serializes captured audit context.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditContextSerializer auditContextSerializer() {
+        return new AuditContextSerializer(properties.getSensitiveData());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditLogService auditLogService(AuditLogRepository auditLogRepository, AuditLogWriter auditLogWriter,
+                                           AuditTaskExecutor auditTaskExecutor,
+                                           ObjectProvider<LoginFailureTracker> loginFailureTracker,
+                                           ObjectProvider<AuditRollupRecorder> auditRollupRecorder,
+                                           AuditContextSerializer auditContextSerializer) {
+        AuditRollupRecorder recorder = auditRollupRecorder.getIfAvailable();
+        AuditLogWriter writer = recorder != null
+            ? new RollupRecordingAuditLogWriter(auditLogWriter, recorder)
+            : auditLogWriter;
+        return new AuditLogService(auditLogRepository, writer, auditTaskExecutor,
+            loginFailureTracker.getIfAvailable(), auditContextSerializer);
+    }
+
+    /**
+     * {@link Audited} annotation configuration.
+     * Advises annotated methods and classes with {@link AuditedMethodInterceptor}.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "nexora.audit.aspect", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public static class AuditedAspectConfiguration {
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @ConditionalOnMissingBean
+        public static AuditedMethodInterceptor auditedMethodInterceptor(
+                ObjectProvider<AuditLogService> auditLogService, ObjectProvider<AuditUserResolver> userResolver) {
+            return new AuditedMethodInterceptor(auditLogService::getObject, userResolver::getIfAvailable);
+        }
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @ConditionalOnMissingBean(name = "auditedAdvisor")
+        public static Advisor auditedAdvisor(AuditedMethodInterceptor auditedMethodInterceptor) {
+            ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Audited.class, true))
+                .union(new AnnotationMatchingPointcut(null, Audited.class, true));
+            return new DefaultPointcutAdvisor(pointcut, auditedMethodInterceptor);
+        }
+    }
+
+    /**
+     * Failed-login tracker configuration.
+     * Answers brute-force checks from sliding-window counters instead of {@code audit_logs}.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "nexora.audit.login-failures", name = "enabled", havingValue = "true")
+    public static class LoginFailureTrackerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(LoginFailureTracker.class)
+        @ConditionalOnProperty(prefix = "nexora.audit.login-failures", name = "store", havingValue = "local",
+            matchIfMissing = true)
+        public LocalLoginFailureTracker localLoginFailureTracker(AuditProperties properties) {
+            log.warn("Failed logins are counted per instance and from zero after every restart; "
+                + "use nexora.audit.login-failures.store=redis when several instances handle logins");
+            return new LocalLoginFailureTracker(properties.getLoginFailures());
+        }
+
+        @Configuration
+        @ConditionalOnClass(name = "org.redisson.api.RedissonClient")
+        @ConditionalOnProperty(prefix = "nexora.audit.login-failures", name = "store", havingValue = "redis")
+        public static class RedisTrackerConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(LoginFailureTracker.class)
+            public RedisLoginFailureTracker redisLoginFailureTracker(RedissonClient redissonClient,
+                                                                     AuditProperties properties) {
+                return new RedisLoginFailureTracker(redissonClient, properties.getLoginFailures());
+            }
+        }
+    }
+
+    /**
+     * Reactive (Flux) audit queries, available when Reactor is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "reactor.core.publisher.Flux")
+    public static class ReactiveQueryConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveAuditLogService reactiveAuditLogService(AuditLogService auditLogService) {
+            return new ReactiveAuditLogService(auditLogService);
+        }
+    }
+
+    /**
+     * Rollup configuration.
+     * Counts audit events per minute and hour for dashboards that should not scan {@code audit_logs}.
+     */
+    @Configuration
+    @ConditionalOnBean(DataSource.class)
+    @ConditionalOnProperty(prefix = "nexora.audit.rollup", name = "enabled", havingValue = "true")
+    public static class RollupConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditRollupRecorder auditRollupRecorder(DataSource dataSource,
+                                                       PlatformTransactionManager transactionManager,
+                                                       AuditProperties properties) {
+            return new AuditRollupRecorder(dataSource, transactionManager, properties.getRollup());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditAnalyticsService auditAnalyticsService(DataSource dataSource, AuditProperties properties) {
+            return new AuditAnalyticsService(dataSource, properties.getRollup());
+        }
+    }
+
+    /**
+     * Retention configuration.
+     * Purges audit logs older than {@code nexora.audit.retention-days} on the configured schedule.
+     */
+    @Configuration
+    @ConditionalOnBean(DataSource.class)
+    @ConditionalOnProperty(prefix = "nexora.audit.retention", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public static class RetentionConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditRetentionService auditRetentionService(DataSource dataSource,
+                                                           PlatformTransactionManager transactionManager,
+                                                           AuditProperties properties) {
+            return new AuditRetentionService(dataSource, transactionManager, properties.getRetentionDays(),
+                properties.getRetention());
+        }
+    }
+
+    /**
+     * Buffered audit writer configuration.
+     * Replaces the per-call repository save with ring-buffered JDBC batch inserts.
+     */
+    @Configuration
+    @ConditionalOnBean(DataSource.class)
+    @ConditionalOnProperty(prefix = "nexora.audit.buffer", name = "enabled", havingValue = "true")
+    public static class BufferedWriterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JdbcAuditLogWriter jdbcAuditLogWriter(DataSource dataSource,
+                                                     PlatformTransactionManager transactionManager,
+                                                     ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+            return new JdbcAuditLogWriter(dataSource, transactionManager, entityManagerFactory.getIfAvailable());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public BufferedAuditWriter bufferedAuditWriter(JdbcAuditLogWriter jdbcAuditLogWriter,
+                                                       AuditProperties properties,
+                                                       Environment environment) {
+            return new BufferedAuditWriter(jdbcAuditLogWriter, properties.getBuffer(),
+                environment.getProperty("spring.application.name", "application"));
+        }
+    }
+
+    /**
+     * Audit journal configuration.
+     * Appends selected actions to local segment files and ships them to the target in the background.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "nexora.audit.journal", name = "enabled", havingValue = "true")
+    public static class JournalConfiguration {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public AuditJournal auditJournal(AuditProperties properties) {
+            AuditProperties.Journal journal = properties.getJournal();
+            long segmentSize = journal.getSegmentSize().toBytes();
+            if (segmentSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("nexora.audit.journal.segment-size must not exceed 2GB");
+            }
+            return new AuditJournal(Path.of(journal.getDirectory()), (int) segmentSize,
+                journal.getFsyncPolicy(), journal.getFsyncInterval());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditJournalShipper auditJournalShipper(AuditJournal auditJournal, AuditShipTarget auditShipTarget,
+                                                       AuditProperties properties) {
+            AuditProperties.Journal journal = properties.getJournal();
+            return new AuditJournalShipper(auditJournal, auditShipTarget, Path.of(journal.getDirectory()),
+                journal.getShipBatchSize(), journal.getShipPollInterval(), journal.getShipRetryBackoff());
+        }
+
+        /**
+         * Journal writer; actions outside {@code nexora.audit.journal.actions} keep using the
+         * buffered writer when enabled, otherwise the repository.
+         */
+        @Bean
+        @Primary
+        @ConditionalOnMissingBean
+        public JournalAuditLogWriter journalAuditLogWriter(AuditJournal auditJournal,
+                                                           ObjectProvider<BufferedAuditWriter> bufferedAuditWriter,
+                                                           AuditLogRepository auditLogRepository,
+                                                           AuditProperties properties) {
+            AuditLogWriter delegate = bufferedAuditWriter.getIfAvailable();
+            if (delegate == null) {
+                delegate = new RepositoryAuditLogWriter(auditLogRepository);
+            }
+            return new JournalAuditLogWriter(auditJournal, delegate, properties.getJournal().getActions());
+        }
+
+        @Configuration
+        @ConditionalOnBean(DataSource.class)
+        @ConditionalOnProperty(prefix = "nexora.audit.journal", name = "target", havingValue = "database",
+            matchIfMissing = true)
+        public static class DatabaseShipTargetConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public JdbcAuditLogWriter jdbcAuditLogWriter(DataSource dataSource,
+                                                         PlatformTransactionManager transactionManager,
+                                                         ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+                return new JdbcAuditLogWriter(dataSource, transactionManager, entityManagerFactory.getIfAvailable());
+            }
+
+            @Bean
+            @ConditionalOnMissingBean
+            public AuditShipTarget auditShipTarget(JdbcAuditLogWriter jdbcAuditLogWriter) {
+                return jdbcAuditLogWriter::write;
+            }
+        }
+
+        @Configuration
+        @ConditionalOnClass(name = "org.springframework.kafka.core.KafkaTemplate")
+        @ConditionalOnProperty(prefix = "nexora.audit.journal", name = "target", havingValue = "kafka")
+        public static class KafkaShipTargetConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public AuditShipTarget auditShipTarget(KafkaTemplate<String, String> kafkaTemplate,
+                                                   AuditProperties properties) {
+                return new KafkaAuditShipTarget(kafkaTemplate, properties.getJournal().getKafkaTopic(),
+                    Duration.ofSeconds(30));
+            }
+        }
+    }
 }
@@ -2,8 +2,11 @@ package com.nexora.audit.autoconfigure;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Audit logging configuration properties.
@@ -17,6 +20,36 @@ import java.time.Duration;
  *   sensitive-data:
  *     mask-ip: false
  *     mask-user-agent: true
+ *   executor:
+ *     virtual-threads: false
+ *     core-pool-size: 2
+ *     max-pool-size: 10
+ *     max-pending: 1000
+ *   buffer:
+ *     enabled: true
+ *     capacity: 8192
+ *     batch-size: 500
+ *     flush-interval: 500ms
+ *     overflow-policy: spill
+ *   journal:
+ *     enabled: true
+ *     directory: /var/lib/myapp/audit-journal
+ *     actions: [LOGIN, TOKEN_REFRESH]
+ *     fsync-policy: interval
+ *     target: database
+ *   retention:
+ *     cron: "0 30 3 * * *"
+ *     mode: delete
+ *     chunk-size: 5000
+ *     archive-table: audit_logs_archive
+ *   login-failures:
+ *     enabled: true
+ *     store: redis
+ *     window: 15m
+ *     bucket: 1m
+ *   rollup:
+ *     enabled: true
+ *     flush-interval: 10s
  * </pre>
  *
  * @author sujie
@@ -36,7 +69,7 @@ public class AuditProperties {
     private boolean async = true;
 
     /**
-     * Number of days to retain audit logs before cleanup.
+     * Number of days to retain audit logs before cleanup. Zero or negative disables cleanup.
      */
     private int retentionDays = 90;
 
@@ -50,6 +83,41 @@ public class AuditProperties {
      */
     private SensitiveData sensitiveData = new SensitiveData();
 
+    /**
+     * Dedicated executor used by the {@code log*Async} methods.
+     */
+    private AsyncExecutor executor = new AsyncExecutor();
+
+    /**
+     * Buffered (batched) writer configuration.
+     */
+    private Buffer buffer = new Buffer();
+
+    /**
+     * Local append-only journal configuration.
+     */
+    private Journal journal = new Journal();
+
+    /**
+     * Retention (cleanup) job configuration.
+     */
+    private Retention retention = new Retention();
+
+    /**
+     * Failed-login tracker configuration.
+     */
+    private LoginFailures loginFailures = new LoginFailures();
+
+    /**
+     * Pre-computed rollup (analytics) configuration.
+     */
+    private Rollup rollup = new Rollup();
+
+    /**
+     * {@code @Audited} annotation support.
+     */
+    private Aspect aspect = new Aspect();
+
     @Data
     public static class SensitiveData {
         /**
@@ -66,5 +134,356 @@ public class AuditProperties {
          * Whether to mask session IDs.
          */
         private boolean maskSessionId = true;
+
+        /**
+         * Context data keys whose values are masked (case-insensitive substring match, any depth).
+         */
+        private Set<String> maskedKeys = new HashSet<>(
+            Set.of("password", "secret", "token", "authorization", "credential"));
+    }
+
+    @Data
+    public static class AsyncExecutor {
+        /**
+         * Run each audit task on its own virtual thread instead of a platform thread pool.
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * Core pool size (platform thread mode only).
+         */
+        private int corePoolSize = 2;
+
+        /**
+         * Maximum pool size (platform thread mode only).
+         */
+        private int maxPoolSize = 10;
+
+        /**
+         * Maximum number of audit tasks queued or running; further tasks are rejected.
+         */
+        private int maxPending = 1000;
+
+        /**
+         * Idle time before surplus platform threads are released.
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /**
+         * Maximum time to wait for pending audit tasks on shutdown.
+         */
+        private Duration awaitTermination = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Buffer {
+        /**
+         * Enable buffered writes. When enabled, log calls are enqueued into a ring buffer
+         * and flushed to the database with JDBC batch inserts instead of one INSERT per call.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Ring buffer capacity (rounded up to the next power of two).
+         */
+        private int capacity = 8192;
+
+        /**
+         * Maximum number of records written per JDBC batch.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Maximum time a record waits in the buffer before it is flushed.
+         */
+        private Duration flushInterval = Duration.ofMillis(500);
+
+        /**
+         * What to do with a record when the buffer is full.
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+        /**
+         * Maximum time a caller waits for free space with the BLOCK policy before the record is dropped.
+         */
+        private Duration blockTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Directory for spill files used by the SPILL policy and by failed flushes. Each
+         * instance claims its own {@code instance-N} sub-directory. Defaults to
+         * {@code ${java.io.tmpdir}/nexora-audit/${spring.application.name}}.
+         */
+        private String spillDirectory;
+
+        /**
+         * Maximum time to wait for the buffer to drain on shutdown.
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Journal {
+        /**
+         * Enable the local audit journal. Matching logs are appended to memory-mapped segment
+         * files and shipped to the target in the background.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory holding journal segments and the shipper checkpoint.
+         */
+        private String directory = "data/audit-journal";
+
+        /**
+         * Actions routed to the journal. Empty means all actions.
+         */
+        private Set<String> actions = new HashSet<>();
+
+        /**
+         * Size of each segment file.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * When appended records are forced to disk.
+         */
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+        /**
+         * Force interval for the INTERVAL fsync policy.
+         */
+        private Duration fsyncInterval = Duration.ofSeconds(1);
+
+        /**
+         * Where the shipper sends journaled logs.
+         */
+        private ShipTarget target = ShipTarget.DATABASE;
+
+        /**
+         * Kafka topic used by the KAFKA ship target.
+         */
+        private String kafkaTopic = "nexora.audit-logs";
+
+        /**
+         * Maximum number of records shipped per batch.
+         */
+        private int shipBatchSize = 500;
+
+        /**
+         * How often the shipper polls the journal when it has caught up.
+         */
+        private Duration shipPollInterval = Duration.ofMillis(200);
+
+        /**
+         * Wait before retrying a failed shipment.
+         */
+        private Duration shipRetryBackoff = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Retention {
+        /**
+         * Enable the scheduled retention job.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Cron expression for the retention job.
+         */
+        private String cron = "0 30 3 * * *";
+
+        /**
+         * How expired audit logs are removed.
+         */
+        private RetentionMode mode = RetentionMode.DELETE;
+
+        /**
+         * Maximum number of rows deleted per transaction (DELETE mode).
+         */
+        private int chunkSize = 5000;
+
+        /**
+         * Pause between chunks to limit load on the database (DELETE mode).
+         */
+        private Duration chunkPause = Duration.ofMillis(100);
+
+        /**
+         * Maximum duration of one run; remaining rows are picked up by the next run.
+         */
+        private Duration maxRunTime = Duration.ofMinutes(30);
+
+        /**
+         * Table that expired rows are copied into before deletion (DELETE mode).
+         * Must have the same columns as {@code audit_logs}. Unset means no archiving.
+         */
+        private String archiveTable;
+
+        /**
+         * Partition granularity (PARTITION mode).
+         */
+        private PartitionPeriod partitionPeriod = PartitionPeriod.MONTHLY;
+
+        /**
+         * Number of future partitions created ahead of time (PARTITION mode).
+         */
+        private int partitionsAhead = 2;
+    }
+
+    @Data
+    public static class LoginFailures {
+        /**
+         * Track failed logins in a sliding-window counter instead of counting {@code audit_logs} rows.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Where the counters are kept. LOCAL counters are per instance and start from zero on
+         * every restart, so lockout thresholds see only part of the attempts; use REDIS
+         * whenever more than one instance handles logins.
+         */
+        private TrackerStore store = TrackerStore.LOCAL;
+
+        /**
+         * Failure actions that are counted. Empty counts every failure of the user, like the
+         * {@code audit_logs} query does.
+         */
+        private Set<String> actions = new HashSet<>();
+
+        /**
+         * Longest period that can be queried from the tracker; older queries fall back to the database.
+         */
+        private Duration window = Duration.ofMinutes(15);
+
+        /**
+         * Counter granularity. Counts are exact to within one bucket.
+         */
+        private Duration bucket = Duration.ofMinutes(1);
+
+        /**
+         * Maximum number of users tracked in memory (LOCAL store).
+         */
+        private int maxTrackedUsers = 100_000;
+
+        /**
+         * Redis key prefix (REDIS store).
+         */
+        private String keyPrefix = "nexora:audit:login-failures:";
+    }
+
+    @Data
+    public static class Aspect {
+        /**
+         * Audit methods annotated with {@link com.nexora.audit.annotation.Audited}.
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Rollup {
+        /**
+         * Maintain per-minute and per-hour counts in {@code audit_rollups}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How often pending counts are merged into the table.
+         */
+        private Duration flushInterval = Duration.ofSeconds(10);
+
+        /**
+         * How long per-minute rollups are kept.
+         */
+        private Duration minuteRetention = Duration.ofDays(2);
+
+        /**
+         * How long per-hour rollups are kept.
+         */
+        private Duration hourRetention = Duration.ofDays(90);
+    }
+
+    /**
+     * Where failed-login counters are kept.
+     */
+    public enum TrackerStore {
+        /**
+         * In-process counters, per application instance.
+         */
+        LOCAL,
+        /**
+         * Shared counters in Redis, updated with a Lua script.
+         */
+        REDIS
+    }
+
+    /**
+     * How the retention job removes expired audit logs.
+     */
+    public enum RetentionMode {
+        /**
+         * Delete expired rows in bounded chunks.
+         */
+        DELETE,
+        /**
+         * Drop expired partitions of a range-partitioned {@code audit_logs} table (PostgreSQL).
+         */
+        PARTITION
+    }
+
+    /**
+     * Time range covered by one {@code audit_logs} partition.
+     */
+    public enum PartitionPeriod {
+        DAILY,
+        MONTHLY
+    }
+
+    /**
+     * When the audit journal forces appended records to disk.
+     */
+    public enum FsyncPolicy {
+        /**
+         * Force after every append. Durable against power loss, slowest.
+         */
+        ALWAYS,
+        /**
+         * Force periodically. Survives process crashes; loses at most one interval on power loss.
+         */
+        INTERVAL,
+        /**
+         * Leave flushing to the operating system.
+         */
+        NEVER
+    }
+
+    /**
+     * Destination of the audit journal shipper.
+     */
+    public enum ShipTarget {
+        /**
+         * Batch-insert into {@code audit_logs}.
+         */
+        DATABASE,
+        /**
+         * Publish JSON records to a Kafka topic.
+         */
+        KAFKA
+    }
+
+    /**
+     * Behaviour of the buffered writer when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait for free space (up to {@code block-timeout}), then drop.
+         */
+        BLOCK,
+        /**
+         * Drop the record immediately.
+         */
+        DROP,
+        /**
+         * Append the record to a local spill file; it is replayed once the buffer drains.
+         */
+        SPILL
     }
 }
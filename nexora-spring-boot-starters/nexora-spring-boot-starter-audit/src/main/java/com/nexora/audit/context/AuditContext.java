@@ -0,0 +1,80 @@
+package com.nexora.audit.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Raw snapshot of the request attributes recorded with an audit log.
+ *
+ * <p>Capturing only copies header references, so it is cheap enough for the request thread;
+ * the request object itself may be recycled once the request completes and must not be
+ * read later. Resolving the client IP, masking and serialization are left to
+ * {@link AuditContextSerializer}, which can run on the audit executor.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public record AuditContext(
+    String forwardedFor,
+    String realIp,
+    String remoteAddr,
+    String userAgent,
+    String requestUri,
+    String httpMethod,
+    String sessionId,
+    String correlationId,
+    String clientId
+) {
+
+    private static final AuditContext EMPTY = new AuditContext(null, null, null, null, null, null, null, null, null);
+
+    /**
+     * Capture the audit-relevant parts of a request.
+     *
+     * @param request the HTTP request, may be {@code null}
+     * @return the snapshot; empty when {@code request} is {@code null}
+     */
+    public static AuditContext capture(HttpServletRequest request) {
+        if (request == null) {
+            return EMPTY;
+        }
+        HttpSession session = request.getSession(false);
+        return new AuditContext(
+            request.getHeader("X-Forwarded-For"),
+            request.getHeader("X-Real-IP"),
+            request.getRemoteAddr(),
+            request.getHeader("User-Agent"),
+            request.getRequestURI(),
+            request.getMethod(),
+            session != null ? session.getId() : null,
+            request.getHeader("X-Correlation-ID"),
+            request.getHeader("X-Client-ID"));
+    }
+
+    /**
+     * Whether nothing was captured.
+     */
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * Client IP address: first {@code X-Forwarded-For} hop, then {@code X-Real-IP}, then the remote address.
+     */
+    public String clientIp() {
+        String ip = forwardedFor;
+        if (isUnknown(ip)) {
+            ip = realIp;
+        }
+        if (isUnknown(ip)) {
+            ip = remoteAddr;
+        }
+        // Handle multiple IPs in X-Forwarded-For (take the first one)
+        int comma = ip != null ? ip.indexOf(',') : -1;
+        return comma >= 0 ? ip.substring(0, comma).trim() : ip;
+    }
+
+    private static boolean isUnknown(String ip) {
+        return ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip);
+    }
+}
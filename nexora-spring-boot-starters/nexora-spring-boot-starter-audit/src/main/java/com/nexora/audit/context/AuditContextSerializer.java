@@ -0,0 +1,185 @@
+package com.nexora.audit.context;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.domain.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Shared, thread-safe serializer and masker for audit context.
+ *
+ * <p>Holds the one preconfigured {@link ObjectMapper} of the audit module, also used by
+ * {@link com.nexora.audit.writer.AuditLogJson}, instead of creating one per log, and
+ * applies {@link AuditProperties.SensitiveData} masking while copying a captured
+ * {@link AuditContext} onto an {@link AuditLog}. Context data is streamed straight to
+ * bytes with sensitive keys masked in the same pass, without building a masked copy first.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditContextSerializer {
+
+    static final String MASK = "******";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final AuditProperties.SensitiveData config;
+    private final Set<String> maskedKeys;
+
+    public AuditContextSerializer(AuditProperties.SensitiveData config) {
+        this.config = config;
+        this.maskedKeys = config.getMaskedKeys().stream()
+            .map(key -> key.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * The shared mapper; thread-safe, must not be reconfigured.
+     */
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Copy a captured request context onto an audit log, masking as configured.
+     */
+    public void apply(AuditLog auditLog, AuditContext context) {
+        if (context.isEmpty()) {
+            return;
+        }
+        String ip = context.clientIp();
+        auditLog.setIpAddress(config.isMaskIp() ? maskIp(ip) : ip);
+        auditLog.setUserAgent(config.isMaskUserAgent() ? maskUserAgent(context.userAgent()) : context.userAgent());
+        auditLog.setRequestUri(context.requestUri());
+        auditLog.setHttpMethod(context.httpMethod());
+        auditLog.setSessionId(config.isMaskSessionId() ? maskSessionId(context.sessionId()) : context.sessionId());
+        auditLog.setCorrelationId(context.correlationId());
+        auditLog.setClientId(context.clientId());
+    }
+
+    /**
+     * Serialize context data to UTF-8 JSON, masking values of sensitive keys at any depth.
+     *
+     * @return the JSON bytes, or {@code null} if the data is empty or cannot be serialized
+     */
+    public byte[] toBytes(Map<String, ?> contextData) {
+        if (contextData == null || contextData.isEmpty()) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)) {
+            writeValue(generator, contextData);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to serialize context data", e);
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Serialize context data to a JSON string, written directly as characters rather than
+     * decoded from {@link #toBytes(Map)}; see there for masking and {@code null} results.
+     */
+    public String toJson(Map<String, ?> contextData) {
+        if (contextData == null || contextData.isEmpty()) {
+            return null;
+        }
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)) {
+            writeValue(generator, contextData);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to serialize context data", e);
+            return null;
+        }
+        return out.toString();
+    }
+
+    private void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                generator.writeFieldName(key);
+                if (entry.getValue() != null && isMaskedKey(key)) {
+                    generator.writeString(MASK);
+                } else {
+                    writeValue(generator, entry.getValue());
+                }
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Collection<?> collection) {
+            generator.writeStartArray();
+            for (Object element : collection) {
+                writeValue(generator, element);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private boolean isMaskedKey(String key) {
+        if (maskedKeys.isEmpty()) {
+            return false;
+        }
+        String lower = key.toLowerCase(Locale.ROOT);
+        for (String masked : maskedKeys) {
+            if (lower.contains(masked)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Zero the host part: last octet of IPv4, last 80 bits of IPv6.
+     */
+    static String maskIp(String ip) {
+        if (ip == null) {
+            return null;
+        }
+        int colon = ip.indexOf(':');
+        if (colon >= 0) {
+            String[] groups = ip.split(":", -1);
+            return groups.length > 3 ? groups[0] + ":" + groups[1] + ":" + groups[2] + "::" : ip;
+        }
+        int dot = ip.lastIndexOf('.');
+        return dot >= 0 ? ip.substring(0, dot) + ".0" : ip;
+    }
+
+    /**
+     * Keep only the leading product token, e.g. {@code Mozilla/5.0}.
+     */
+    static String maskUserAgent(String userAgent) {
+        if (userAgent == null) {
+            return null;
+        }
+        int space = userAgent.indexOf(' ');
+        return space > 0 ? userAgent.substring(0, space) : userAgent;
+    }
+
+    /**
+     * Keep the first four characters so related logs can still be grouped.
+     */
+    static String maskSessionId(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        return sessionId.length() > 4 ? sessionId.substring(0, 4) + MASK : MASK;
+    }
+}
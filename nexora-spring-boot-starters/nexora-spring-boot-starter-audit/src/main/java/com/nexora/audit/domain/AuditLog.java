@@ -36,9 +36,10 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
-    @Index(name = "idx_audit_logs_user", columnList = "user_id"),
-    @Index(name = "idx_audit_logs_action", columnList = "action"),
-    @Index(name = "idx_audit_logs_created", columnList = "created_at")
+    @Index(name = "idx_audit_logs_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_audit_logs_action_created", columnList = "action, created_at, id"),
+    @Index(name = "idx_audit_logs_correlation_created", columnList = "correlation_id, created_at, id"),
+    @Index(name = "idx_audit_logs_created", columnList = "created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,58 @@
+package com.nexora.audit.domain;
+
+import com.nexora.audit.rollup.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Pre-aggregated audit event count for one time bucket and dimension combination.
+ *
+ * <p>Maintained by {@link com.nexora.audit.rollup.AuditRollupRecorder} with JDBC; mapped
+ * here so that the table is part of the schema alongside {@code audit_logs}. Unset
+ * dimensions are stored as {@code ''} (module) and {@code 0} (user) so the unique key
+ * stays usable for upserts.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "audit_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_audit_rollups_key",
+        columnNames = {"granularity", "bucket_start", "action", "module_name", "success", "user_id"})
+}, indexes = {
+    @Index(name = "idx_audit_rollups_bucket", columnList = "granularity, bucket_start")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuditRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(nullable = false, length = 64)
+    private String action;
+
+    @Column(name = "module_name", nullable = false, length = 100)
+    private String moduleName;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
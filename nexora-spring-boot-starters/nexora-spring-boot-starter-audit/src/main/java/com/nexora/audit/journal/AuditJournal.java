@@ -0,0 +1,442 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.autoconfigure.AuditProperties.FsyncPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of memory-mapped, CRC-checked segment files.
+ *
+ * <p>Each record is framed as {@code [int length][int crc32c][payload]}. The length is
+ * written last and acts as the commit marker; a zero length marks the end of the data in
+ * a segment. Positions are logical: a segment file is named after the position of its
+ * first byte, and a new segment starts at the previous segment's base plus the segment
+ * size. Records never span segments.
+ *
+ * <p>On startup each segment is scanned and truncated at the first torn or corrupt
+ * frame. Appends are serialized by a lock; readers see only records published through
+ * a volatile write position, so they never observe a partial frame.
+ *
+ * <p>A released segment is not unmapped, since Java 21 cannot unmap a
+ * {@link MappedByteBuffer} before it is collected. Instead it is zeroed and kept as a
+ * single spare ({@code .spare}) that the next roll renames and reuses, mapping and all.
+ * Further segments released at the same time are truncated before they are deleted, so
+ * their disk blocks are freed at once rather than when the mapping is collected.
+ * {@link #read} and {@link #release} must be called from one consumer thread.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditJournal implements Closeable {
+
+    static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String SPARE_SUFFIX = ".spare";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Object appendLock = new Object();
+    private final ScheduledExecutorService fsyncScheduler;
+    private final AtomicLong corruptRecords = new AtomicLong();
+    private final AtomicReference<Segment> spare = new AtomicReference<>();
+
+    private volatile Segment active;
+
+    public AuditJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must be larger than " + HEADER_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open audit journal in " + directory, e);
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            this.fsyncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "audit-journal-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = fsyncInterval.toMillis();
+            fsyncScheduler.scheduleWithFixedDelay(this::force, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.fsyncScheduler = null;
+        }
+    }
+
+    private void recover() throws IOException {
+        // A spare left by a crash may not have been zeroed completely
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SPARE_SUFFIX)) {
+            for (Path file : stream) {
+                Files.delete(file);
+            }
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            Segment segment = Segment.open(file, base, segmentSize);
+            segment.recover();
+            segments.put(base, segment);
+        }
+        if (segments.isEmpty()) {
+            active = createSegment(0);
+        } else {
+            active = segments.lastEntry().getValue();
+            segments.headMap(active.base).values().forEach(Segment::seal);
+            log.info("Recovered audit journal with {} segments, end position {}", segments.size(), endPosition());
+        }
+    }
+
+    private Segment createSegment(long base) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+        Segment segment = null;
+        Segment recycled = spare.getAndSet(null);
+        if (recycled != null) {
+            try {
+                segment = recycled.reuse(file, base);
+            } catch (IOException e) {
+                log.warn("Failed to reuse spare audit journal segment: {}", e.getMessage());
+                recycled.delete();
+            }
+        }
+        if (segment == null) {
+            segment = Segment.open(file, base, segmentSize);
+        }
+        segments.put(base, segment);
+        return segment;
+    }
+
+    /**
+     * Append a record.
+     *
+     * @param payload non-empty record payload
+     * @return logical position of the record
+     */
+    public long append(byte[] payload) {
+        if (payload.length == 0 || payload.length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Payload size must be between 1 and " + (segmentSize - HEADER_SIZE));
+        }
+        int checksum = checksum(payload);
+
+        synchronized (appendLock) {
+            Segment segment = active;
+            if (segment.remaining() < HEADER_SIZE + payload.length) {
+                segment = roll(segment);
+            }
+            int offset = segment.append(payload, checksum);
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                segment.force(offset, HEADER_SIZE + payload.length);
+            }
+            return segment.base + offset;
+        }
+    }
+
+    private Segment roll(Segment current) {
+        current.seal();
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            current.force();
+        }
+        try {
+            Segment next = createSegment(current.base + segmentSize);
+            active = next;
+            log.debug("Rolled audit journal to segment {}", next.base);
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll audit journal segment", e);
+        }
+    }
+
+    /**
+     * Read committed records starting at a position.
+     *
+     * <p>Reading moves on to the next segment when the end of a sealed segment is reached.
+     * A position older than the oldest retained segment starts at that segment.
+     *
+     * @param position   logical start position
+     * @param maxRecords maximum number of records to return
+     * @return records in order; empty when the reader has caught up
+     */
+    public List<JournalRecord> read(long position, int maxRecords) {
+        List<JournalRecord> records = new ArrayList<>();
+        Map.Entry<Long, Segment> entry = segments.floorEntry(position);
+        if (entry == null) {
+            entry = segments.firstEntry();
+            if (entry == null) {
+                return records;
+            }
+            position = entry.getKey();
+        }
+        Segment segment = entry.getValue();
+        int offset = (int) Math.min(position - segment.base, segmentSize);
+
+        while (records.size() < maxRecords) {
+            int limit = segment.writePosition;
+            int length = offset + HEADER_SIZE <= limit ? segment.buffer.getInt(offset) : 0;
+            if (length > 0 && offset + HEADER_SIZE + length <= limit) {
+                byte[] payload = new byte[length];
+                segment.buffer.get(offset + HEADER_SIZE, payload);
+                int next = offset + HEADER_SIZE + length;
+                if (checksum(payload) == segment.buffer.getInt(offset + 4)) {
+                    records.add(new JournalRecord(segment.base + offset, payload, segment.base + next));
+                } else {
+                    corruptRecords.incrementAndGet();
+                    log.error("Skipping corrupt audit journal record at position {}", segment.base + offset);
+                }
+                offset = next;
+                continue;
+            }
+            if (!segment.sealed) {
+                break;
+            }
+            Map.Entry<Long, Segment> nextEntry = segments.higherEntry(segment.base);
+            if (nextEntry == null) {
+                break;
+            }
+            segment = nextEntry.getValue();
+            offset = 0;
+        }
+        return records;
+    }
+
+    /**
+     * Release sealed segments whose records all lie before the given position.
+     * The first becomes the spare for the next roll; any others are deleted.
+     *
+     * @param position logical position up to which records have been consumed
+     */
+    public void release(long position) {
+        for (Segment segment : segments.values()) {
+            Long nextBase = segments.higherKey(segment.base);
+            if (!segment.sealed || nextBase == null || nextBase > position) {
+                break;
+            }
+            segments.remove(segment.base);
+            if (spare.get() == null) {
+                retire(segment);
+            } else {
+                segment.delete();
+            }
+            log.debug("Released audit journal segment {}", segment.base);
+        }
+    }
+
+    private void retire(Segment segment) {
+        try {
+            spare.set(segment.retire(directory.resolve(segment.base + SPARE_SUFFIX), fsyncPolicy != FsyncPolicy.NEVER));
+        } catch (IOException e) {
+            log.warn("Failed to keep audit journal segment {} as spare: {}", segment.base, e.getMessage());
+            segment.delete();
+        }
+    }
+
+    /**
+     * Logical position just after the last committed record.
+     */
+    public long endPosition() {
+        Segment segment = active;
+        return segment.base + segment.writePosition;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getCorruptRecordCount() {
+        return corruptRecords.get();
+    }
+
+    /**
+     * Force the active segment to disk.
+     */
+    public void force() {
+        try {
+            active.force();
+        } catch (Exception e) {
+            log.warn("Failed to force audit journal: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdownNow();
+        }
+        synchronized (appendLock) {
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                active.force();
+            }
+            segments.values().forEach(Segment::close);
+            Segment spareSegment = spare.getAndSet(null);
+            if (spareSegment != null) {
+                spareSegment.close();
+            }
+        }
+    }
+
+    static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A single memory-mapped segment file.
+     */
+    private static final class Segment {
+
+        private static final byte[] ZEROS = new byte[64 * 1024];
+
+        private final Path file;
+        private final long base;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private volatile int writePosition;
+        private volatile boolean sealed;
+
+        private Segment(Path file, long base, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.base = base;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, long base, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(file, base, channel, buffer);
+        }
+
+        /**
+         * Zero the segment and move it to {@code spareFile}, keeping the mapping.
+         *
+         * @param force whether to force the zeroed pages to disk first
+         */
+        Segment retire(Path spareFile, boolean force) throws IOException {
+            int capacity = buffer.capacity();
+            for (int offset = 0; offset < capacity; offset += ZEROS.length) {
+                buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, capacity - offset));
+            }
+            if (force) {
+                buffer.force();
+            }
+            Files.move(file, spareFile, StandardCopyOption.ATOMIC_MOVE);
+            return new Segment(spareFile, -1, channel, buffer);
+        }
+
+        /**
+         * Turn a spare back into a live segment starting at {@code base}.
+         */
+        Segment reuse(Path segmentFile, long base) throws IOException {
+            Files.move(file, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+            return new Segment(segmentFile, base, channel, buffer);
+        }
+
+        /**
+         * Find the end of valid data and clear a torn frame header if there is one.
+         */
+        void recover() {
+            int capacity = buffer.capacity();
+            int offset = 0;
+            while (offset + HEADER_SIZE <= capacity) {
+                int length = buffer.getInt(offset);
+                if (length <= 0) {
+                    break;
+                }
+                if (offset + HEADER_SIZE + length > capacity) {
+                    buffer.putLong(offset, 0L);
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(offset + HEADER_SIZE, payload);
+                if (checksum(payload) != buffer.getInt(offset + 4)) {
+                    log.warn("Truncating torn audit journal record in {} at offset {}", file.getFileName(), offset);
+                    buffer.putLong(offset, 0L);
+                    break;
+                }
+                offset += HEADER_SIZE + length;
+            }
+            writePosition = offset;
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        int append(byte[] payload, int checksum) {
+            int offset = writePosition;
+            buffer.putInt(offset + 4, checksum);
+            buffer.put(offset + HEADER_SIZE, payload);
+            buffer.putInt(offset, payload.length);
+            writePosition = offset + HEADER_SIZE + payload.length;
+            return offset;
+        }
+
+        void seal() {
+            sealed = true;
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void force(int offset, int length) {
+            buffer.force(offset, length);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close audit journal segment {}", file, e);
+            }
+        }
+
+        void delete() {
+            try {
+                // The mapping lives until the buffer is collected; truncating frees the blocks now
+                channel.truncate(0);
+            } catch (IOException e) {
+                log.debug("Failed to truncate audit journal segment {}", file, e);
+            }
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete audit journal segment {}: {}", file, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.writer.AuditLogJson;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background shipper that tails the {@link AuditJournal} into an {@link AuditShipTarget}.
+ *
+ * <p>Reads batches from the last checkpoint, delivers them, then advances the checkpoint
+ * and releases fully shipped segments. A failed delivery is retried after a back-off, so
+ * the journal absorbs target outages. Journal and checkpoint I/O errors are counted and
+ * retried the same way, so they never stop the shipper thread. Delivery is at-least-once: a crash between delivery
+ * and checkpoint re-ships that batch.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditJournalShipper implements SmartLifecycle, MeterBinder {
+
+    private final AuditJournal journal;
+    private final AuditShipTarget target;
+    private final JournalCheckpoint checkpoint;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final long retryBackoffNanos;
+
+    private final AtomicLong shipped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile long position;
+    private volatile boolean running;
+    private volatile Thread shipper;
+
+    public AuditJournalShipper(AuditJournal journal, AuditShipTarget target, Path directory,
+                               int batchSize, Duration pollInterval, Duration retryBackoff) {
+        this.journal = journal;
+        this.target = target;
+        this.checkpoint = new JournalCheckpoint(directory);
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.position = checkpoint.load();
+    }
+
+    private void runShipper() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            int result;
+            try {
+                result = shipBatch();
+            } catch (RuntimeException e) {
+                // Reading the journal or saving the checkpoint failed; keep the thread alive and retry
+                failures.incrementAndGet();
+                log.error("Audit journal shipper failed at position {}, will retry", position, e);
+                result = -1;
+            }
+            if (result == 0) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            } else if (result < 0) {
+                LockSupport.parkNanos(this, retryBackoffNanos);
+            }
+        }
+    }
+
+    /**
+     * Ship one batch from the current position.
+     *
+     * @return number of records shipped, 0 when caught up, or -1 if delivery failed
+     */
+    int shipBatch() {
+        List<JournalRecord> records = journal.read(position, batchSize);
+        if (records.isEmpty()) {
+            return 0;
+        }
+        List<AuditLog> auditLogs = new ArrayList<>(records.size());
+        for (JournalRecord record : records) {
+            try {
+                auditLogs.add(AuditLogJson.fromBytes(record.payload()));
+            } catch (RuntimeException e) {
+                log.error("Skipping undecodable audit journal record at position {}", record.position(), e);
+            }
+        }
+        try {
+            if (!auditLogs.isEmpty()) {
+                target.ship(auditLogs);
+            }
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.warn("Failed to ship {} audit logs from position {}, will retry: {}",
+                auditLogs.size(), position, e.getMessage());
+            return -1;
+        }
+        long next = records.get(records.size() - 1).nextPosition();
+        checkpoint.save(next);
+        position = next;
+        shipped.addAndGet(auditLogs.size());
+        journal.release(next);
+        return records.size();
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runShipper, "audit-journal-shipper");
+        thread.setDaemon(true);
+        shipper = thread;
+        thread.start();
+        log.info("Audit journal shipper started at position {}", position);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = shipper;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(Duration.ofNanos(retryBackoffNanos).toMillis() + 5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        shipper = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the buffered writer and web server; unshipped records stay in the journal.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Bytes appended to the journal but not yet shipped.
+     */
+    public long getLag() {
+        return Math.max(0, journal.endPosition() - position);
+    }
+
+    public long getShippedCount() {
+        return shipped.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("nexora.audit.journal.lag", this, AuditJournalShipper::getLag)
+            .baseUnit("bytes")
+            .description("Journal bytes not yet shipped")
+            .register(registry);
+        Gauge.builder("nexora.audit.journal.segments", journal, AuditJournal::getSegmentCount)
+            .description("Retained journal segment files")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.journal.shipped", shipped, AtomicLong::get)
+            .description("Audit logs shipped from the journal")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.journal.ship.failures", failures, AtomicLong::get)
+            .description("Failed journal shipments")
+            .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.domain.AuditLog;
+
+import java.util.List;
+
+/**
+ * Destination the {@link AuditJournalShipper} delivers journaled audit logs to.
+ *
+ * <p>Implementations must only return once the batch is durably accepted; the shipper
+ * checkpoints past the batch as soon as this method returns. Throw to have the batch retried.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AuditShipTarget {
+
+    /**
+     * Deliver a batch of audit logs.
+     *
+     * @param auditLogs the batch, in journal order
+     * @throws Exception if the batch was not delivered
+     */
+    void ship(List<AuditLog> auditLogs) throws Exception;
+}
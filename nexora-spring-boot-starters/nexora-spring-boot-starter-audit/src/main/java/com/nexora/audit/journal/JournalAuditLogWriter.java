@@ -0,0 +1,57 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.writer.AuditLogJson;
+import com.nexora.audit.writer.AuditLogWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * {@link AuditLogWriter} that appends selected actions to the local {@link AuditJournal}.
+ *
+ * <p>Logs for other actions, and logs that cannot be journaled (for example because the
+ * disk is full), go to the delegate writer.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class JournalAuditLogWriter implements AuditLogWriter {
+
+    private final AuditJournal journal;
+    private final AuditLogWriter delegate;
+    private final Set<String> actions;
+
+    /**
+     * @param journal  the journal
+     * @param delegate writer for logs not routed to the journal
+     * @param actions  actions routed to the journal; empty means all
+     */
+    public JournalAuditLogWriter(AuditJournal journal, AuditLogWriter delegate, Set<String> actions) {
+        this.journal = journal;
+        this.delegate = delegate;
+        this.actions = Set.copyOf(actions);
+    }
+
+    @Override
+    public AuditLog write(AuditLog auditLog) {
+        if (!actions.isEmpty() && !actions.contains(auditLog.getAction())) {
+            return delegate.write(auditLog);
+        }
+        if (auditLog.getCreatedAt() == null) {
+            Instant now = Instant.now();
+            auditLog.setCreatedAt(now);
+            auditLog.setUpdatedAt(now);
+        }
+        try {
+            journal.append(AuditLogJson.toBytes(auditLog));
+            return auditLog;
+        } catch (RuntimeException e) {
+            log.warn("Failed to journal audit log (action={}), writing directly: {}",
+                auditLog.getAction(), e.getMessage());
+            return delegate.write(auditLog);
+        }
+    }
+}
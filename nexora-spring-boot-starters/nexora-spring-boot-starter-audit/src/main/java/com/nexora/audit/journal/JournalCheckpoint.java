@@ -0,0 +1,89 @@
+package com.nexora.audit.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable shipper offset for the {@link AuditJournal}.
+ *
+ * <p>Stored as {@code [long position][int crc32c]} and replaced atomically through a
+ * temporary file, so a crash leaves either the old or the new checkpoint.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+class JournalCheckpoint {
+
+    private static final int SIZE = 12;
+
+    private final Path file;
+    private final Path tempFile;
+
+    JournalCheckpoint(Path directory) {
+        this.file = directory.resolve("checkpoint");
+        this.tempFile = directory.resolve("checkpoint.tmp");
+    }
+
+    /**
+     * Load the checkpoint.
+     *
+     * @return the stored position, or 0 if missing or corrupt
+     */
+    long load() {
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() != SIZE) {
+                log.warn("Ignoring audit journal checkpoint with unexpected size {}", buffer.remaining());
+                return 0L;
+            }
+            long position = buffer.getLong();
+            if (buffer.getInt() != checksum(position)) {
+                log.warn("Ignoring corrupt audit journal checkpoint");
+                return 0L;
+            }
+            return position;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit journal checkpoint", e);
+        }
+    }
+
+    /**
+     * Store the checkpoint.
+     */
+    void save(long position) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE).putLong(position).putInt(checksum(position)).flip();
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write audit journal checkpoint", e);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replace audit journal checkpoint", e);
+        }
+    }
+
+    private static int checksum(long position) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, position));
+        return (int) crc.getValue();
+    }
+}
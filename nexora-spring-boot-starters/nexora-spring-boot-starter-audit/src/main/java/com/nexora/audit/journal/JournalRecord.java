@@ -0,0 +1,13 @@
+package com.nexora.audit.journal;
+
+/**
+ * A record read from the {@link AuditJournal}.
+ *
+ * @param position     logical position of the record
+ * @param payload      record payload
+ * @param nextPosition logical position just after this record
+ * @author sujie
+ * @since 1.0.0
+ */
+public record JournalRecord(long position, byte[] payload, long nextPosition) {
+}
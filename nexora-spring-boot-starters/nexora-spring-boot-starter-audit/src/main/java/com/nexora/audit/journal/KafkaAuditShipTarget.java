@@ -0,0 +1,43 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.writer.AuditLogJson;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuditShipTarget} that publishes journaled audit logs as JSON to a Kafka topic.
+ *
+ * <p>Records are keyed by user ID (or action for system events) so a user's events keep
+ * their order within a partition. The batch is acknowledged only after every send completes.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class KafkaAuditShipTarget implements AuditShipTarget {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final Duration sendTimeout;
+
+    public KafkaAuditShipTarget(KafkaTemplate<String, String> kafkaTemplate, String topic, Duration sendTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public void ship(List<AuditLog> auditLogs) throws Exception {
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[auditLogs.size()];
+        for (int i = 0; i < auditLogs.size(); i++) {
+            AuditLog auditLog = auditLogs.get(i);
+            String key = auditLog.getUserId() != null ? auditLog.getUserId().toString() : auditLog.getAction();
+            sends[i] = kafkaTemplate.send(topic, key, AuditLogJson.toJson(auditLog));
+        }
+        CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
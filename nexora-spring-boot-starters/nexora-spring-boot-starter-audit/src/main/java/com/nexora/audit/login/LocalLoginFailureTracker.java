@@ -0,0 +1,98 @@
+package com.nexora.audit.login;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexora.audit.autoconfigure.AuditProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process {@link LoginFailureTracker}.
+ *
+ * <p>Keeps one bucketed {@link SlidingWindowCounter} per user. Counters are per instance
+ * and start from zero on every restart; use {@link RedisLoginFailureTracker} when logins
+ * are spread across several instances. Counters live in a Caffeine cache bounded to
+ * {@code max-tracked-users}: a counter expires one window after its last failure, and
+ * when the bound is reached Caffeine evicts in amortized constant time.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class LocalLoginFailureTracker implements LoginFailureTracker {
+
+    private final Cache<Long, SlidingWindowCounter> counters;
+    private final Set<String> actions;
+    private final Duration window;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Clock clock;
+
+    public LocalLoginFailureTracker(AuditProperties.LoginFailures config) {
+        this(config, Clock.systemUTC());
+    }
+
+    public LocalLoginFailureTracker(AuditProperties.LoginFailures config, Clock clock) {
+        this.actions = Set.copyOf(config.getActions());
+        this.window = config.getWindow();
+        this.bucketMillis = Math.max(1, config.getBucket().toMillis());
+        this.bucketCount = bucketsFor(window, bucketMillis);
+        this.clock = clock;
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(config.getMaxTrackedUsers())
+            .expireAfterWrite(Duration.ofMillis(bucketCount * bucketMillis))
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+            .executor(Runnable::run)
+            .build();
+    }
+
+    static int bucketsFor(Duration period, long bucketMillis) {
+        return (int) Math.max(1, (period.toMillis() + bucketMillis - 1) / bucketMillis);
+    }
+
+    private long currentBucket() {
+        return clock.millis() / bucketMillis;
+    }
+
+    @Override
+    public boolean isTracked(String action) {
+        return actions.isEmpty() || actions.contains(action);
+    }
+
+    @Override
+    public void recordFailure(Long userId) {
+        long bucket = currentBucket();
+        // A write, so the counter's expiry restarts with every failure
+        counters.asMap().compute(userId, (id, counter) -> {
+            SlidingWindowCounter updated = counter != null ? counter : new SlidingWindowCounter(bucketCount);
+            updated.increment(bucket);
+            return updated;
+        });
+    }
+
+    @Override
+    public long countFailures(Long userId, Duration within) {
+        SlidingWindowCounter counter = counters.getIfPresent(userId);
+        if (counter == null) {
+            return 0;
+        }
+        return counter.sum(currentBucket(), bucketsFor(within, bucketMillis));
+    }
+
+    @Override
+    public void reset(Long userId) {
+        counters.invalidate(userId);
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    int getTrackedUserCount() {
+        counters.cleanUp();
+        return (int) counters.estimatedSize();
+    }
+}
@@ -0,0 +1,45 @@
+package com.nexora.audit.login;
+
+import java.time.Duration;
+
+/**
+ * Sliding-window counter of failed logins per user.
+ *
+ * <p>Updated by {@link com.nexora.audit.service.AuditLogService} whenever a tracked failure
+ * action is logged, so brute-force checks cost a constant-time lookup instead of a
+ * {@code COUNT(*)} over {@code audit_logs}.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public interface LoginFailureTracker {
+
+    /**
+     * Whether failures of the given action are counted.
+     */
+    boolean isTracked(String action);
+
+    /**
+     * Record one failed login.
+     */
+    void recordFailure(Long userId);
+
+    /**
+     * Count failures recorded within the given period, at bucket granularity.
+     *
+     * @param userId the user ID
+     * @param within period to count, at most {@link #getWindow()}
+     * @return number of failures
+     */
+    long countFailures(Long userId, Duration within);
+
+    /**
+     * Forget all failures of a user, e.g. after a password reset.
+     */
+    void reset(Long userId);
+
+    /**
+     * Longest period the tracker can answer for.
+     */
+    Duration getWindow();
+}
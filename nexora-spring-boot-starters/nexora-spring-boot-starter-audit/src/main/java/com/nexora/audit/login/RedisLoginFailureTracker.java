@@ -0,0 +1,112 @@
+package com.nexora.audit.login;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis-backed {@link LoginFailureTracker} shared by all instances.
+ *
+ * <p>Each user has one hash of {@code bucket -> count}. A single Lua script increments the
+ * current bucket, drops buckets that left the window and sums the rest, so every call is
+ * one round trip and touches at most {@code window / bucket + 1} fields. The key expires
+ * one window after the last failure.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class RedisLoginFailureTracker implements LoginFailureTracker {
+
+    /**
+     * KEYS[1] hash key; ARGV[1] current bucket, ARGV[2] buckets to sum, ARGV[3] buckets retained,
+     * ARGV[4] increment, ARGV[5] key TTL in milliseconds.
+     */
+    static final String SCRIPT = """
+        local current = tonumber(ARGV[1])
+        if tonumber(ARGV[4]) > 0 then
+          redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[4])
+          redis.call('PEXPIRE', KEYS[1], ARGV[5])
+        end
+        local sumFrom = current - tonumber(ARGV[2]) + 1
+        local keepFrom = current - tonumber(ARGV[3]) + 1
+        local total = 0
+        local entries = redis.call('HGETALL', KEYS[1])
+        for i = 1, #entries, 2 do
+          local bucket = tonumber(entries[i])
+          if bucket < keepFrom then
+            redis.call('HDEL', KEYS[1], entries[i])
+          elseif bucket >= sumFrom and bucket <= current then
+            total = total + tonumber(entries[i + 1])
+          end
+        end
+        return total
+        """;
+
+    private final RedissonClient redissonClient;
+    private final Set<String> actions;
+    private final Duration window;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final String keyPrefix;
+    private final Clock clock;
+
+    public RedisLoginFailureTracker(RedissonClient redissonClient, AuditProperties.LoginFailures config) {
+        this(redissonClient, config, Clock.systemUTC());
+    }
+
+    public RedisLoginFailureTracker(RedissonClient redissonClient, AuditProperties.LoginFailures config,
+                                    Clock clock) {
+        this.redissonClient = redissonClient;
+        this.actions = Set.copyOf(config.getActions());
+        this.window = config.getWindow();
+        this.bucketMillis = Math.max(1, config.getBucket().toMillis());
+        this.bucketCount = LocalLoginFailureTracker.bucketsFor(window, bucketMillis);
+        this.keyPrefix = config.getKeyPrefix();
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean isTracked(String action) {
+        return actions.isEmpty() || actions.contains(action);
+    }
+
+    @Override
+    public void recordFailure(Long userId) {
+        run(userId, bucketCount, 1);
+    }
+
+    @Override
+    public long countFailures(Long userId, Duration within) {
+        return run(userId, LocalLoginFailureTracker.bucketsFor(within, bucketMillis), 0);
+    }
+
+    private long run(Long userId, int span, int increment) {
+        long bucket = clock.millis() / bucketMillis;
+        long ttlMillis = (bucketCount + 1L) * bucketMillis;
+        Long total = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, SCRIPT,
+            RScript.ReturnType.LONG, List.of(key(userId)),
+            Long.toString(bucket), Integer.toString(Math.min(span, bucketCount)), Integer.toString(bucketCount),
+            Integer.toString(increment), Long.toString(ttlMillis));
+        return total != null ? total : 0;
+    }
+
+    @Override
+    public void reset(Long userId) {
+        redissonClient.getKeys().delete(key(userId));
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    private String key(Long userId) {
+        return keyPrefix + userId;
+    }
+}
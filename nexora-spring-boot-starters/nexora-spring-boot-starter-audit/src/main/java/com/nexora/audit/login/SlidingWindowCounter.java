@@ -0,0 +1,47 @@
+package com.nexora.audit.login;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of time buckets.
+ *
+ * <p>Each slot remembers which bucket it currently holds, so stale slots are reset lazily
+ * on write and ignored on read; no background expiry is needed.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+final class SlidingWindowCounter {
+
+    private final long[] buckets;
+    private final long[] counts;
+
+    SlidingWindowCounter(int size) {
+        this.buckets = new long[size];
+        this.counts = new long[size];
+        Arrays.fill(buckets, Long.MIN_VALUE);
+    }
+
+    synchronized void increment(long bucket) {
+        int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+        if (buckets[slot] != bucket) {
+            buckets[slot] = bucket;
+            counts[slot] = 0;
+        }
+        counts[slot]++;
+    }
+
+    /**
+     * Sum of the {@code span} most recent buckets ending at {@code bucket}.
+     */
+    synchronized long sum(long bucket, int span) {
+        long oldest = bucket - Math.min(span, buckets.length) + 1;
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] >= oldest && buckets[i] <= bucket) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+}
@@ -1,16 +1,27 @@
 package com.nexora.audit.repository;
 
 import com.nexora.audit.domain.AuditLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for {@link AuditLog} entities.
  *
+ * <p>The {@code List} finders load every matching row; prefer the keyset ({@link Window})
+ * finders for paging and the {@code stream*} finders for exports. Keyset finders order by
+ * {@code createdAt DESC, id DESC} to match the composite indexes on {@code audit_logs}.
+ *
  * @author sujie
  * @since 1.0.0
  */
@@ -61,4 +72,44 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
      * Count failed audit logs by action.
      */
     long countByActionAndSuccessFalse(String action);
+
+    /**
+     * Keyset page of audit logs by user ID.
+     */
+    Window<AuditLog> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, ScrollPosition position, Limit limit);
+
+    /**
+     * Keyset page of audit logs by action type.
+     */
+    Window<AuditLog> findByActionOrderByCreatedAtDescIdDesc(String action, ScrollPosition position, Limit limit);
+
+    /**
+     * Keyset page of audit logs within a date range.
+     */
+    Window<AuditLog> findByCreatedAtBetweenOrderByCreatedAtDescIdDesc(Instant start, Instant end,
+                                                                       ScrollPosition position, Limit limit);
+
+    /**
+     * Keyset page of audit logs by correlation ID.
+     */
+    Window<AuditLog> findByCorrelationIdOrderByCreatedAtDescIdDesc(String correlationId, ScrollPosition position,
+                                                                   Limit limit);
+
+    /**
+     * Stream audit logs by user ID. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AuditLog> streamByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * Stream audit logs within a date range. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AuditLog> streamByCreatedAtBetweenOrderByCreatedAtDesc(Instant start, Instant end);
 }
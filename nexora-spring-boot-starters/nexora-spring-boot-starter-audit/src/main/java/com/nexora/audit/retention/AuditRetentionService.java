@@ -0,0 +1,328 @@
+package com.nexora.audit.retention;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.autoconfigure.AuditProperties.PartitionPeriod;
+import com.nexora.audit.autoconfigure.AuditProperties.RetentionMode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Enforces {@code nexora.audit.retention-days} on {@code audit_logs}.
+ *
+ * <p>DELETE mode removes expired rows in bounded chunks, one transaction per chunk, walking
+ * {@code (created_at, id)} with a keyset cursor so that each chunk starts where the previous
+ * one ended. Chunks are paced by {@code chunk-pause} and a run stops at {@code max-run-time};
+ * since every chunk commits on its own, the next run simply continues with what is left.
+ * Rows can optionally be copied into an archive table in the same transaction. Each chunk
+ * transaction locks its rows with {@code SELECT ... FOR UPDATE} first, so nodes that run the
+ * job at the same time serialize per chunk instead of archiving or deleting the same rows twice.
+ *
+ * <p>PARTITION mode expects {@code audit_logs} to be range-partitioned on {@code created_at}
+ * (PostgreSQL) with partitions named {@code audit_logs_pYYYYMM} or {@code audit_logs_pYYYYMMDD}.
+ * Expired partitions are dropped as a whole and upcoming partitions are created ahead of time,
+ * in one transaction guarded by a PostgreSQL advisory lock so that only one node does it.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditRetentionService implements MeterBinder {
+
+    static final String TABLE = "audit_logs";
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final DateTimeFormatter MONTHLY = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter DAILY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long PARTITION_LOCK_KEY = "nexora.audit.retention".hashCode();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate chunkQuery;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final AuditProperties.Retention config;
+    private final RetentionMode mode;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong rowsPurged = new AtomicLong();
+    private final AtomicLong partitionsDropped = new AtomicLong();
+    private final AtomicLong lastRunNanos = new AtomicLong();
+
+    public AuditRetentionService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                 int retentionDays, AuditProperties.Retention config) {
+        if (config.getArchiveTable() != null && !IDENTIFIER.matcher(config.getArchiveTable()).matches()) {
+            throw new IllegalArgumentException("Invalid archive table name: " + config.getArchiveTable());
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.chunkQuery = new JdbcTemplate(dataSource);
+        this.chunkQuery.setMaxRows(config.getChunkSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.config = config;
+        this.mode = resolveMode(dataSource, config.getMode());
+    }
+
+    private static RetentionMode resolveMode(DataSource dataSource, RetentionMode mode) {
+        if (mode != RetentionMode.PARTITION) {
+            return mode;
+        }
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            if (product != null && product.toLowerCase().contains("postgres")) {
+                return mode;
+            }
+            log.warn("Audit retention PARTITION mode requires PostgreSQL (found {}), falling back to DELETE", product);
+        } catch (Exception e) {
+            log.warn("Could not determine database product, audit retention falling back to DELETE mode", e);
+        }
+        return RetentionMode.DELETE;
+    }
+
+    /**
+     * Scheduled entry point.
+     */
+    @Scheduled(cron = "${nexora.audit.retention.cron:0 30 3 * * *}")
+    public void scheduledPurge() {
+        try {
+            purge();
+        } catch (Exception e) {
+            log.error("Audit retention run failed", e);
+        }
+    }
+
+    /**
+     * Remove audit logs older than the configured retention period.
+     * Returns immediately if retention is disabled or another run is in progress.
+     */
+    public RetentionResult purge() {
+        if (retentionDays <= 0) {
+            return RetentionResult.skipped();
+        }
+        return purge(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+    }
+
+    /**
+     * Remove audit logs created before the given instant.
+     * The {@code running} flag only skips overlapping runs on this node; other nodes are
+     * kept apart by the database locks described on the class.
+     */
+    public RetentionResult purge(Instant cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Audit retention run already in progress, skipping");
+            return RetentionResult.skipped();
+        }
+        long start = System.nanoTime();
+        try {
+            RetentionResult result = mode == RetentionMode.PARTITION
+                ? dropPartitions(cutoff, start)
+                : deleteChunks(cutoff, start);
+            log.info("Audit retention purged {} rows and {} partitions older than {} in {} ms{}",
+                result.rowsPurged(), result.partitionsDropped(), cutoff, result.duration().toMillis(),
+                result.completed() ? "" : " (time budget reached, continuing next run)");
+            return result;
+        } finally {
+            lastRunNanos.set(System.nanoTime() - start);
+            running.set(false);
+        }
+    }
+
+    private RetentionResult deleteChunks(Instant cutoff, long start) {
+        long deadline = start + config.getMaxRunTime().toNanos();
+        Timestamp cutoffTs = Timestamp.from(cutoff);
+        Timestamp lastCreatedAt = null;
+        long lastId = 0;
+        long purged = 0;
+
+        while (true) {
+            List<ChunkRow> chunk = lastCreatedAt == null
+                ? chunkQuery.query("SELECT id, created_at FROM " + TABLE
+                    + " WHERE created_at < ? ORDER BY created_at, id", ChunkRow.MAPPER, cutoffTs)
+                : chunkQuery.query("SELECT id, created_at FROM " + TABLE
+                    + " WHERE created_at < ? AND (created_at > ? OR (created_at = ? AND id > ?))"
+                    + " ORDER BY created_at, id", ChunkRow.MAPPER, cutoffTs, lastCreatedAt, lastCreatedAt, lastId);
+            if (chunk.isEmpty()) {
+                return result(purged, 0, start, true);
+            }
+            int deleted = deleteChunk(chunk);
+            purged += deleted;
+            rowsPurged.addAndGet(deleted);
+
+            ChunkRow last = chunk.get(chunk.size() - 1);
+            lastCreatedAt = last.createdAt();
+            lastId = last.id();
+            if (chunk.size() < config.getChunkSize()) {
+                return result(purged, 0, start, true);
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return result(purged, 0, start, false);
+            }
+            if (!pause()) {
+                return result(purged, 0, start, false);
+            }
+        }
+    }
+
+    private int deleteChunk(List<ChunkRow> chunk) {
+        Object[] ids = chunk.stream().map(ChunkRow::id).toArray();
+        Integer deleted = transactionTemplate.execute(status -> {
+            // Lock the chunk first: a node purging the same rows concurrently blocks here until
+            // it commits and then only sees the rows that are left, so nothing is archived twice
+            Object[] locked = jdbcTemplate.queryForList("SELECT id FROM " + TABLE + " WHERE id IN ("
+                + placeholders(ids.length) + ") FOR UPDATE", Long.class, ids).toArray();
+            if (locked.length == 0) {
+                return 0;
+            }
+            String placeholders = placeholders(locked.length);
+            if (config.getArchiveTable() != null) {
+                jdbcTemplate.update("INSERT INTO " + config.getArchiveTable() + " SELECT * FROM " + TABLE
+                    + " WHERE id IN (" + placeholders + ")", locked);
+            }
+            return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE id IN (" + placeholders + ")", locked);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private boolean pause() {
+        long pauseMillis = config.getChunkPause().toMillis();
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private RetentionResult dropPartitions(Instant cutoff, long start) {
+        RetentionResult result = transactionTemplate.execute(status -> {
+            // Only one node maintains the partitions; the lock is released on commit
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, PARTITION_LOCK_KEY))) {
+                log.debug("Audit partition maintenance is running on another node, skipping");
+                return RetentionResult.skipped();
+            }
+            return maintainPartitions(cutoff, start);
+        });
+        return result != null ? result : RetentionResult.skipped();
+    }
+
+    private RetentionResult maintainPartitions(Instant cutoff, long start) {
+        PartitionPeriod period = config.getPartitionPeriod();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i <= config.getPartitionsAhead(); i++) {
+            LocalDate from = partitionStart(today, period, i);
+            LocalDate to = partitionStart(today, period, i + 1);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(from, period) + " PARTITION OF "
+                + TABLE + " FOR VALUES FROM ('" + from + " 00:00:00+00') TO ('" + to + " 00:00:00+00')");
+        }
+
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ?", String.class, TABLE);
+        int dropped = 0;
+        for (String partition : partitions) {
+            Instant end = partitionEnd(partition);
+            if (end != null && !end.isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                partitionsDropped.incrementAndGet();
+                dropped++;
+                log.info("Dropped expired audit log partition {}", partition);
+            }
+        }
+        return result(0, dropped, start, true);
+    }
+
+    static LocalDate partitionStart(LocalDate date, PartitionPeriod period, int offset) {
+        return period == PartitionPeriod.DAILY
+            ? date.plusDays(offset)
+            : date.withDayOfMonth(1).plusMonths(offset);
+    }
+
+    static String partitionName(LocalDate start, PartitionPeriod period) {
+        return PARTITION_PREFIX + (period == PartitionPeriod.DAILY ? DAILY : MONTHLY).format(start);
+    }
+
+    /**
+     * Exclusive upper bound of a partition, derived from its name; {@code null} if the
+     * name does not follow the naming scheme.
+     */
+    static Instant partitionEnd(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        String suffix = partition.substring(PARTITION_PREFIX.length());
+        try {
+            LocalDate end = switch (suffix.length()) {
+                case 6 -> LocalDate.parse(suffix + "01", DAILY).plusMonths(1);
+                case 8 -> LocalDate.parse(suffix, DAILY).plusDays(1);
+                default -> null;
+            };
+            return end != null ? end.atStartOfDay(ZoneOffset.UTC).toInstant() : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static RetentionResult result(long purged, int dropped, long start, boolean completed) {
+        return new RetentionResult(purged, dropped, Duration.ofNanos(System.nanoTime() - start), completed);
+    }
+
+    public RetentionMode getMode() {
+        return mode;
+    }
+
+    public long getRowsPurged() {
+        return rowsPurged.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("nexora.audit.retention.purged", rowsPurged, AtomicLong::get)
+            .description("Audit log rows removed by the retention job")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.retention.partitions.dropped", partitionsDropped, AtomicLong::get)
+            .description("Audit log partitions dropped by the retention job")
+            .register(registry);
+        TimeGauge.builder("nexora.audit.retention.last.duration", lastRunNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+            .description("Duration of the last retention run")
+            .register(registry);
+    }
+
+    private record ChunkRow(long id, Timestamp createdAt) {
+        static final RowMapper<ChunkRow> MAPPER =
+            (rs, rowNum) -> new ChunkRow(rs.getLong(1), rs.getTimestamp(2));
+    }
+}
@@ -0,0 +1,20 @@
+package com.nexora.audit.retention;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one retention run.
+ *
+ * @param rowsPurged        rows deleted (DELETE mode)
+ * @param partitionsDropped partitions dropped (PARTITION mode)
+ * @param duration          wall-clock duration of the run
+ * @param completed         {@code false} if the run stopped at its time budget with rows left over
+ * @author sujie
+ * @since 1.0.0
+ */
+public record RetentionResult(long rowsPurged, int partitionsDropped, Duration duration, boolean completed) {
+
+    static RetentionResult skipped() {
+        return new RetentionResult(0, 0, Duration.ZERO, true);
+    }
+}
@@ -0,0 +1,159 @@
+package com.nexora.audit.rollup;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dashboard queries over the pre-computed {@code audit_rollups}.
+ *
+ * <p>Answers time-series and top-N questions from rollup rows only, never from
+ * {@code audit_logs}. Results lag live traffic by at most the rollup flush interval.
+ * Top-N queries use HOUR rollups, so their range is effectively rounded to whole hours.
+ * {@link #count(Instant, Instant, String, Boolean)} reads MINUTE rollups while they are
+ * retained ({@code minute-retention}) and HOUR rollups for anything older.
+ *
+ * <p>Usage:
+ * <pre>
+ * // Failed logins per minute over the last hour
+ * analytics.timeSeries(RollupGranularity.MINUTE, oneHourAgo, now, "LOGIN", false);
+ *
+ * // Ten users with the most failures today
+ * analytics.top(RollupDimension.USER, startOfDay, now, null, false, 10);
+ * </pre>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class AuditAnalyticsService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration minuteRetention;
+    private final Clock clock;
+
+    public AuditAnalyticsService(DataSource dataSource) {
+        this(dataSource, new AuditProperties.Rollup());
+    }
+
+    public AuditAnalyticsService(DataSource dataSource, AuditProperties.Rollup config) {
+        this(dataSource, config, Clock.systemUTC());
+    }
+
+    public AuditAnalyticsService(DataSource dataSource, AuditProperties.Rollup config, Clock clock) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.minuteRetention = config.getMinuteRetention();
+        this.clock = clock;
+    }
+
+    /**
+     * Event counts per time bucket.
+     *
+     * @param granularity bucket size
+     * @param from        inclusive start
+     * @param to          exclusive end
+     * @param action      action filter, or {@code null} for all
+     * @param success     outcome filter, or {@code null} for both
+     * @return points in ascending time order; empty buckets are omitted
+     */
+    public List<RollupPoint> timeSeries(RollupGranularity granularity, Instant from, Instant to,
+                                        String action, Boolean success) {
+        List<Object> args = new ArrayList<>();
+        String where = where(granularity, from, to, action, success, args);
+        return jdbcTemplate.query("SELECT bucket_start, SUM(event_count) FROM audit_rollups" + where
+                + " GROUP BY bucket_start ORDER BY bucket_start",
+            (rs, rowNum) -> new RollupPoint(rs.getTimestamp(1).toInstant(), rs.getLong(2)), args.toArray());
+    }
+
+    /**
+     * Largest event counts grouped by a dimension.
+     *
+     * @param dimension dimension to group by
+     * @param from      inclusive start
+     * @param to        exclusive end
+     * @param action    action filter, or {@code null} for all
+     * @param success   outcome filter, or {@code null} for both
+     * @param limit     maximum number of results
+     * @return counts in descending order
+     */
+    public List<RollupCount> top(RollupDimension dimension, Instant from, Instant to,
+                                 String action, Boolean success, int limit) {
+        List<Object> args = new ArrayList<>();
+        String where = where(RollupGranularity.HOUR, from, to, action, success, args);
+        if (dimension == RollupDimension.USER) {
+            where += " AND user_id <> 0";
+        }
+        String column = dimension.column();
+        return jdbcTemplate.query("SELECT " + column + ", SUM(event_count) AS total FROM audit_rollups" + where
+                + " GROUP BY " + column + " ORDER BY total DESC, " + column,
+            rs -> {
+                List<RollupCount> counts = new ArrayList<>();
+                while (rs.next() && counts.size() < limit) {
+                    String key = rs.getString(1);
+                    counts.add(new RollupCount(key == null || key.isEmpty() ? null : key, rs.getLong(2)));
+                }
+                return counts;
+            }, args.toArray());
+    }
+
+    /**
+     * Total number of events in a range.
+     *
+     * <p>The part of the range older than the MINUTE rollup retention is counted from HOUR
+     * rollups, so it is rounded to whole hours; the recent part is exact to the minute.
+     *
+     * @param action  action filter, or {@code null} for all
+     * @param success outcome filter, or {@code null} for both
+     */
+    public long count(Instant from, Instant to, String action, Boolean success) {
+        // First hour whose MINUTE rows have all survived the rollup purge
+        Instant split = RollupGranularity.HOUR.truncate(clock.instant().minus(minuteRetention))
+            .plus(Duration.ofHours(1));
+        if (!split.isAfter(from)) {
+            return count(RollupGranularity.MINUTE, from, to, action, success);
+        }
+        if (!split.isBefore(to)) {
+            return count(RollupGranularity.HOUR, from, to, action, success);
+        }
+        return count(RollupGranularity.HOUR, from, split, action, success)
+            + count(RollupGranularity.MINUTE, split, to, action, success);
+    }
+
+    /**
+     * Total number of events in a range, from rollups of one granularity.
+     *
+     * @param granularity rollups to sum; {@code from} is truncated to its bucket size
+     * @param action      action filter, or {@code null} for all
+     * @param success     outcome filter, or {@code null} for both
+     */
+    public long count(RollupGranularity granularity, Instant from, Instant to, String action, Boolean success) {
+        List<Object> args = new ArrayList<>();
+        String where = where(granularity, from, to, action, success, args);
+        Long total = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(event_count), 0) FROM audit_rollups" + where,
+            Long.class, args.toArray());
+        return total != null ? total : 0;
+    }
+
+    private static String where(RollupGranularity granularity, Instant from, Instant to,
+                                String action, Boolean success, List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?");
+        args.add(granularity.name());
+        args.add(Timestamp.from(granularity.truncate(from)));
+        args.add(Timestamp.from(to));
+        if (action != null) {
+            where.append(" AND action = ?");
+            args.add(action);
+        }
+        if (success != null) {
+            where.append(" AND success = ?");
+            args.add(success);
+        }
+        return where.toString();
+    }
+}
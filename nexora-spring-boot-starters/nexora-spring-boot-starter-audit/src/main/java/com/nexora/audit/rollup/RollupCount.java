@@ -0,0 +1,12 @@
+package com.nexora.audit.rollup;
+
+/**
+ * Event count for one value of a {@link RollupDimension}.
+ *
+ * @param key   dimension value (action, module name or user ID); {@code null} when not set
+ * @param count number of events
+ * @author sujie
+ * @since 1.0.0
+ */
+public record RollupCount(String key, long count) {
+}
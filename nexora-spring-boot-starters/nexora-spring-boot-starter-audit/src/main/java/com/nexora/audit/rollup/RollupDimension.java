@@ -0,0 +1,24 @@
+package com.nexora.audit.rollup;
+
+/**
+ * Dimension that top-N rollup queries group by.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public enum RollupDimension {
+
+    ACTION("action"),
+    MODULE("module_name"),
+    USER("user_id");
+
+    private final String column;
+
+    RollupDimension(String column) {
+        this.column = column;
+    }
+
+    String column() {
+        return column;
+    }
+}
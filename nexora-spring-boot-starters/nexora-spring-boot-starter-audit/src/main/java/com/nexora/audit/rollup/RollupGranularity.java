@@ -0,0 +1,32 @@
+package com.nexora.audit.rollup;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Time bucket size of an audit rollup.
+ *
+ * <p>MINUTE rollups are aggregated across users; HOUR rollups additionally keep the user
+ * dimension for top-N queries.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public enum RollupGranularity {
+
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Start of the bucket containing the given instant.
+     */
+    public Instant truncate(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+}
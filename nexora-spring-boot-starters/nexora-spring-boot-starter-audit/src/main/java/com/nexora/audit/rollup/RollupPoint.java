@@ -0,0 +1,14 @@
+package com.nexora.audit.rollup;
+
+import java.time.Instant;
+
+/**
+ * One point of an audit event time series.
+ *
+ * @param bucketStart start of the time bucket
+ * @param count       number of events in the bucket
+ * @author sujie
+ * @since 1.0.0
+ */
+public record RollupPoint(Instant bucketStart, long count) {
+}
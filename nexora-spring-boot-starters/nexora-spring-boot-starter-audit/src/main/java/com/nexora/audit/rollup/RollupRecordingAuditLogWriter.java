@@ -0,0 +1,28 @@
+package com.nexora.audit.rollup;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.writer.AuditLogWriter;
+
+/**
+ * {@link AuditLogWriter} decorator that counts each accepted log into the rollups.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class RollupRecordingAuditLogWriter implements AuditLogWriter {
+
+    private final AuditLogWriter delegate;
+    private final AuditRollupRecorder recorder;
+
+    public RollupRecordingAuditLogWriter(AuditLogWriter delegate, AuditRollupRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public AuditLog write(AuditLog auditLog) {
+        AuditLog written = delegate.write(auditLog);
+        recorder.record(written);
+        return written;
+    }
+}
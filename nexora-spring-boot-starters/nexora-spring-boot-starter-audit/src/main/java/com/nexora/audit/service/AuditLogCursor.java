@@ -0,0 +1,60 @@
+package com.nexora.audit.service;
+
+import com.nexora.audit.domain.AuditLog;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset cursor over {@code (createdAt, id)} for audit log pages.
+ *
+ * <p>Encoded as URL-safe Base64 of {@code <createdAt>|<id>}, so clients can pass it
+ * around as a query parameter without interpreting it.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public final class AuditLogCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private AuditLogCursor() {
+    }
+
+    /**
+     * Encode the position just after the given audit log.
+     */
+    public static String encode(AuditLog auditLog) {
+        String raw = auditLog.getCreatedAt().toString() + SEPARATOR + auditLog.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor into a scroll position; {@code null} or blank starts at the first page.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid audit log cursor: " + cursor);
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", Instant.parse(raw.substring(0, separator)));
+            keys.put("id", Long.parseLong(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid audit log cursor: " + cursor, e);
+        }
+    }
+}
@@ -1,25 +1,52 @@
 package com.nexora.audit.service;
 
+import com.nexora.audit.async.AuditTaskExecutor;
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.context.AuditContext;
+import com.nexora.audit.context.AuditContextSerializer;
 import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.login.LoginFailureTracker;
 import com.nexora.audit.repository.AuditLogRepository;
+import com.nexora.audit.writer.AuditLogWriter;
+import com.nexora.audit.writer.RepositoryAuditLogWriter;
+import com.nexora.common.api.CursorPageResult;
 import com.nexora.datajp.support.Entities;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Audit log service for recording system events.
  *
  * <p>Provides both synchronous and asynchronous logging methods.
- * Async methods return CompletableFuture for non-blocking operations.
+ * Async methods return CompletableFuture for non-blocking operations. They capture a raw
+ * {@link AuditContext} snapshot of the request on the calling thread; masking, context
+ * serialization and the write happen on the dedicated {@link AuditTaskExecutor}, where
+ * each write runs in its own transaction. A saturated executor completes the
+ * future exceptionally instead of blocking the caller.
+ *
+ * <p>Logs are persisted through an {@link AuditLogWriter}. With the buffered writer
+ * ({@code nexora.audit.buffer.enabled=true}) the returned log is enqueued rather than
+ * saved, so its ID is not yet assigned. The synchronous methods open no transaction of
+ * their own: only a writer that touches the database does, and a direct repository save
+ * joins the caller's transaction if there is one.
+ *
+ * <p>The {@code List} finders are unbounded. Use the cursor finders for paging
+ * (page size capped at {@value #MAX_PAGE_SIZE}) and the {@code stream*} methods for exports.
  *
  * <p>Usage:
  * <pre>
@@ -39,10 +66,38 @@ import java.util.concurrent.CompletableFuture;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class AuditLogService {
 
+    /**
+     * Maximum page size accepted by the cursor finders.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditTaskExecutor auditTaskExecutor;
+
+    /**
+     * Optional failed-login tracker; {@code null} counts failures in the database.
+     */
+    private final LoginFailureTracker loginFailureTracker;
+
+    private final AuditContextSerializer auditContextSerializer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Create a service that saves each log synchronously through the repository.
+     * Async methods run on the calling thread.
+     *
+     * @param auditLogRepository the audit log repository
+     */
+    public AuditLogService(AuditLogRepository auditLogRepository) {
+        this(auditLogRepository, new RepositoryAuditLogWriter(auditLogRepository), AuditTaskExecutor.sameThread(),
+            null, new AuditContextSerializer(new AuditProperties.SensitiveData()));
+    }
 
     /**
      * Log a successful audit event.
@@ -51,7 +106,6 @@ public class AuditLogService {
      * @param userId the user who performed the action
      * @return the created audit log
      */
-    @Transactional
     public AuditLog log(String action, Long userId) {
         return log(action, userId, null, null);
     }
@@ -64,10 +118,10 @@ public class AuditLogService {
      * @param errorMessage error description
      * @return the created audit log
      */
-    @Transactional
     public AuditLog logFailure(String action, Long userId, String errorMessage) {
         AuditLog auditLog = AuditLog.failure(action, userId, errorMessage);
-        return auditLogRepository.save(auditLog);
+        trackFailure(action, userId);
+        return auditLogWriter.write(auditLog);
     }
 
     /**
@@ -78,10 +132,10 @@ public class AuditLogService {
      * @param request the HTTP request
      * @return the created audit log
      */
-    @Transactional
     public AuditLog log(String action, Long userId, HttpServletRequest request) {
-        AuditLog auditLog = populateFromRequest(action, userId, request);
-        return auditLogRepository.save(auditLog);
+        AuditLog auditLog = AuditLog.success(action, userId);
+        auditContextSerializer.apply(auditLog, AuditContext.capture(request));
+        return auditLogWriter.write(auditLog);
     }
 
     /**
@@ -93,11 +147,11 @@ public class AuditLogService {
      * @param request the HTTP request
      * @return the created audit log
      */
-    @Transactional
     public AuditLog logFailure(String action, Long userId, String errorMessage, HttpServletRequest request) {
-        AuditLog auditLog = populateFromRequest(action, userId, request);
-        auditLog.markFailed(errorMessage);
-        return auditLogRepository.save(auditLog);
+        AuditLog auditLog = AuditLog.failure(action, userId, errorMessage);
+        auditContextSerializer.apply(auditLog, AuditContext.capture(request));
+        trackFailure(action, userId);
+        return auditLogWriter.write(auditLog);
     }
 
     /**
@@ -109,13 +163,10 @@ public class AuditLogService {
      * @param request the HTTP request (optional)
      * @return the created audit log
      */
-    @Transactional
     public AuditLog log(String action, Long userId, Map<String, Object> contextData, HttpServletRequest request) {
-        AuditLog auditLog = populateFromRequest(action, userId, request);
-        if (contextData != null && !contextData.isEmpty()) {
-            auditLog.setContextData(serializeContextData(contextData));
-        }
-        return auditLogRepository.save(auditLog);
+        AuditLog auditLog = AuditLog.success(action, userId);
+        populate(auditLog, AuditContext.capture(request), contextData);
+        return auditLogWriter.write(auditLog);
     }
 
     /**
@@ -125,9 +176,8 @@ public class AuditLogService {
      * @param userId the user who performed the action
      * @return CompletableFuture with the created audit log
      */
-    @Async
     public CompletableFuture<AuditLog> logAsync(String action, Long userId) {
-        return CompletableFuture.supplyAsync(() -> log(action, userId));
+        return writeAsync(AuditLog.success(action, userId));
     }
 
     /**
@@ -138,9 +188,9 @@ public class AuditLogService {
      * @param errorMessage error description
      * @return CompletableFuture with the created audit log
      */
-    @Async
     public CompletableFuture<AuditLog> logFailureAsync(String action, Long userId, String errorMessage) {
-        return CompletableFuture.supplyAsync(() -> logFailure(action, userId, errorMessage));
+        trackFailure(action, userId);
+        return writeAsync(AuditLog.failure(action, userId, errorMessage));
     }
 
     /**
@@ -151,9 +201,75 @@ public class AuditLogService {
      * @param request the HTTP request
      * @return CompletableFuture with the created audit log
      */
-    @Async
     public CompletableFuture<AuditLog> logAsync(String action, Long userId, HttpServletRequest request) {
-        return CompletableFuture.supplyAsync(() -> log(action, userId, request));
+        return logAsync(action, userId, null, request);
+    }
+
+    /**
+     * Asynchronously log with context data and request context.
+     *
+     * <p>{@code contextData} is serialized on the audit executor, so it must not be
+     * modified after this call.
+     *
+     * @param action the action performed
+     * @param userId the user who performed the action
+     * @param contextData additional context as JSON
+     * @param request the HTTP request (optional)
+     * @return CompletableFuture with the created audit log
+     */
+    public CompletableFuture<AuditLog> logAsync(String action, Long userId, Map<String, Object> contextData,
+                                                HttpServletRequest request) {
+        return logAsync(AuditLog.success(action, userId), contextData, request);
+    }
+
+    /**
+     * Asynchronously write a prepared audit log with context data and request context.
+     *
+     * <p>Used by callers that set fields beyond action and outcome, such as the module name.
+     * {@code contextData} must not be modified after this call.
+     *
+     * @param auditLog the audit log, created with {@link AuditLog#success} or {@link AuditLog#failure}
+     * @param contextData additional context as JSON (optional)
+     * @param request the HTTP request (optional)
+     * @return CompletableFuture with the written audit log
+     */
+    public CompletableFuture<AuditLog> logAsync(AuditLog auditLog, Map<String, Object> contextData,
+                                                HttpServletRequest request) {
+        if (!auditLog.isSuccess()) {
+            trackFailure(auditLog.getAction(), auditLog.getUserId());
+        }
+        // The request must be read on the calling thread; it may be recycled once the request completes
+        AuditContext context = AuditContext.capture(request);
+        return auditTaskExecutor.submit(() -> {
+            populate(auditLog, context, contextData);
+            return auditLogWriter.write(auditLog);
+        });
+    }
+
+    /**
+     * Apply the captured request context and serialize context data, masking as configured.
+     */
+    private void populate(AuditLog auditLog, AuditContext context, Map<String, Object> contextData) {
+        auditContextSerializer.apply(auditLog, context);
+        if (contextData != null && !contextData.isEmpty()) {
+            auditLog.setContextData(auditContextSerializer.toJson(contextData));
+        }
+    }
+
+    /**
+     * Count a tracked failure before the write, so it is visible even if the write is queued.
+     */
+    private void trackFailure(String action, Long userId) {
+        if (loginFailureTracker != null && userId != null && loginFailureTracker.isTracked(action)) {
+            loginFailureTracker.recordFailure(userId);
+        }
+    }
+
+    /**
+     * Hand the write to the audit executor. The writer opens its own transaction there.
+     */
+    private CompletableFuture<AuditLog> writeAsync(AuditLog auditLog) {
+        return auditTaskExecutor.submit(() -> auditLogWriter.write(auditLog));
     }
 
     /**
@@ -198,83 +314,141 @@ public class AuditLogService {
     }
 
     /**
-     * Count failed login attempts for a user after a given time.
+     * Find a keyset page of audit logs by user ID, newest first.
      *
      * @param userId the user ID
-     * @param after the time threshold
-     * @return count of failed attempts
+     * @param cursor cursor from the previous page, or {@code null} for the first page
+     * @param size   page size
+     * @return page of audit logs with the cursor of the next page
      */
-    public long countFailedLoginAttempts(Long userId, Instant after) {
-        return auditLogRepository.countByUserIdAndSuccessFalseAndCreatedAtAfter(userId, after);
+    public CursorPageResult<AuditLog> findByUserId(Long userId, String cursor, int size) {
+        return page(cursor, size, (position, limit) ->
+            auditLogRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, position, limit));
     }
 
     /**
-     * Count failed attempts for a specific action.
+     * Find a keyset page of audit logs by action type, newest first.
      *
      * @param action the action type
-     * @return count of failed attempts
+     * @param cursor cursor from the previous page, or {@code null} for the first page
+     * @param size   page size
+     * @return page of audit logs with the cursor of the next page
      */
-    public long countFailedAttempts(String action) {
-        return auditLogRepository.countByActionAndSuccessFalse(action);
+    public CursorPageResult<AuditLog> findByAction(String action, String cursor, int size) {
+        return page(cursor, size, (position, limit) ->
+            auditLogRepository.findByActionOrderByCreatedAtDescIdDesc(action, position, limit));
     }
 
     /**
-     * Find audit log by ID.
+     * Find a keyset page of audit logs within a date range, newest first.
      *
-     * @param id the audit log ID
-     * @return the audit log if found
+     * @param start  the start of the range
+     * @param end    the end of the range
+     * @param cursor cursor from the previous page, or {@code null} for the first page
+     * @param size   page size
+     * @return page of audit logs with the cursor of the next page
      */
-    public Optional<AuditLog> findById(Long id) {
-        return auditLogRepository.findById(id);
+    public CursorPageResult<AuditLog> findByDateRange(Instant start, Instant end, String cursor, int size) {
+        return page(cursor, size, (position, limit) ->
+            auditLogRepository.findByCreatedAtBetweenOrderByCreatedAtDescIdDesc(start, end, position, limit));
     }
 
     /**
-     * Populate audit log from HTTP request.
+     * Find a keyset page of audit logs by correlation ID, newest first.
+     *
+     * @param correlationId the correlation ID
+     * @param cursor        cursor from the previous page, or {@code null} for the first page
+     * @param size          page size
+     * @return page of audit logs with the cursor of the next page
      */
-    private AuditLog populateFromRequest(String action, Long userId, HttpServletRequest request) {
-        AuditLog auditLog = AuditLog.success(action, userId);
+    public CursorPageResult<AuditLog> findByCorrelationId(String correlationId, String cursor, int size) {
+        return page(cursor, size, (position, limit) ->
+            auditLogRepository.findByCorrelationIdOrderByCreatedAtDescIdDesc(correlationId, position, limit));
+    }
 
-        if (request != null) {
-            auditLog.setIpAddress(getClientIpAddress(request));
-            auditLog.setUserAgent(request.getHeader("User-Agent"));
-            auditLog.setRequestUri(request.getRequestURI());
-            auditLog.setHttpMethod(request.getMethod());
-            auditLog.setSessionId(request.getSession(false) != null ? request.getSession(false).getId() : null);
-            auditLog.setCorrelationId(request.getHeader("X-Correlation-ID"));
-            auditLog.setClientId(request.getHeader("X-Client-ID"));
-        }
+    /**
+     * Stream audit logs by user ID for export, newest first.
+     *
+     * <p>Must be called inside a read-only transaction and the stream must be closed,
+     * e.g. with try-with-resources. Rows are fetched in batches and each log is detached
+     * once emitted, so memory use stays flat regardless of the result size.
+     *
+     * @param userId the user ID
+     * @return stream of audit logs
+     */
+    public Stream<AuditLog> streamByUserId(Long userId) {
+        return detaching(auditLogRepository.streamByUserIdOrderByCreatedAtDesc(userId));
+    }
+
+    /**
+     * Stream audit logs within a date range for export, newest first.
+     * Same transaction and closing rules as {@link #streamByUserId(Long)}.
+     *
+     * @param start the start of the range
+     * @param end the end of the range
+     * @return stream of audit logs
+     */
+    public Stream<AuditLog> streamByDateRange(Instant start, Instant end) {
+        return detaching(auditLogRepository.streamByCreatedAtBetweenOrderByCreatedAtDesc(start, end));
+    }
+
+    private Stream<AuditLog> detaching(Stream<AuditLog> stream) {
+        EntityManager em = entityManager;
+        return em != null ? stream.peek(em::detach) : stream;
+    }
 
-        return auditLog;
+    private static CursorPageResult<AuditLog> page(String cursor, int size, KeysetQuery query) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Window<AuditLog> window = query.find(AuditLogCursor.decode(cursor), Limit.of(pageSize));
+        java.util.List<AuditLog> records = window.getContent();
+        String nextCursor = window.hasNext() && !records.isEmpty()
+            ? AuditLogCursor.encode(records.get(records.size() - 1))
+            : null;
+        return CursorPageResult.of(records, pageSize, nextCursor);
+    }
+
+    @FunctionalInterface
+    private interface KeysetQuery {
+        Window<AuditLog> find(ScrollPosition position, Limit limit);
     }
 
     /**
-     * Extract client IP address from request.
+     * Count failed login attempts for a user after a given time.
+     *
+     * <p>Answered from the {@link LoginFailureTracker} when one is configured and {@code after}
+     * lies within its window; otherwise counted in {@code audit_logs}.
+     *
+     * @param userId the user ID
+     * @param after the time threshold
+     * @return count of failed attempts
      */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        // Handle multiple IPs in X-Forwarded-For (take the first one)
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
+    public long countFailedLoginAttempts(Long userId, Instant after) {
+        if (loginFailureTracker != null) {
+            Duration within = Duration.between(after, Instant.now());
+            if (!within.isNegative() && within.compareTo(loginFailureTracker.getWindow()) <= 0) {
+                return loginFailureTracker.countFailures(userId, within);
+            }
         }
-        return ip;
+        return auditLogRepository.countByUserIdAndSuccessFalseAndCreatedAtAfter(userId, after);
     }
 
     /**
-     * Serialize context data to JSON.
+     * Count failed attempts for a specific action.
+     *
+     * @param action the action type
+     * @return count of failed attempts
      */
-    private String serializeContextData(Map<String, Object> contextData) {
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return objectMapper.writeValueAsString(contextData);
-        } catch (Exception e) {
-            log.warn("Failed to serialize context data", e);
-            return null;
-        }
+    public long countFailedAttempts(String action) {
+        return auditLogRepository.countByActionAndSuccessFalse(action);
+    }
+
+    /**
+     * Find audit log by ID.
+     *
+     * @param id the audit log ID
+     * @return the audit log if found
+     */
+    public Optional<AuditLog> findById(Long id) {
+        return auditLogRepository.findById(id);
     }
 }
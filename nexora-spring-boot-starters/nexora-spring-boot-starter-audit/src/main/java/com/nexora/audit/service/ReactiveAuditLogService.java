@@ -0,0 +1,71 @@
+package com.nexora.audit.service;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.common.api.CursorPageResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Reactive audit log queries for WebFlux exports.
+ *
+ * <p>Streams results page by page with the keyset finders of {@link AuditLogService}.
+ * A page is fetched only when the subscriber has drained the previous one, and each page
+ * runs as its own short query on a bounded elastic thread, so no connection or transaction
+ * is held open for the lifetime of the stream.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class ReactiveAuditLogService {
+
+    private final AuditLogService auditLogService;
+    private final Scheduler scheduler;
+
+    public ReactiveAuditLogService(AuditLogService auditLogService) {
+        this(auditLogService, Schedulers.boundedElastic());
+    }
+
+    public ReactiveAuditLogService(AuditLogService auditLogService, Scheduler scheduler) {
+        this.auditLogService = auditLogService;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Stream audit logs by user ID, newest first.
+     *
+     * @param userId   the user ID
+     * @param pageSize rows fetched per query
+     * @return flux of audit logs
+     */
+    public Flux<AuditLog> streamByUserId(Long userId, int pageSize) {
+        return stream(cursor -> auditLogService.findByUserId(userId, cursor, pageSize));
+    }
+
+    /**
+     * Stream audit logs within a date range, newest first.
+     *
+     * @param start    the start of the range
+     * @param end      the end of the range
+     * @param pageSize rows fetched per query
+     * @return flux of audit logs
+     */
+    public Flux<AuditLog> streamByDateRange(Instant start, Instant end, int pageSize) {
+        return stream(cursor -> auditLogService.findByDateRange(start, end, cursor, pageSize));
+    }
+
+    private Flux<AuditLog> stream(Function<String, CursorPageResult<AuditLog>> fetch) {
+        return fetchPage(fetch, null)
+            .expand(page -> page.hasNext() ? fetchPage(fetch, page.nextCursor()) : Mono.empty())
+            .concatMapIterable(CursorPageResult::records);
+    }
+
+    private Mono<CursorPageResult<AuditLog>> fetchPage(Function<String, CursorPageResult<AuditLog>> fetch,
+                                                       String cursor) {
+        return Mono.fromCallable(() -> fetch.apply(cursor)).subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,110 @@
+package com.nexora.audit.writer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexora.audit.context.AuditContextSerializer;
+import com.nexora.audit.domain.AuditLog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Flat JSON representation of an {@link AuditLog} used for local persistence
+ * outside the database (spill files, the audit journal) and for shipping to Kafka.
+ *
+ * <p>Uses the shared mapper of {@link AuditContextSerializer}. The byte variants encode and
+ * decode UTF-8 directly, without going through an intermediate {@code String}.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public final class AuditLogJson {
+
+    private static final ObjectMapper MAPPER = AuditContextSerializer.objectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private AuditLogJson() {
+    }
+
+    public static String toJson(AuditLog auditLog) {
+        try {
+            return MAPPER.writeValueAsString(toMap(auditLog));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] toBytes(AuditLog auditLog) {
+        try {
+            return MAPPER.writeValueAsBytes(toMap(auditLog));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static AuditLog fromJson(String json) {
+        try {
+            return fromMap(MAPPER.readValue(json, MAP_TYPE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static AuditLog fromBytes(byte[] bytes) {
+        try {
+            return fromMap(MAPPER.readValue(bytes, MAP_TYPE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Object> toMap(AuditLog auditLog) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("action", auditLog.getAction());
+        map.put("userId", auditLog.getUserId());
+        map.put("success", auditLog.isSuccess());
+        map.put("errorMessage", auditLog.getErrorMessage());
+        map.put("ipAddress", auditLog.getIpAddress());
+        map.put("userAgent", auditLog.getUserAgent());
+        map.put("requestUri", auditLog.getRequestUri());
+        map.put("httpMethod", auditLog.getHttpMethod());
+        map.put("contextData", auditLog.getContextData());
+        map.put("moduleName", auditLog.getModuleName());
+        map.put("environment", auditLog.getEnvironment());
+        map.put("clientId", auditLog.getClientId());
+        map.put("sessionId", auditLog.getSessionId());
+        map.put("correlationId", auditLog.getCorrelationId());
+        map.put("createdBy", auditLog.getCreatedBy());
+        map.put("createdAt", auditLog.getCreatedAt() != null ? auditLog.getCreatedAt().toString() : null);
+        return map;
+    }
+
+    private static AuditLog fromMap(Map<String, Object> map) {
+        String action = (String) map.get("action");
+        Long userId = map.get("userId") != null ? ((Number) map.get("userId")).longValue() : null;
+        AuditLog auditLog = Boolean.TRUE.equals(map.get("success"))
+            ? AuditLog.success(action, userId)
+            : AuditLog.failure(action, userId, (String) map.get("errorMessage"));
+        auditLog.setIpAddress((String) map.get("ipAddress"));
+        auditLog.setUserAgent((String) map.get("userAgent"));
+        auditLog.setRequestUri((String) map.get("requestUri"));
+        auditLog.setHttpMethod((String) map.get("httpMethod"));
+        auditLog.setContextData((String) map.get("contextData"));
+        auditLog.setModuleName((String) map.get("moduleName"));
+        auditLog.setEnvironment((String) map.get("environment"));
+        auditLog.setClientId((String) map.get("clientId"));
+        auditLog.setSessionId((String) map.get("sessionId"));
+        auditLog.setCorrelationId((String) map.get("correlationId"));
+        auditLog.setCreatedBy((String) map.get("createdBy"));
+        if (map.get("createdAt") != null) {
+            Instant createdAt = Instant.parse((String) map.get("createdAt"));
+            auditLog.setCreatedAt(createdAt);
+            auditLog.setUpdatedAt(createdAt);
+        }
+        return auditLog;
+    }
+}
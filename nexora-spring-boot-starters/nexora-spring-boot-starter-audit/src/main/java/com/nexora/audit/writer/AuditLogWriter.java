@@ -0,0 +1,25 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.domain.AuditLog;
+
+/**
+ * Strategy for persisting audit logs produced by {@link com.nexora.audit.service.AuditLogService}.
+ *
+ * <p>The default implementation ({@link RepositoryAuditLogWriter}) saves each log through
+ * the JPA repository. {@link BufferedAuditWriter} enqueues logs and writes them in batches.
+ * Register your own bean to override.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AuditLogWriter {
+
+    /**
+     * Persist (or enqueue for persistence) an audit log.
+     *
+     * @param auditLog the audit log
+     * @return the audit log; its ID may still be {@code null} for deferred writers
+     */
+    AuditLog write(AuditLog auditLog);
+}
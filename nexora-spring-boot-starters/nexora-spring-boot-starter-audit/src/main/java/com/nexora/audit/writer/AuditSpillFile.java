@@ -0,0 +1,222 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.domain.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local JSON-lines file that holds audit logs which could not be buffered or written.
+ *
+ * <p>Each instance claims its own {@code instance-N} sub-directory of the configured
+ * directory by holding an exclusive lock on its {@code .lock} file, taking the lowest
+ * free slot. Instances sharing a host and a directory therefore never append to or replay
+ * each other's files, and a restarted instance picks up what a previous one left behind.
+ *
+ * <p>Records are appended to {@code audit-spill.jsonl}. On replay the active file is
+ * rotated to a {@code .replay} file, which is deleted once every batch has been written.
+ * The number of records written so far is kept in a {@code .progress} file next to it,
+ * so a replay that fails part-way resumes after the last successful batch instead of
+ * inserting the earlier batches again. Only a crash between a batch commit and the
+ * progress update can still replay that one batch twice.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+class AuditSpillFile {
+
+    private static final String ACTIVE_FILE = "audit-spill.jsonl";
+    private static final String REPLAY_GLOB = "audit-spill-*.replay";
+    private static final String PROGRESS_SUFFIX = ".progress";
+    private static final String LOCK_FILE = ".lock";
+
+    private final Path directory;
+    private final Path activeFile;
+    private final FileLock instanceLock;
+    private final Object lock = new Object();
+
+    AuditSpillFile(Path root) {
+        Path slotDirectory = null;
+        FileLock slotLock = null;
+        for (int slot = 0; slotLock == null; slot++) {
+            slotDirectory = root.resolve("instance-" + slot);
+            slotLock = tryLock(slotDirectory);
+        }
+        this.directory = slotDirectory;
+        this.activeFile = directory.resolve(ACTIVE_FILE);
+        this.instanceLock = slotLock;
+    }
+
+    private static FileLock tryLock(Path directory) {
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock != null) {
+                return fileLock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Held by another writer in this JVM
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create audit spill directory: " + directory, e);
+        }
+        closeQuietly(channel);
+        return null;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close audit spill lock file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Directory claimed by this instance.
+     */
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Release the directory so another instance can claim it.
+     */
+    void close() {
+        synchronized (lock) {
+            closeQuietly(instanceLock.channel());
+        }
+    }
+
+    /**
+     * Append audit logs to the spill file.
+     */
+    void append(Collection<AuditLog> auditLogs) {
+        synchronized (lock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(activeFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditLog auditLog : auditLogs) {
+                    writer.write(AuditLogJson.toJson(auditLog));
+                    writer.newLine();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to spill audit logs to " + activeFile, e);
+            }
+        }
+    }
+
+    /**
+     * Check whether there are spilled records waiting to be replayed.
+     */
+    boolean hasPending() {
+        if (Files.exists(activeFile)) {
+            return true;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, REPLAY_GLOB)) {
+            return files.iterator().hasNext();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replay spilled records into the sink in batches.
+     *
+     * @param batchSize maximum batch size passed to the sink
+     * @param sink      receives each batch; an exception aborts the replay
+     * @return number of records replayed
+     */
+    int replay(int batchSize, Consumer<List<AuditLog>> sink) {
+        synchronized (lock) {
+            if (Files.exists(activeFile)) {
+                Path rotated = directory.resolve("audit-spill-" + System.currentTimeMillis() + ".replay");
+                try {
+                    Files.move(activeFile, rotated, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to rotate audit spill file", e);
+                }
+            }
+        }
+
+        List<Path> replayFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, REPLAY_GLOB)) {
+            files.forEach(replayFiles::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list audit spill files", e);
+        }
+        replayFiles.sort(null);
+
+        int replayed = 0;
+        for (Path file : replayFiles) {
+            replayed += replayFile(file, batchSize, sink);
+        }
+        return replayed;
+    }
+
+    private int replayFile(Path file, int batchSize, Consumer<List<AuditLog>> sink) {
+        Path progressFile = file.resolveSibling(file.getFileName() + PROGRESS_SUFFIX);
+        int done = readProgress(progressFile);
+        int position = 0;
+        int replayed = 0;
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || position++ < done) {
+                    continue;
+                }
+                batch.add(AuditLogJson.fromJson(line));
+                if (batch.size() >= batchSize) {
+                    sink.accept(batch);
+                    replayed += batch.size();
+                    writeProgress(progressFile, position);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                sink.accept(batch);
+                replayed += batch.size();
+            }
+            Files.delete(file);
+            Files.deleteIfExists(progressFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay audit spill file " + file, e);
+        }
+        log.info("Replayed {} spilled audit logs from {}", replayed, file.getFileName());
+        return replayed;
+    }
+
+    private static int readProgress(Path progressFile) {
+        try {
+            return Files.exists(progressFile) ? Integer.parseInt(Files.readString(progressFile).trim()) : 0;
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Ignoring unreadable audit spill progress {}: {}", progressFile.getFileName(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private static void writeProgress(Path progressFile, int position) throws IOException {
+        Path tmp = progressFile.resolveSibling(progressFile.getFileName() + ".tmp");
+        Files.writeString(tmp, Integer.toString(position));
+        Files.move(tmp, progressFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
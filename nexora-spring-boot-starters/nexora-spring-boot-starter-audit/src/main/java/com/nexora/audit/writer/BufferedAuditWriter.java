@@ -0,0 +1,319 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.domain.AuditLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AuditLogWriter} that enqueues audit logs into a bounded lock-free ring buffer
+ * and flushes them with JDBC batch inserts from a single background thread.
+ *
+ * <p>A batch is flushed when it reaches {@code batch-size} records or when
+ * {@code flush-interval} has elapsed, whichever comes first. When the buffer is full
+ * the configured {@link AuditProperties.OverflowPolicy} applies. On shutdown the
+ * buffer is drained and flushed before the data source is closed.
+ *
+ * <p>Failed flushes are spilled to disk with the SPILL policy; otherwise the batch is
+ * retained and retried, which lets back-pressure build up in the buffer.
+ *
+ * <p>Exposes {@code nexora.audit.buffer.size} and the {@code nexora.audit.buffer.written},
+ * {@code .dropped} and {@code .spilled} counters when Micrometer is configured.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class BufferedAuditWriter implements AuditLogWriter, SmartLifecycle, MeterBinder, DisposableBean {
+
+    private static final long BLOCK_PARK_NANOS = 50_000L;
+
+    private final AuditRingBuffer<AuditLog> buffer;
+    private final JdbcAuditLogWriter jdbcWriter;
+    private final AuditProperties.Buffer config;
+    private final AuditSpillFile spillFile;
+    private final long flushIntervalNanos;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public BufferedAuditWriter(JdbcAuditLogWriter jdbcWriter, AuditProperties.Buffer config) {
+        this(jdbcWriter, config, "application");
+    }
+
+    /**
+     * @param applicationName names the default spill directory when {@code spill-directory} is not set
+     */
+    public BufferedAuditWriter(JdbcAuditLogWriter jdbcWriter, AuditProperties.Buffer config, String applicationName) {
+        this.jdbcWriter = jdbcWriter;
+        this.config = config;
+        this.buffer = new AuditRingBuffer<>(config.getCapacity());
+        this.flushIntervalNanos = config.getFlushInterval().toNanos();
+        this.spillFile = config.getOverflowPolicy() == AuditProperties.OverflowPolicy.SPILL
+            ? new AuditSpillFile(spillDirectory(config, applicationName))
+            : null;
+    }
+
+    private static Path spillDirectory(AuditProperties.Buffer config, String applicationName) {
+        if (config.getSpillDirectory() != null) {
+            return Path.of(config.getSpillDirectory());
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "nexora-audit", applicationName);
+    }
+
+    @Override
+    public AuditLog write(AuditLog auditLog) {
+        if (auditLog.getCreatedAt() == null) {
+            Instant now = Instant.now();
+            auditLog.setCreatedAt(now);
+            auditLog.setUpdatedAt(now);
+        }
+        if (buffer.offer(auditLog)) {
+            if (buffer.size() >= config.getBatchSize()) {
+                wakeFlusher();
+            }
+            return auditLog;
+        }
+        handleOverflow(auditLog);
+        return auditLog;
+    }
+
+    private void handleOverflow(AuditLog auditLog) {
+        switch (config.getOverflowPolicy()) {
+            case DROP -> drop(auditLog);
+            case SPILL -> spill(List.of(auditLog));
+            case BLOCK -> {
+                long deadline = System.nanoTime() + config.getBlockTimeout().toNanos();
+                wakeFlusher();
+                while (!buffer.offer(auditLog)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        drop(auditLog);
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+        }
+    }
+
+    private void drop(AuditLog auditLog) {
+        long count = dropped.incrementAndGet();
+        if (count == 1 || count % 1000 == 0) {
+            log.warn("Audit buffer full, dropped audit log (action={}); {} dropped so far",
+                auditLog.getAction(), count);
+        }
+    }
+
+    private void spill(List<AuditLog> auditLogs) {
+        try {
+            spillFile.append(auditLogs);
+            spilled.addAndGet(auditLogs.size());
+        } catch (Exception e) {
+            log.error("Failed to spill {} audit logs", auditLogs.size(), e);
+            dropped.addAndGet(auditLogs.size());
+        }
+    }
+
+    private void runFlusher() {
+        int batchSize = config.getBatchSize();
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.nanoTime();
+
+        while ((running || !buffer.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long now = System.nanoTime();
+            boolean due = now - lastFlush >= flushIntervalNanos;
+
+            if (batch.size() >= batchSize || (due && !batch.isEmpty())) {
+                lastFlush = now;
+                if (!flush(batch)) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                }
+            } else if (due) {
+                lastFlush = now;
+                replaySpill();
+            } else if (running) {
+                LockSupport.parkNanos(this, flushIntervalNanos - (now - lastFlush));
+            }
+        }
+
+        if (!batch.isEmpty() && !flush(batch)) {
+            log.error("Lost {} audit logs on shutdown", batch.size() + buffer.size());
+        }
+    }
+
+    /**
+     * Write the batch; the batch is cleared unless it must be retried.
+     *
+     * @return false if the write failed and the batch was retained
+     */
+    private boolean flush(List<AuditLog> batch) {
+        try {
+            written.addAndGet(jdbcWriter.write(batch));
+            batch.clear();
+            return true;
+        } catch (Exception e) {
+            if (spillFile != null) {
+                log.warn("Failed to write {} audit logs, spilling to disk: {}", batch.size(), e.getMessage());
+                spill(batch);
+                batch.clear();
+                return true;
+            }
+            log.warn("Failed to write {} audit logs, will retry: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void replaySpill() {
+        if (spillFile == null || !spillFile.hasPending()) {
+            return;
+        }
+        try {
+            spillFile.replay(config.getBatchSize(), batch -> written.addAndGet(jdbcWriter.write(batch)));
+        } catch (Exception e) {
+            log.warn("Failed to replay spilled audit logs, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void wakeFlusher() {
+        Thread thread = flusher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runFlusher, "audit-flusher");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+        log.info("Buffered audit writer started (capacity: {}, batch-size: {}, flush-interval: {}, overflow: {})",
+            buffer.capacity(), config.getBatchSize(), config.getFlushInterval(), config.getOverflowPolicy());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = flusher;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(config.getShutdownTimeout().toMillis());
+            if (thread.isAlive()) {
+                log.warn("Audit buffer did not drain within {}, {} logs pending",
+                    config.getShutdownTimeout(), buffer.size());
+                thread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flusher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Release the spill directory so a restarted instance can claim it.
+     */
+    @Override
+    public void destroy() {
+        if (spillFile != null) {
+            spillFile.close();
+        }
+    }
+
+    /**
+     * Stop after the web server has shut down so in-flight requests can still log.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    /**
+     * Flush buffered logs synchronously from the calling thread.
+     *
+     * <p>Intended for tests and administrative use; normal flushing happens in the background.
+     * If the write fails, the batch is put back into the buffer and the exception is rethrown.
+     *
+     * @return number of logs written
+     */
+    public int flush() {
+        int total = 0;
+        List<AuditLog> batch = new ArrayList<>(config.getBatchSize());
+        while (buffer.drainTo(batch, config.getBatchSize()) > 0) {
+            try {
+                int count = jdbcWriter.write(batch);
+                written.addAndGet(count);
+                total += count;
+            } catch (RuntimeException e) {
+                batch.forEach(auditLog -> {
+                    if (!buffer.offer(auditLog)) {
+                        drop(auditLog);
+                    }
+                });
+                throw e;
+            }
+            batch.clear();
+        }
+        return total;
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("nexora.audit.buffer.size", this, BufferedAuditWriter::getBufferedCount)
+            .description("Audit logs waiting in the ring buffer")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.buffer.written", written, AtomicLong::get)
+            .description("Audit logs written by the buffered writer")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.buffer.dropped", dropped, AtomicLong::get)
+            .description("Audit logs dropped because the buffer was full")
+            .register(registry);
+        FunctionCounter.builder("nexora.audit.buffer.spilled", spilled, AtomicLong::get)
+            .description("Audit logs spilled to disk")
+            .register(registry);
+    }
+}
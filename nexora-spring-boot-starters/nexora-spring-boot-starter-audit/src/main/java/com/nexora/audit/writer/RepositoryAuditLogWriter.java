@@ -0,0 +1,26 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.repository.AuditLogRepository;
+
+/**
+ * Synchronous {@link AuditLogWriter} that saves each audit log through the JPA repository.
+ * The repository's {@code save} is transactional, so the write joins the caller's
+ * transaction or runs in its own.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class RepositoryAuditLogWriter implements AuditLogWriter {
+
+    private final AuditLogRepository auditLogRepository;
+
+    public RepositoryAuditLogWriter(AuditLogRepository auditLogRepository) {
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    @Override
+    public AuditLog write(AuditLog auditLog) {
+        return auditLogRepository.save(auditLog);
+    }
+}
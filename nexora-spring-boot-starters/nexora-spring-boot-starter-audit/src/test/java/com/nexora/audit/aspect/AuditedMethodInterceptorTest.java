@@ -0,0 +1,108 @@
+package com.nexora.audit.aspect;
+
+import com.nexora.audit.annotation.Audited;
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.service.AuditLogService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AuditedMethodInterceptor} and {@link AuditRateLimiter}.
+ */
+class AuditedMethodInterceptorTest {
+
+    static class UserOperations {
+
+        @Audited(action = "USER_UPDATE", module = "user")
+        public String update(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name required");
+            }
+            return name;
+        }
+
+        @Audited(action = "USER_VIEW", sampleRate = 0)
+        public String view() {
+            return "viewed";
+        }
+
+        @Audited(action = "USER_EXPORT", maxPerSecond = 2)
+        public void export() {
+        }
+
+        public void notAudited() {
+        }
+    }
+
+    private final AuditLogService auditLogService = mock(AuditLogService.class);
+
+    private UserOperations proxy() {
+        ProxyFactory factory = new ProxyFactory(new UserOperations());
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new AuditedMethodInterceptor(auditLogService, () -> 7L));
+        return (UserOperations) factory.getProxy();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testRecordsSuccessWithDuration() {
+        assertEquals("alice", proxy().update("alice"));
+
+        ArgumentCaptor<AuditLog> auditLog = ArgumentCaptor.forClass(AuditLog.class);
+        ArgumentCaptor<Map<String, Object>> context = ArgumentCaptor.forClass(Map.class);
+        verify(auditLogService).logAsync(auditLog.capture(), context.capture(), isNull());
+        assertEquals("USER_UPDATE", auditLog.getValue().getAction());
+        assertEquals("user", auditLog.getValue().getModuleName());
+        assertEquals(7L, auditLog.getValue().getUserId());
+        assertTrue(auditLog.getValue().isSuccess());
+        assertEquals("UserOperations.update", context.getValue().get("method"));
+        assertTrue(context.getValue().containsKey("durationMs"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testRecordsFailureAndRethrows() {
+        UserOperations operations = proxy();
+
+        assertThrows(IllegalArgumentException.class, () -> operations.update(null));
+
+        ArgumentCaptor<AuditLog> auditLog = ArgumentCaptor.forClass(AuditLog.class);
+        ArgumentCaptor<Map<String, Object>> context = ArgumentCaptor.forClass(Map.class);
+        verify(auditLogService).logAsync(auditLog.capture(), context.capture(), isNull());
+        assertFalse(auditLog.getValue().isSuccess());
+        assertEquals("name required", auditLog.getValue().getErrorMessage());
+        assertEquals(IllegalArgumentException.class.getName(), context.getValue().get("exception"));
+    }
+
+    @Test
+    void testSamplingAndRateCap() {
+        UserOperations operations = proxy();
+
+        operations.view();
+        for (int i = 0; i < 10; i++) {
+            operations.export();
+        }
+        operations.notAudited();
+
+        verify(auditLogService, times(2)).logAsync(any(AuditLog.class), any(), isNull());
+    }
+
+    @Test
+    void testRateLimiterRefills() {
+        AuditRateLimiter limiter = new AuditRateLimiter(2);
+        long now = System.nanoTime();
+
+        assertTrue(limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now));
+        assertFalse(limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now + 500_000_000L));
+    }
+}
@@ -0,0 +1,112 @@
+package com.nexora.audit.async;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditTaskExecutor}.
+ */
+class AuditTaskExecutorTest {
+
+    private static AuditProperties.AsyncExecutor config(boolean virtualThreads, int maxPending) {
+        AuditProperties.AsyncExecutor config = new AuditProperties.AsyncExecutor();
+        config.setVirtualThreads(virtualThreads);
+        config.setCorePoolSize(1);
+        config.setMaxPoolSize(1);
+        config.setMaxPending(maxPending);
+        return config;
+    }
+
+    @Test
+    void testPlatformModeRunsOnAuditThread() throws Exception {
+        AuditTaskExecutor executor = new AuditTaskExecutor(config(false, 10));
+        try {
+            String threadName = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+            assertEquals("platform", executor.getMode());
+            assertTrue(threadName.startsWith("audit-async-"));
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void testVirtualModeRunsOnVirtualThread() throws Exception {
+        AuditTaskExecutor executor = new AuditTaskExecutor(config(true, 10));
+        try {
+            boolean virtual = executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+            assertEquals("virtual", executor.getMode());
+            assertTrue(virtual);
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void testRejectsWhenMaxPendingReached() throws Exception {
+        AuditTaskExecutor executor = new AuditTaskExecutor(config(false, 2));
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            CompletableFuture<String> rejected = executor.submit(() -> "x");
+            ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+            assertEquals(2, executor.getPendingCount());
+            assertEquals(2, executor.getSubmittedCount());
+            assertEquals(2, executor.getRejectedCount());
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void testSameThreadRunsInline() throws Exception {
+        AuditTaskExecutor executor = AuditTaskExecutor.sameThread();
+
+        Thread caller = Thread.currentThread();
+        Thread runner = executor.submit(Thread::currentThread).get();
+
+        assertSame(caller, runner);
+        assertEquals(0, executor.getPendingCount());
+    }
+
+    @Test
+    void testBindsMetrics() throws Exception {
+        AuditTaskExecutor executor = new AuditTaskExecutor(config(false, 10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try {
+            executor.bindTo(registry);
+            executor.submit(() -> 1).get(5, TimeUnit.SECONDS);
+
+            assertEquals(1.0, registry.get("nexora.audit.executor.submitted").tag("mode", "platform")
+                .functionCounter().count());
+            assertNotNull(registry.get("nexora.audit.executor.rejected").functionCounter());
+            assertNotNull(registry.get("nexora.audit.executor.pending").gauge());
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.nexora.audit.autoconfigure;
+
+import com.nexora.audit.async.AuditTaskExecutor;
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.journal.AuditJournalShipper;
+import com.nexora.audit.journal.AuditShipTarget;
+import com.nexora.audit.login.LocalLoginFailureTracker;
+import com.nexora.audit.login.LoginFailureTracker;
+import com.nexora.audit.retention.AuditRetentionService;
+import com.nexora.audit.rollup.AuditAnalyticsService;
+import com.nexora.audit.rollup.AuditRollupRecorder;
+import com.nexora.audit.service.AuditLogService;
+import com.nexora.audit.writer.AuditLogWriter;
+import com.nexora.audit.writer.BufferedAuditWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.transaction.autoconfigure.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AuditAutoConfiguration} alongside Spring Boot's DataSource and JPA auto-configuration.
+ */
+class AuditAutoConfigurationTest {
+
+    // Listed before Boot's auto-configurations on purpose: the ordering must come from @AutoConfiguration(after)
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(AuditAutoConfiguration.class, DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class))
+        .withUserConfiguration(AuditEntitiesConfiguration.class)
+        .withPropertyValues("spring.jpa.hibernate.ddl-auto=create-drop", "nexora.audit.async=false");
+
+    @Test
+    void testRetentionIsOnByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(AuditLogService.class);
+            assertThat(context).hasSingleBean(AuditRetentionService.class);
+            assertThat(context).doesNotHaveBean(BufferedAuditWriter.class);
+            assertThat(context).doesNotHaveBean(LoginFailureTracker.class);
+        });
+    }
+
+    @Test
+    void testExecutorNamedAuditTaskExecutorIsAdapted() {
+        contextRunner
+            .withUserConfiguration(CustomExecutorConfiguration.class)
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(AuditLogService.class);
+                AuditTaskExecutor executor = context.getBean(AuditTaskExecutor.class);
+                assertThat(executor.getMode()).isEqualTo("custom");
+
+                executor.execute(() -> { });
+                assertThat(context.getBean(CustomExecutorConfiguration.class).executed).hasValue(1);
+            });
+    }
+
+    @Test
+    void testLocalLoginFailureTrackerIsOptIn() {
+        contextRunner
+            .withPropertyValues("nexora.audit.login-failures.enabled=true")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(LocalLoginFailureTracker.class);
+            });
+    }
+
+    @Test
+    void testBufferedWriterActivates() {
+        contextRunner
+            .withPropertyValues("nexora.audit.buffer.enabled=true")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(BufferedAuditWriter.class);
+                assertThat(context.getBean(AuditLogWriter.class)).isInstanceOf(BufferedAuditWriter.class);
+            });
+    }
+
+    @Test
+    void testOnlyDirectWritesOpenTransaction() {
+        contextRunner
+            .withConfiguration(AutoConfigurations.of(TransactionAutoConfiguration.class))
+            .withUserConfiguration(CountingTransactionManagerConfiguration.class)
+            // PostgreSQL mode for the JSONB context_data column
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:audit-transactions;MODE=PostgreSQL")
+            .run(context -> {
+                CountingTransactionManager transactionManager = context.getBean(CountingTransactionManager.class);
+                AuditLog auditLog = context.getBean(AuditLogService.class).log("LOGIN", 1L);
+
+                assertThat(auditLog.getId()).isNotNull();
+                assertThat(transactionManager.begunOn(Thread.currentThread())).isEqualTo(1);
+            });
+        contextRunner
+            .withConfiguration(AutoConfigurations.of(TransactionAutoConfiguration.class))
+            .withUserConfiguration(CountingTransactionManagerConfiguration.class)
+            .withPropertyValues("nexora.audit.buffer.enabled=true")
+            .run(context -> {
+                CountingTransactionManager transactionManager = context.getBean(CountingTransactionManager.class);
+                context.getBean(AuditLogService.class).log("LOGIN", 1L);
+                context.getBean(AuditLogService.class).logFailure("LOGIN", 1L, "bad password");
+
+                assertThat(transactionManager.begunOn(Thread.currentThread())).isZero();
+            });
+    }
+
+    @Test
+    void testRollupsActivate() {
+        contextRunner
+            .withPropertyValues("nexora.audit.rollup.enabled=true")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(AuditRollupRecorder.class);
+                assertThat(context).hasSingleBean(AuditAnalyticsService.class);
+            });
+    }
+
+    @Test
+    void testJournalShipsToDatabase(@TempDir Path directory) {
+        contextRunner
+            .withPropertyValues("nexora.audit.journal.enabled=true", "nexora.audit.journal.target=database",
+                "nexora.audit.journal.directory=" + directory)
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(AuditShipTarget.class);
+                assertThat(context).hasSingleBean(AuditJournalShipper.class);
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CustomExecutorConfiguration {
+
+        final AtomicInteger executed = new AtomicInteger();
+
+        @Bean
+        Executor auditTaskExecutor() {
+            return task -> {
+                executed.incrementAndGet();
+                task.run();
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableJpaAuditing
+    static class CountingTransactionManagerConfiguration {
+
+        @Bean
+        CountingTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new CountingTransactionManager(entityManagerFactory);
+        }
+    }
+
+    static class CountingTransactionManager extends JpaTransactionManager {
+
+        private final List<Thread> begun = new CopyOnWriteArrayList<>();
+
+        CountingTransactionManager(EntityManagerFactory entityManagerFactory) {
+            super(entityManagerFactory);
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.add(Thread.currentThread());
+            super.doBegin(transaction, definition);
+        }
+
+        long begunOn(Thread thread) {
+            return begun.stream().filter(thread::equals).count();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @AutoConfigurationPackage(basePackageClasses = AuditLog.class)
+    static class AuditEntitiesConfiguration {
+    }
+}
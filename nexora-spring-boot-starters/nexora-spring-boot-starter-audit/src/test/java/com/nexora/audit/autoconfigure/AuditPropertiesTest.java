@@ -2,6 +2,8 @@ package com.nexora.audit.autoconfigure;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -32,4 +34,36 @@ class AuditPropertiesTest {
         assertTrue(sensitiveData.isMaskUserAgent());
         assertTrue(sensitiveData.isMaskSessionId());
     }
+
+    @Test
+    void testBufferDefaults() {
+        AuditProperties.Buffer buffer = new AuditProperties().getBuffer();
+
+        assertFalse(buffer.isEnabled());
+        assertEquals(8192, buffer.getCapacity());
+        assertEquals(500, buffer.getBatchSize());
+        assertEquals(Duration.ofMillis(500), buffer.getFlushInterval());
+        assertEquals(AuditProperties.OverflowPolicy.BLOCK, buffer.getOverflowPolicy());
+    }
+
+    @Test
+    void testExecutorDefaults() {
+        AuditProperties.AsyncExecutor executor = new AuditProperties().getExecutor();
+
+        assertFalse(executor.isVirtualThreads());
+        assertEquals(2, executor.getCorePoolSize());
+        assertEquals(10, executor.getMaxPoolSize());
+        assertEquals(1000, executor.getMaxPending());
+    }
+
+    @Test
+    void testJournalDefaults() {
+        AuditProperties.Journal journal = new AuditProperties().getJournal();
+
+        assertFalse(journal.isEnabled());
+        assertTrue(journal.getActions().isEmpty());
+        assertEquals(AuditProperties.FsyncPolicy.INTERVAL, journal.getFsyncPolicy());
+        assertEquals(AuditProperties.ShipTarget.DATABASE, journal.getTarget());
+        assertEquals(500, journal.getShipBatchSize());
+    }
 }
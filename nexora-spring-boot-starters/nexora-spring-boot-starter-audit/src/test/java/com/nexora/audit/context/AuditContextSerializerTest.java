@@ -0,0 +1,89 @@
+package com.nexora.audit.context;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.domain.AuditLog;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AuditContext} and {@link AuditContextSerializer}.
+ */
+class AuditContextSerializerTest {
+
+    private static HttpServletRequest request() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("X-Forwarded-For")).thenReturn("203.0.113.7, 10.0.0.1");
+        when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0 (X11; Linux x86_64) Firefox/130.0");
+        when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+        when(request.getRequestURI()).thenReturn("/api/login");
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getHeader("X-Correlation-ID")).thenReturn("corr-1");
+        return request;
+    }
+
+    @Test
+    void testCaptureResolvesFirstForwardedHop() {
+        AuditContext context = AuditContext.capture(request());
+
+        assertEquals("203.0.113.7", context.clientIp());
+        assertEquals("/api/login", context.requestUri());
+        assertTrue(AuditContext.capture(null).isEmpty());
+    }
+
+    @Test
+    void testApplyMasksAsConfigured() {
+        AuditProperties.SensitiveData config = new AuditProperties.SensitiveData();
+        config.setMaskIp(true);
+        AuditLog auditLog = AuditLog.success("LOGIN", 1L);
+
+        new AuditContextSerializer(config).apply(auditLog, AuditContext.capture(request()));
+
+        assertEquals("203.0.113.0", auditLog.getIpAddress());
+        assertEquals("Mozilla/5.0", auditLog.getUserAgent());
+        assertEquals("POST", auditLog.getHttpMethod());
+        assertEquals("corr-1", auditLog.getCorrelationId());
+    }
+
+    @Test
+    void testApplyWithoutMasking() {
+        AuditProperties.SensitiveData config = new AuditProperties.SensitiveData();
+        config.setMaskUserAgent(false);
+        AuditLog auditLog = AuditLog.success("LOGIN", 1L);
+
+        new AuditContextSerializer(config).apply(auditLog, AuditContext.capture(request()));
+
+        assertEquals("203.0.113.7", auditLog.getIpAddress());
+        assertEquals("Mozilla/5.0 (X11; Linux x86_64) Firefox/130.0", auditLog.getUserAgent());
+    }
+
+    @Test
+    void testContextDataMasksSensitiveKeysAtAnyDepth() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("accessToken", "abc");
+        nested.put("scope", "read");
+        Map<String, Object> contextData = new LinkedHashMap<>();
+        contextData.put("username", "alice");
+        contextData.put("password", "hunter2");
+        contextData.put("grants", List.of(nested));
+
+        String json = new AuditContextSerializer(new AuditProperties.SensitiveData()).toJson(contextData);
+
+        assertEquals("{\"username\":\"alice\",\"password\":\"******\","
+            + "\"grants\":[{\"accessToken\":\"******\",\"scope\":\"read\"}]}", json);
+    }
+
+    @Test
+    void testMaskHelpers() {
+        assertEquals("2001:db8:85a3::", AuditContextSerializer.maskIp("2001:db8:85a3:0:0:8a2e:370:7334"));
+        assertEquals("ABCD******", AuditContextSerializer.maskSessionId("ABCDEF123456"));
+        assertNull(AuditContextSerializer.maskUserAgent(null));
+        assertNull(new AuditContextSerializer(new AuditProperties.SensitiveData()).toBytes(Map.of()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.autoconfigure.AuditProperties.FsyncPolicy;
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.writer.AuditLogJson;
+import com.nexora.audit.writer.AuditLogWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AuditJournalShipper} and {@link JournalAuditLogWriter}.
+ */
+class AuditJournalShipperTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AuditJournal open() {
+        return new AuditJournal(tempDir, 4096, FsyncPolicy.NEVER, Duration.ofSeconds(1));
+    }
+
+    private AuditJournalShipper shipper(AuditJournal journal, AuditShipTarget target) {
+        return new AuditJournalShipper(journal, target, tempDir, 10, Duration.ofMillis(10), Duration.ofMillis(10));
+    }
+
+    @Test
+    void testShipsJournaledLogsAndCheckpoints() {
+        List<AuditLog> shipped = new ArrayList<>();
+        try (AuditJournal journal = open()) {
+            JournalAuditLogWriter writer = new JournalAuditLogWriter(journal, mock(AuditLogWriter.class), Set.of());
+            writer.write(AuditLog.success("LOGIN", 1L));
+            writer.write(AuditLog.failure("LOGIN", 2L, "bad password"));
+
+            AuditJournalShipper shipper = shipper(journal, shipped::addAll);
+
+            assertEquals(2, shipper.shipBatch());
+            assertEquals(0, shipper.shipBatch());
+            assertEquals(0, shipper.getLag());
+            assertEquals(2, shipper.getShippedCount());
+        }
+
+        assertEquals(2, shipped.size());
+        assertEquals(1L, shipped.get(0).getUserId());
+        assertEquals("bad password", shipped.get(1).getErrorMessage());
+    }
+
+    @Test
+    void testResumesFromCheckpointAfterRestart() {
+        List<AuditLog> shipped = new ArrayList<>();
+        try (AuditJournal journal = open()) {
+            journal.append(AuditLogJson.toBytes(AuditLog.success("LOGIN", 1L)));
+            shipper(journal, shipped::addAll).shipBatch();
+            journal.append(AuditLogJson.toBytes(AuditLog.success("LOGOUT", 1L)));
+        }
+
+        try (AuditJournal journal = open()) {
+            AuditJournalShipper shipper = shipper(journal, shipped::addAll);
+            assertEquals(1, shipper.shipBatch());
+        }
+
+        assertEquals(List.of("LOGIN", "LOGOUT"), shipped.stream().map(AuditLog::getAction).toList());
+    }
+
+    @Test
+    void testFailedShipmentIsRetriedFromSamePosition() throws Exception {
+        AuditShipTarget target = mock(AuditShipTarget.class);
+        doThrow(new IllegalStateException("database down")).doNothing().when(target).ship(any());
+        try (AuditJournal journal = open()) {
+            journal.append(AuditLogJson.toBytes(AuditLog.success("LOGIN", 1L)));
+            AuditJournalShipper shipper = shipper(journal, target);
+
+            assertEquals(-1, shipper.shipBatch());
+            assertEquals(0, shipper.getPosition());
+            assertEquals(1, shipper.shipBatch());
+            assertTrue(shipper.getPosition() > 0);
+        }
+        verify(target, times(2)).ship(any());
+    }
+
+    @Test
+    void testShipperSurvivesJournalReadFailure() {
+        AuditJournal journal = mock(AuditJournal.class);
+        when(journal.read(anyLong(), anyInt()))
+            .thenThrow(new UncheckedIOException(new IOException("disk error")))
+            .thenReturn(List.of());
+        AuditJournalShipper shipper = shipper(journal, mock(AuditShipTarget.class));
+
+        shipper.start();
+        try {
+            verify(journal, timeout(2000).atLeast(2)).read(anyLong(), anyInt());
+            assertTrue(shipper.isRunning());
+            assertEquals(1, shipper.getFailureCount());
+        } finally {
+            shipper.stop();
+        }
+    }
+
+    @Test
+    void testWriterRoutesUnselectedActionsToDelegate() {
+        AuditLogWriter delegate = mock(AuditLogWriter.class);
+        try (AuditJournal journal = open()) {
+            JournalAuditLogWriter writer = new JournalAuditLogWriter(journal, delegate, Set.of("LOGIN"));
+            writer.write(AuditLog.success("LOGIN", 1L));
+            AuditLog other = AuditLog.success("VIEW", 1L);
+            writer.write(other);
+
+            verify(delegate).write(other);
+            assertEquals(1, journal.read(0, 10).size());
+        }
+    }
+}
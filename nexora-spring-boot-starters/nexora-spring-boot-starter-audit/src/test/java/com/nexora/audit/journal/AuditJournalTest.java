@@ -0,0 +1,137 @@
+package com.nexora.audit.journal;
+
+import com.nexora.audit.autoconfigure.AuditProperties.FsyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditJournal}.
+ */
+class AuditJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AuditJournal open(int segmentSize) {
+        return new AuditJournal(tempDir, segmentSize, FsyncPolicy.NEVER, Duration.ofSeconds(1));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(JournalRecord record) {
+        return new String(record.payload(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testAppendAndRead() {
+        try (AuditJournal journal = open(1024)) {
+            long first = journal.append(bytes("one"));
+            journal.append(bytes("two"));
+
+            List<JournalRecord> records = journal.read(first, 10);
+
+            assertEquals(2, records.size());
+            assertEquals("one", string(records.get(0)));
+            assertEquals("two", string(records.get(1)));
+            assertEquals(records.get(0).nextPosition(), records.get(1).position());
+            assertEquals(journal.endPosition(), records.get(1).nextPosition());
+            assertTrue(journal.read(journal.endPosition(), 10).isEmpty());
+        }
+    }
+
+    @Test
+    void testReadRollsAcrossSegments() {
+        try (AuditJournal journal = open(64)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(bytes("record-" + i));
+            }
+
+            assertTrue(journal.getSegmentCount() > 1);
+            List<JournalRecord> records = journal.read(0, 100);
+            assertEquals(10, records.size());
+            assertEquals("record-9", string(records.get(9)));
+        }
+    }
+
+    @Test
+    void testRecoversRecordsAfterReopen() {
+        try (AuditJournal journal = open(64)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(bytes("record-" + i));
+            }
+        }
+
+        try (AuditJournal journal = open(64)) {
+            List<JournalRecord> records = journal.read(0, 100);
+            assertEquals(5, records.size());
+
+            long position = journal.append(bytes("after-reopen"));
+            assertTrue(records.get(4).nextPosition() <= position);
+            assertEquals(6, journal.read(0, 100).size());
+        }
+    }
+
+    @Test
+    void testReleaseDeletesConsumedSegments() {
+        try (AuditJournal journal = open(64)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(bytes("record-" + i));
+            }
+            int segments = journal.getSegmentCount();
+
+            journal.release(journal.endPosition());
+
+            assertEquals(1, journal.getSegmentCount());
+            assertTrue(segments > 1);
+            assertTrue(journal.read(0, 100).size() < 10);
+        }
+    }
+
+    @Test
+    void testRollReusesReleasedSegment() throws Exception {
+        try (AuditJournal journal = open(64)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(bytes("record-" + i));
+            }
+            journal.release(journal.endPosition());
+
+            List<Path> spares;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                spares = files.filter(file -> file.toString().endsWith(".spare")).toList();
+            }
+            assertEquals(1, spares.size());
+
+            long position = journal.endPosition();
+            for (int i = 10; i < 14; i++) {
+                journal.append(bytes("record-" + i));
+            }
+
+            assertFalse(Files.exists(spares.get(0)));
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(2, files.filter(file -> file.toString().endsWith(".seg")).count());
+            }
+            List<JournalRecord> records = journal.read(position, 100);
+            assertEquals(4, records.size());
+            assertEquals("record-13", string(records.get(3)));
+        }
+    }
+
+    @Test
+    void testRejectsOversizedPayload() {
+        try (AuditJournal journal = open(64)) {
+            assertThrows(IllegalArgumentException.class, () -> journal.append(new byte[64]));
+            assertThrows(IllegalArgumentException.class, () -> journal.append(new byte[0]));
+        }
+    }
+}
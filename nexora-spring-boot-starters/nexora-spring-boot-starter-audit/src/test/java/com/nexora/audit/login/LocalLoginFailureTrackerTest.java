@@ -0,0 +1,137 @@
+package com.nexora.audit.login;
+
+import com.nexora.audit.async.AuditTaskExecutor;
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.context.AuditContextSerializer;
+import com.nexora.audit.repository.AuditLogRepository;
+import com.nexora.audit.service.AuditLogService;
+import com.nexora.audit.writer.AuditLogWriter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LocalLoginFailureTracker}.
+ */
+class LocalLoginFailureTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    private LocalLoginFailureTracker tracker(int maxTrackedUsers) {
+        return tracker(maxTrackedUsers, Set.of());
+    }
+
+    private LocalLoginFailureTracker tracker(int maxTrackedUsers, Set<String> actions) {
+        AuditProperties.LoginFailures config = new AuditProperties.LoginFailures();
+        config.setActions(new HashSet<>(actions));
+        config.setWindow(Duration.ofMinutes(15));
+        config.setBucket(Duration.ofMinutes(1));
+        config.setMaxTrackedUsers(maxTrackedUsers);
+        return new LocalLoginFailureTracker(config, clock);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toMillis());
+    }
+
+    @Test
+    void testCountsFailuresWithinWindow() {
+        LocalLoginFailureTracker tracker = tracker(100);
+
+        tracker.recordFailure(1L);
+        advance(Duration.ofMinutes(5));
+        tracker.recordFailure(1L);
+        tracker.recordFailure(1L);
+
+        assertEquals(3, tracker.countFailures(1L, Duration.ofMinutes(15)));
+        assertEquals(2, tracker.countFailures(1L, Duration.ofMinutes(1)));
+        assertEquals(0, tracker.countFailures(2L, Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void testOldBucketsSlideOutOfWindow() {
+        LocalLoginFailureTracker tracker = tracker(100);
+
+        tracker.recordFailure(1L);
+        advance(Duration.ofMinutes(10));
+        tracker.recordFailure(1L);
+        advance(Duration.ofMinutes(10));
+
+        assertEquals(1, tracker.countFailures(1L, Duration.ofMinutes(15)));
+        advance(Duration.ofMinutes(10));
+        assertEquals(0, tracker.countFailures(1L, Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void testResetAndEviction() {
+        LocalLoginFailureTracker tracker = tracker(2);
+
+        tracker.recordFailure(1L);
+        tracker.reset(1L);
+        assertEquals(0, tracker.countFailures(1L, Duration.ofMinutes(15)));
+
+        tracker.recordFailure(1L);
+        tracker.recordFailure(2L);
+        advance(Duration.ofMinutes(20));
+        tracker.recordFailure(3L);
+
+        assertEquals(1, tracker.getTrackedUserCount());
+        assertEquals(1, tracker.countFailures(3L, Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void testEveryActionIsTrackedByDefault() {
+        LocalLoginFailureTracker tracker = tracker(100);
+
+        assertTrue(tracker.isTracked("LOGIN"));
+        assertTrue(tracker.isTracked("USER_DELETE"));
+        assertFalse(tracker(100, Set.of("LOGIN")).isTracked("USER_DELETE"));
+    }
+
+    @Test
+    void testServiceUsesTrackerInsteadOfDatabase() {
+        AuditLogRepository repository = mock(AuditLogRepository.class);
+        LocalLoginFailureTracker tracker = tracker(100, Set.of("LOGIN"));
+        AuditLogService service = new AuditLogService(repository, mock(AuditLogWriter.class),
+            AuditTaskExecutor.sameThread(), tracker, new AuditContextSerializer(new AuditProperties.SensitiveData()));
+
+        service.logFailure("LOGIN", 1L, "Invalid credentials");
+        service.logFailure("LOGIN", 1L, "Invalid credentials");
+        service.logFailure("USER_DELETE", 1L, "Not authorized");
+
+        assertEquals(2, service.countFailedLoginAttempts(1L, Instant.now().minus(Duration.ofMinutes(5))));
+        verify(repository, never()).countByUserIdAndSuccessFalseAndCreatedAtAfter(anyLong(), any());
+
+        service.countFailedLoginAttempts(1L, Instant.now().minus(Duration.ofHours(1)));
+        verify(repository).countByUserIdAndSuccessFalseAndCreatedAtAfter(anyLong(), any());
+    }
+}
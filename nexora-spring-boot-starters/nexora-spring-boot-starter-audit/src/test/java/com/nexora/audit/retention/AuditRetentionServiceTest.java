@@ -0,0 +1,154 @@
+package com.nexora.audit.retention;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditRetentionService}.
+ */
+class AuditRetentionServiceTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:retention-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE audit_logs (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "created_at TIMESTAMP NOT NULL, action VARCHAR(64) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE audit_logs_archive (id BIGINT PRIMARY KEY, "
+            + "created_at TIMESTAMP NOT NULL, action VARCHAR(64) NOT NULL)");
+    }
+
+    private void insert(int count, Instant createdAt) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO audit_logs (created_at, action) VALUES (?, ?)",
+                Timestamp.from(createdAt), "LOGIN");
+        }
+    }
+
+    private AuditRetentionService service(AuditProperties.Retention config) {
+        return new AuditRetentionService(dataSource, new DataSourceTransactionManager(dataSource), 90, config);
+    }
+
+    private static AuditProperties.Retention config(int chunkSize) {
+        AuditProperties.Retention config = new AuditProperties.Retention();
+        config.setChunkSize(chunkSize);
+        config.setChunkPause(Duration.ZERO);
+        return config;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @Test
+    void testPurgeDeletesExpiredRowsInChunks() {
+        Instant now = Instant.now();
+        insert(25, now.minus(100, ChronoUnit.DAYS));
+        insert(5, now.minus(10, ChronoUnit.DAYS));
+
+        RetentionResult result = service(config(10)).purge();
+
+        assertEquals(25, result.rowsPurged());
+        assertTrue(result.completed());
+        assertEquals(5, count("audit_logs"));
+    }
+
+    @Test
+    void testPurgeArchivesRowsBeforeDeleting() {
+        insert(7, Instant.now().minus(200, ChronoUnit.DAYS));
+        AuditProperties.Retention config = config(3);
+        config.setArchiveTable("audit_logs_archive");
+
+        RetentionResult result = service(config).purge();
+
+        assertEquals(7, result.rowsPurged());
+        assertEquals(0, count("audit_logs"));
+        assertEquals(7, count("audit_logs_archive"));
+    }
+
+    @Test
+    void testConcurrentPurgeDoesNotArchiveTwice() throws Exception {
+        insert(4, Instant.now().minus(200, ChronoUnit.DAYS));
+        AuditProperties.Retention config = config(10);
+        config.setArchiveTable("audit_logs_archive");
+
+        // Another node has archived and deleted the rows but not committed yet
+        try (Connection otherNode = dataSource.getConnection()) {
+            otherNode.setAutoCommit(false);
+            try (Statement statement = otherNode.createStatement()) {
+                statement.executeUpdate("INSERT INTO audit_logs_archive SELECT * FROM audit_logs");
+                statement.executeUpdate("DELETE FROM audit_logs");
+            }
+            CompletableFuture<RetentionResult> purge = CompletableFuture.supplyAsync(() -> service(config).purge());
+            Thread.sleep(200);
+            otherNode.commit();
+
+            assertEquals(0, purge.get(10, TimeUnit.SECONDS).rowsPurged());
+        }
+        assertEquals(0, count("audit_logs"));
+        assertEquals(4, count("audit_logs_archive"));
+    }
+
+    @Test
+    void testPurgeStopsAtTimeBudget() {
+        insert(10, Instant.now().minus(100, ChronoUnit.DAYS));
+        AuditProperties.Retention config = config(2);
+        config.setMaxRunTime(Duration.ZERO);
+
+        RetentionResult result = service(config).purge();
+
+        assertFalse(result.completed());
+        assertEquals(2, result.rowsPurged());
+        assertEquals(8, count("audit_logs"));
+    }
+
+    @Test
+    void testPartitionModeFallsBackToDeleteOutsidePostgres() {
+        AuditProperties.Retention config = config(10);
+        config.setMode(AuditProperties.RetentionMode.PARTITION);
+
+        assertEquals(AuditProperties.RetentionMode.DELETE, service(config).getMode());
+    }
+
+    @Test
+    void testPartitionNaming() {
+        LocalDate date = LocalDate.of(2026, 1, 15);
+
+        assertEquals("audit_logs_p202602",
+            AuditRetentionService.partitionName(
+                AuditRetentionService.partitionStart(date, AuditProperties.PartitionPeriod.MONTHLY, 1),
+                AuditProperties.PartitionPeriod.MONTHLY));
+        assertEquals(Instant.parse("2026-02-01T00:00:00Z"), AuditRetentionService.partitionEnd("audit_logs_p202601"));
+        assertEquals(Instant.parse("2026-01-16T00:00:00Z"), AuditRetentionService.partitionEnd("audit_logs_p20260115"));
+        assertNull(AuditRetentionService.partitionEnd("audit_logs_default"));
+    }
+
+    @Test
+    void testInvalidArchiveTableRejected() {
+        AuditProperties.Retention config = config(10);
+        config.setArchiveTable("audit_logs; DROP TABLE users");
+
+        assertThrows(IllegalArgumentException.class, () -> service(config));
+    }
+}
@@ -0,0 +1,116 @@
+package com.nexora.audit.rollup;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.domain.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditRollupRecorder} and {@link AuditAnalyticsService}.
+ */
+class AuditRollupRecorderTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T10:15:20Z");
+
+    private DriverManagerDataSource dataSource;
+    private AuditRollupRecorder recorder;
+    private AuditAnalyticsService analytics;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:rollup-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE audit_rollups (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "granularity VARCHAR(8) NOT NULL, bucket_start TIMESTAMP NOT NULL, action VARCHAR(64) NOT NULL, "
+            + "module_name VARCHAR(100) NOT NULL, success BOOLEAN NOT NULL, user_id BIGINT NOT NULL, "
+            + "event_count BIGINT NOT NULL, "
+            + "CONSTRAINT uk_audit_rollups_key UNIQUE (granularity, bucket_start, action, module_name, success, user_id))");
+        recorder = new AuditRollupRecorder(dataSource, new DataSourceTransactionManager(dataSource),
+            new AuditProperties.Rollup());
+        analytics = new AuditAnalyticsService(dataSource);
+    }
+
+    private void record(String action, Long userId, boolean success, Instant createdAt) {
+        AuditLog auditLog = success ? AuditLog.success(action, userId) : AuditLog.failure(action, userId, "error");
+        auditLog.setCreatedAt(createdAt);
+        recorder.record(auditLog);
+    }
+
+    @Test
+    void testFlushAccumulatesAcrossRuns() {
+        record("LOGIN", 1L, false, T0);
+        record("LOGIN", 1L, false, T0.plusSeconds(10));
+        assertEquals(2, recorder.flush());
+
+        record("LOGIN", 1L, false, T0.plusSeconds(20));
+        recorder.flush();
+
+        assertEquals(0, recorder.getPendingCount());
+        assertEquals(3, analytics.count(T0.minusSeconds(3600), T0.plusSeconds(3600), "LOGIN", false));
+        assertEquals(0, analytics.count(T0.minusSeconds(3600), T0.plusSeconds(3600), "LOGIN", true));
+    }
+
+    @Test
+    void testTimeSeriesPerMinute() {
+        record("LOGIN", 1L, true, T0);
+        record("LOGIN", 2L, true, T0.plusSeconds(60));
+        record("LOGIN", 3L, true, T0.plusSeconds(61));
+        recorder.flush();
+
+        List<RollupPoint> points = analytics.timeSeries(RollupGranularity.MINUTE,
+            T0.minusSeconds(600), T0.plusSeconds(600), "LOGIN", null);
+
+        assertEquals(List.of(
+            new RollupPoint(Instant.parse("2026-03-01T10:15:00Z"), 1),
+            new RollupPoint(Instant.parse("2026-03-01T10:16:00Z"), 2)), points);
+    }
+
+    @Test
+    void testTopUsersAndActions() {
+        record("LOGIN", 1L, false, T0);
+        record("LOGIN", 2L, false, T0);
+        record("LOGIN", 2L, false, T0);
+        record("EXPORT", 3L, true, T0);
+        record("SYSTEM_JOB", null, true, T0);
+        recorder.flush();
+
+        List<RollupCount> users = analytics.top(RollupDimension.USER,
+            T0.minusSeconds(3600), T0.plusSeconds(3600), null, false, 1);
+        List<RollupCount> actions = analytics.top(RollupDimension.ACTION,
+            T0.minusSeconds(3600), T0.plusSeconds(3600), null, null, 10);
+
+        assertEquals(List.of(new RollupCount("2", 2)), users);
+        assertEquals(new RollupCount("LOGIN", 3), actions.get(0));
+        assertEquals(3, actions.size());
+    }
+
+    @Test
+    void testCountUsesHourRollupsBeyondMinuteRetention() {
+        Instant now = T0.plus(Duration.ofDays(5));
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+        AuditProperties.Rollup config = new AuditProperties.Rollup();
+        recorder = new AuditRollupRecorder(dataSource, new DataSourceTransactionManager(dataSource), config, clock);
+        analytics = new AuditAnalyticsService(dataSource, config, clock);
+        record("LOGIN", 1L, false, now.minus(Duration.ofDays(3)));
+        record("LOGIN", 1L, false, now.minus(Duration.ofMinutes(10)));
+        recorder.flush();
+        recorder.purge();
+
+        assertEquals(2, analytics.count(now.minus(Duration.ofDays(4)), now, "LOGIN", false));
+        assertEquals(1, analytics.count(now.minus(Duration.ofDays(4)), now.minus(Duration.ofDays(2)), "LOGIN", false));
+        assertEquals(1, analytics.count(now.minus(Duration.ofMinutes(30)), now, "LOGIN", false));
+        assertEquals(1, analytics.count(RollupGranularity.MINUTE, now.minus(Duration.ofDays(4)), now, "LOGIN", false));
+    }
+}
@@ -0,0 +1,98 @@
+package com.nexora.audit.service;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.audit.repository.AuditLogRepository;
+import com.nexora.common.api.CursorPageResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the keyset and streaming queries of {@link AuditLogService}.
+ */
+class AuditLogQueryTest {
+
+    private final AuditLogRepository repository = mock(AuditLogRepository.class);
+    private final AuditLogService service = new AuditLogService(repository);
+
+    private static AuditLog auditLog(long id, Instant createdAt) {
+        AuditLog auditLog = AuditLog.success("LOGIN", 1L);
+        ReflectionTestUtils.setField(auditLog, "id", id);
+        auditLog.setCreatedAt(createdAt);
+        return auditLog;
+    }
+
+    private static Window<AuditLog> window(List<AuditLog> records, boolean hasNext) {
+        return Window.from(records, index -> ScrollPosition.keyset(), hasNext);
+    }
+
+    @Test
+    void testCursorRoundTrip() {
+        Instant createdAt = Instant.parse("2026-01-15T10:15:30.123456Z");
+
+        ScrollPosition position = AuditLogCursor.decode(AuditLogCursor.encode(auditLog(42L, createdAt)));
+
+        KeysetScrollPosition keyset = assertInstanceOf(KeysetScrollPosition.class, position);
+        assertEquals(createdAt, keyset.getKeys().get("createdAt"));
+        assertEquals(42L, keyset.getKeys().get("id"));
+        assertTrue(AuditLogCursor.decode(null).isInitial());
+        assertThrows(IllegalArgumentException.class, () -> AuditLogCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void testFindByUserIdReturnsNextCursor() {
+        Instant now = Instant.now();
+        List<AuditLog> records = List.of(auditLog(2L, now), auditLog(1L, now.minusSeconds(1)));
+        when(repository.findByUserIdOrderByCreatedAtDescIdDesc(eq(1L), any(), eq(Limit.of(2))))
+            .thenReturn(window(records, true));
+
+        CursorPageResult<AuditLog> page = service.findByUserId(1L, null, 2);
+
+        assertEquals(records, page.records());
+        assertTrue(page.hasNext());
+        assertEquals(AuditLogCursor.encode(records.get(1)), page.nextCursor());
+    }
+
+    @Test
+    void testLastPageHasNoCursorAndSizeIsCapped() {
+        when(repository.findByActionOrderByCreatedAtDescIdDesc(eq("LOGIN"), any(), any()))
+            .thenReturn(window(List.of(auditLog(1L, Instant.now())), false));
+
+        CursorPageResult<AuditLog> page = service.findByAction("LOGIN", null, 100_000);
+
+        assertFalse(page.hasNext());
+        assertEquals(AuditLogService.MAX_PAGE_SIZE, page.size());
+        verify(repository).findByActionOrderByCreatedAtDescIdDesc(eq("LOGIN"), any(),
+            eq(Limit.of(AuditLogService.MAX_PAGE_SIZE)));
+    }
+
+    @Test
+    void testReactiveStreamFollowsCursors() {
+        Instant now = Instant.now();
+        AuditLog first = auditLog(2L, now);
+        AuditLog second = auditLog(1L, now.minusSeconds(1));
+        when(repository.findByUserIdOrderByCreatedAtDescIdDesc(eq(1L), any(), any()))
+            .thenReturn(window(List.of(first), true))
+            .thenReturn(window(List.of(second), false));
+
+        List<AuditLog> result = new ReactiveAuditLogService(service, Schedulers.immediate())
+            .streamByUserId(1L, 1)
+            .collectList()
+            .block();
+
+        assertEquals(List.of(first, second), result);
+        verify(repository, times(2)).findByUserIdOrderByCreatedAtDescIdDesc(eq(1L), any(), any());
+    }
+}
@@ -0,0 +1,39 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.context.AuditContextSerializer;
+import com.nexora.audit.domain.AuditLog;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditLogJson}.
+ */
+class AuditLogJsonTest {
+
+    @Test
+    void testBytesRoundTripKeepsContextData() {
+        Map<String, Object> contextData = new LinkedHashMap<>();
+        contextData.put("username", "jürgen");
+        contextData.put("password", "hunter2");
+        AuditContextSerializer serializer = new AuditContextSerializer(new AuditProperties.SensitiveData());
+        AuditLog auditLog = AuditLog.failure("LOGIN", 1L, "bad password");
+        auditLog.setContextData(serializer.toJson(contextData));
+        auditLog.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+
+        byte[] bytes = AuditLogJson.toBytes(auditLog);
+        AuditLog restored = AuditLogJson.fromBytes(bytes);
+
+        assertEquals(new String(serializer.toBytes(contextData), StandardCharsets.UTF_8), restored.getContextData());
+        assertEquals("{\"username\":\"jürgen\",\"password\":\"******\"}", restored.getContextData());
+        assertEquals("bad password", restored.getErrorMessage());
+        assertEquals(Instant.parse("2026-01-01T00:00:00Z"), restored.getCreatedAt());
+        assertArrayEquals(AuditLogJson.toJson(auditLog).getBytes(StandardCharsets.UTF_8), bytes);
+    }
+}
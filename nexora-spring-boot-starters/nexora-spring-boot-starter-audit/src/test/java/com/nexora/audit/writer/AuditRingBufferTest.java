@@ -0,0 +1,100 @@
+package com.nexora.audit.writer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditRingBuffer}.
+ */
+class AuditRingBufferTest {
+
+    @Test
+    void testCapacityRoundedUpToPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer<>(5).capacity());
+        assertEquals(8, new AuditRingBuffer<>(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer<>(1));
+    }
+
+    @Test
+    void testOfferAndPollInOrder() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertEquals(2, buffer.size());
+
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testOfferFailsWhenFull() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(2);
+
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+
+        buffer.poll();
+        assertTrue(buffer.offer(3));
+    }
+
+    @Test
+    void testDrainToRespectsMax() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> target = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(target, 3));
+        assertEquals(List.of(0, 1, 2), target);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void testConcurrentProducersLoseNothing() throws Exception {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        while (consumed.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                consumed.add(value);
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        assertEquals(producers * perProducer, consumed.size());
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.domain.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuditSpillFile}.
+ */
+class AuditSpillFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testInstancesClaimSeparateDirectories() {
+        AuditSpillFile first = new AuditSpillFile(tempDir);
+        AuditSpillFile second = new AuditSpillFile(tempDir);
+        first.append(List.of(AuditLog.success("FIRST", 1L)));
+
+        assertEquals(tempDir.resolve("instance-0"), first.getDirectory());
+        assertEquals(tempDir.resolve("instance-1"), second.getDirectory());
+        assertFalse(second.hasPending());
+
+        first.close();
+        AuditSpillFile restarted = new AuditSpillFile(tempDir);
+        List<String> replayed = new ArrayList<>();
+
+        assertEquals(tempDir.resolve("instance-0"), restarted.getDirectory());
+        assertEquals(1, restarted.replay(10, batch -> batch.forEach(auditLog -> replayed.add(auditLog.getAction()))));
+        assertEquals(List.of("FIRST"), replayed);
+        second.close();
+        restarted.close();
+    }
+
+    @Test
+    void testFailedReplayResumesAfterLastWrittenBatch() {
+        AuditSpillFile spillFile = new AuditSpillFile(tempDir);
+        List<AuditLog> auditLogs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            auditLogs.add(AuditLog.success("A" + i, 1L));
+        }
+        spillFile.append(auditLogs);
+        List<String> replayed = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> spillFile.replay(2, batch -> {
+            if (!replayed.isEmpty()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            batch.forEach(auditLog -> replayed.add(auditLog.getAction()));
+        }));
+        assertTrue(spillFile.hasPending());
+
+        assertEquals(3, spillFile.replay(2, batch -> batch.forEach(auditLog -> replayed.add(auditLog.getAction()))));
+        assertEquals(List.of("A0", "A1", "A2", "A3", "A4"), replayed);
+        assertFalse(spillFile.hasPending());
+        spillFile.close();
+    }
+}
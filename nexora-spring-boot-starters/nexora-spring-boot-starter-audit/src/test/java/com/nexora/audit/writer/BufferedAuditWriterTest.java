@@ -0,0 +1,147 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.autoconfigure.AuditProperties;
+import com.nexora.audit.domain.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link BufferedAuditWriter}.
+ */
+class BufferedAuditWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AuditProperties.Buffer config(AuditProperties.OverflowPolicy policy) {
+        AuditProperties.Buffer config = new AuditProperties.Buffer();
+        config.setCapacity(4);
+        config.setBatchSize(2);
+        config.setFlushInterval(Duration.ofMillis(50));
+        config.setBlockTimeout(Duration.ofMillis(10));
+        config.setOverflowPolicy(policy);
+        config.setSpillDirectory(tempDir.toString());
+        return config;
+    }
+
+    private static JdbcAuditLogWriter recordingWriter(List<AuditLog> sink) {
+        JdbcAuditLogWriter jdbcWriter = mock(JdbcAuditLogWriter.class);
+        when(jdbcWriter.write(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> batch = invocation.getArgument(0);
+            synchronized (sink) {
+                sink.addAll(batch);
+            }
+            return batch.size();
+        });
+        return jdbcWriter;
+    }
+
+    @Test
+    void testWriteEnqueuesAndStampsCreatedAt() {
+        JdbcAuditLogWriter jdbcWriter = mock(JdbcAuditLogWriter.class);
+        BufferedAuditWriter writer = new BufferedAuditWriter(jdbcWriter, config(AuditProperties.OverflowPolicy.DROP));
+
+        AuditLog auditLog = writer.write(AuditLog.success("LOGIN", 1L));
+
+        assertNotNull(auditLog.getCreatedAt());
+        assertEquals(1, writer.getBufferedCount());
+        verifyNoInteractions(jdbcWriter);
+    }
+
+    @Test
+    void testFlushWritesInBatches() {
+        List<AuditLog> written = new ArrayList<>();
+        BufferedAuditWriter writer = new BufferedAuditWriter(recordingWriter(written),
+            config(AuditProperties.OverflowPolicy.DROP));
+
+        writer.write(AuditLog.success("A", 1L));
+        writer.write(AuditLog.success("B", 1L));
+        writer.write(AuditLog.success("C", 1L));
+
+        assertEquals(3, writer.flush());
+        assertEquals(3, written.size());
+        assertEquals(0, writer.getBufferedCount());
+        assertEquals(3, writer.getWrittenCount());
+    }
+
+    @Test
+    void testDropPolicyCountsOverflow() {
+        BufferedAuditWriter writer = new BufferedAuditWriter(mock(JdbcAuditLogWriter.class),
+            config(AuditProperties.OverflowPolicy.DROP));
+
+        for (int i = 0; i < 6; i++) {
+            writer.write(AuditLog.success("A", 1L));
+        }
+
+        assertEquals(4, writer.getBufferedCount());
+        assertEquals(2, writer.getDroppedCount());
+    }
+
+    @Test
+    void testBlockPolicyDropsAfterTimeoutWithoutFlusher() {
+        BufferedAuditWriter writer = new BufferedAuditWriter(mock(JdbcAuditLogWriter.class),
+            config(AuditProperties.OverflowPolicy.BLOCK));
+
+        for (int i = 0; i < 5; i++) {
+            writer.write(AuditLog.success("A", 1L));
+        }
+
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    @Test
+    void testSpillPolicyReplaysAfterRestart() {
+        BufferedAuditWriter writer = new BufferedAuditWriter(mock(JdbcAuditLogWriter.class),
+            config(AuditProperties.OverflowPolicy.SPILL));
+        for (int i = 0; i < 6; i++) {
+            writer.write(AuditLog.failure("A" + i, 1L, "error"));
+        }
+        assertEquals(2, writer.getSpilledCount());
+        writer.destroy();
+
+        List<AuditLog> written = new ArrayList<>();
+        BufferedAuditWriter restarted = new BufferedAuditWriter(recordingWriter(written),
+            config(AuditProperties.OverflowPolicy.SPILL));
+        restarted.start();
+        try {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (written.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            restarted.stop();
+        }
+
+        assertEquals(2, written.size());
+        assertEquals("A4", written.get(0).getAction());
+        assertTrue(written.get(0).isFailure());
+        assertEquals("error", written.get(0).getErrorMessage());
+    }
+
+    @Test
+    void testStopFlushesPendingLogs() {
+        List<AuditLog> written = new ArrayList<>();
+        AuditProperties.Buffer config = config(AuditProperties.OverflowPolicy.DROP);
+        config.setFlushInterval(Duration.ofHours(1));
+        config.setBatchSize(100);
+        BufferedAuditWriter writer = new BufferedAuditWriter(recordingWriter(written), config);
+
+        writer.start();
+        writer.write(AuditLog.success("A", 1L));
+        writer.write(AuditLog.success("B", 1L));
+        writer.stop();
+
+        assertFalse(writer.isRunning());
+        assertEquals(2, written.size());
+        assertEquals(0, writer.getBufferedCount());
+    }
+}
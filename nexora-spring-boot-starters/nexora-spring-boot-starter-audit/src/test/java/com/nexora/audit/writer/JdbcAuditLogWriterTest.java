@@ -0,0 +1,65 @@
+package com.nexora.audit.writer;
+
+import com.nexora.audit.domain.AuditLog;
+import com.nexora.datajp.id.ConfigurableIdGenerator;
+import com.nexora.datajp.id.IdStrategy;
+import com.nexora.datajp.id.SnowflakeIdGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link JdbcAuditLogWriter}.
+ */
+class JdbcAuditLogWriterTest {
+
+    @Test
+    void testSequenceStrategyAssignsIds() {
+        List<Long> ids = write(IdStrategy.SEQUENCE);
+
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    void testSnowflakeStrategyAssignsIds() {
+        List<Long> ids = write(IdStrategy.SNOWFLAKE);
+
+        assertEquals(3, ids.size());
+        assertTrue(ids.get(0) < ids.get(1) && ids.get(1) < ids.get(2));
+        assertEquals(7, SnowflakeIdGenerator.nodeIdOf(ids.get(0)));
+    }
+
+    private static List<Long> write(IdStrategy strategy) {
+        // PostgreSQL mode for the JSONB context_data column
+        String url = "jdbc:h2:mem:jdbc-writer-" + strategy + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+        try (SessionFactory sessionFactory = new Configuration()
+            .addAnnotatedClass(AuditLog.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(ConfigurableIdGenerator.STRATEGY_SETTING, strategy.name())
+            .setProperty(ConfigurableIdGenerator.NODE_ID_SETTING, "7")
+            .buildSessionFactory()) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+            JdbcAuditLogWriter writer = new JdbcAuditLogWriter(dataSource,
+                new DataSourceTransactionManager(dataSource), sessionFactory);
+
+            List<AuditLog> auditLogs = List.of(AuditLog.success("LOGIN", 1L),
+                AuditLog.failure("LOGIN", 2L, "bad password"), AuditLog.success("LOGOUT", 1L));
+
+            assertEquals(3, writer.write(auditLogs));
+            List<Long> ids = new JdbcTemplate(dataSource)
+                .queryForList("SELECT id FROM audit_logs ORDER BY id", Long.class);
+            assertEquals(auditLogs.stream().map(AuditLog::getId).toList(), ids);
+            return ids;
+        }
+    }
+}
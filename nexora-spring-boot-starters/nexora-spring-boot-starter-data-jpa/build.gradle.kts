@@ -23,7 +23,24 @@ dependencies {
     // Spring Data JDBC (optional, for lighter weight)
     compileOnly(libs.spring.boot.starter.data.jdbc)
 
+    // Second-level cache (optional): Caffeine regions, Redis invalidation
+    compileOnly(libs.spring.boot.starter.cache)
+    compileOnly(libs.caffeine)
+    compileOnly(libs.redisson)
+
+    // Micrometer for SQL statistics histograms (optional)
+    compileOnly(libs.micrometer.core)
+
+    // Spring Web (optional per-request SQL statistics)
+    compileOnly(libs.jakarta.servlet.api)
+    compileOnly("org.springframework:spring-web")
+
     // Test dependencies
     testImplementation(libs.spring.boot.starter.test)
     testImplementation(libs.h2)
+    testImplementation(libs.spring.boot.starter.cache)
+    testImplementation(libs.caffeine)
+    testImplementation(libs.micrometer.core)
+    testImplementation(libs.jakarta.servlet.api)
+    testImplementation("org.springframework:spring-web")
 }
@@ -1,17 +1,57 @@
 package com.nexora.datajp.autoconfigure;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.nexora.datajp.cache.CacheInvalidationBus;
+import com.nexora.datajp.cache.CacheManagerRegionFactory;
+import com.nexora.datajp.cache.RedissonCacheInvalidationBus;
+import com.nexora.datajp.id.ConfigurableIdGenerator;
+import com.nexora.datajp.id.IdStrategy;
+import com.nexora.datajp.routing.ReadWriteRoutingPostProcessor;
+import com.nexora.datajp.routing.ReadYourWritesFilter;
+import com.nexora.datajp.routing.Replica;
+import com.nexora.datajp.routing.ReplicaLagMonitor;
+import com.nexora.datajp.routing.ReplicaSet;
+import com.nexora.datajp.softdelete.SoftDeleteCompactor;
+import com.nexora.datajp.stats.JdbcTimingSessionListener;
+import com.nexora.datajp.stats.QueryStatisticsFilter;
+import com.nexora.datajp.stats.QueryStatisticsInspector;
+import com.nexora.datajp.stats.QueryStatisticsReporter;
+import com.nexora.datajp.stats.QueryStatisticsTransactionListener;
+import com.nexora.datajp.tenant.TenantConnectionProvider;
+import com.nexora.datajp.tenant.HeaderTenantResolver;
+import com.nexora.datajp.tenant.TenantFilter;
+import com.nexora.datajp.tenant.TenantIdentifierResolver;
+import com.nexora.datajp.tenant.TenantResolver;
+import com.nexora.datajp.tenant.TenantStorage;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,6 +61,12 @@ import java.util.Optional;
  * <ul>
  *   <li>JPA auditing support for {@link com.nexora.datajp.support.BaseEntity}</li>
  *   <li>Default auditor aware implementation</li>
+ *   <li>Configurable id generation and Hibernate JDBC batch settings</li>
+ *   <li>Optional read/write routing of read-only transactions to replicas</li>
+ *   <li>Optional second-level and query cache on Caffeine with cross-node invalidation</li>
+ *   <li>Optional per-request/per-transaction SQL statistics with N+1 detection</li>
+ *   <li>Optional multi-tenancy with per-tenant schema or database routing</li>
+ *   <li>Optional background compaction of soft-deleted rows</li>
  * </ul>
  *
  * @author sujie
@@ -30,23 +76,349 @@ import java.util.Optional;
 @AutoConfiguration
 @ConditionalOnClass(EntityManagerFactory.class)
 @EnableConfigurationProperties(JpaProperties.class)
-@ConditionalOnProperty(prefix = "nexora.jpa.auditing", name = "enabled", havingValue = "true", matchIfMissing = true)
-@EnableJpaAuditing(auditorAwareRef = "auditorAware")
 public class JpaAutoConfiguration {
 
     public JpaAutoConfiguration(JpaProperties properties) {
-        log.info("JPA auto-configuration initialized with auditing enabled: {}",
-            properties.getAuditing().isEnabled());
+        log.info("JPA auto-configuration initialized with auditing enabled: {}, id strategy: {}",
+            properties.getAuditing().isEnabled(), properties.getIdGeneration().getStrategy());
     }
 
     /**
-     * Default auditor aware implementation.
-     * Returns an empty optional - users should override this bean
-     * to provide actual auditor information (e.g., current user ID).
+     * JPA auditing configuration.
      */
-    @Bean
-    @ConditionalOnMissingBean
-    public AuditorAware<Long> auditorAware() {
-        return () -> Optional.empty();
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nexora.jpa.auditing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @EnableJpaAuditing(auditorAwareRef = "auditorAware")
+    static class AuditingConfiguration {
+
+        /**
+         * Default auditor aware implementation.
+         * Returns an empty optional - users should override this bean
+         * to provide actual auditor information (e.g., current user ID).
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditorAware<Long> auditorAware() {
+            return () -> Optional.empty();
+        }
+    }
+
+    /**
+     * Hibernate settings configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(HibernatePropertiesCustomizer.class)
+    static class HibernateSettingsConfiguration {
+
+        /**
+         * Pass the id strategy to {@link ConfigurableIdGenerator} and turn on
+         * JDBC batching. Batch values already present in
+         * {@code spring.jpa.properties} are left untouched.
+         *
+         * @throws IllegalStateException if SNOWFLAKE is selected without a node id
+         */
+        @Bean
+        public HibernatePropertiesCustomizer nexoraHibernatePropertiesCustomizer(JpaProperties properties) {
+            return hibernateProperties -> {
+                JpaProperties.IdGeneration id = properties.getIdGeneration();
+                hibernateProperties.put(ConfigurableIdGenerator.STRATEGY_SETTING, id.getStrategy().name());
+                hibernateProperties.put(ConfigurableIdGenerator.INCREMENT_SIZE_SETTING, String.valueOf(id.getIncrementSize()));
+                if (id.getStrategy() == IdStrategy.SNOWFLAKE) {
+                    if (id.getNodeId() == null) {
+                        throw new IllegalStateException("nexora.jpa.id-generation.node-id must be set to a value "
+                            + "unique per running instance when the SNOWFLAKE strategy is used");
+                    }
+                    hibernateProperties.put(ConfigurableIdGenerator.NODE_ID_SETTING, String.valueOf(id.getNodeId()));
+                }
+
+                JpaProperties.Batch batch = properties.getBatch();
+                if (batch.isEnabled()) {
+                    hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batch.getSize()));
+                    hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, String.valueOf(batch.isOrderInserts()));
+                    hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, String.valueOf(batch.isOrderUpdates()));
+                }
+            };
+        }
+    }
+
+    /**
+     * Read/write routing configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(DataSourceBuilder.class)
+    @ConditionalOnProperty(prefix = "nexora.jpa.routing", name = "enabled", havingValue = "true")
+    static class ReadWriteRoutingConfiguration {
+
+        /**
+         * Replicas are kept behind a {@link ReplicaSet}, not a {@link DataSource}
+         * bean, so Spring Boot still creates the primary DataSource.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReplicaSet replicaSet(JpaProperties properties) {
+            JpaProperties.Routing routing = properties.getRouting();
+            List<Replica> replicas = new ArrayList<>();
+            for (int i = 0; i < routing.getReplicas().size(); i++) {
+                JpaProperties.Routing.Replica config = routing.getReplicas().get(i);
+                String name = config.getName() != null ? config.getName() : "replica-" + (i + 1);
+                replicas.add(new Replica(name, DataSourceBuilder.create()
+                    .url(config.getUrl())
+                    .username(config.getUsername())
+                    .password(config.getPassword())
+                    .driverClassName(config.getDriverClassName())
+                    .build()));
+            }
+            if (replicas.isEmpty()) {
+                log.warn("Read/write routing is enabled but no replicas are configured; all reads use the primary");
+            }
+            return new ReplicaSet(replicas, routing.getLoadBalancing(), routing.getReadYourWritesWindow());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReplicaLagMonitor replicaLagMonitor(ReplicaSet replicaSet, JpaProperties properties) {
+            JpaProperties.Routing routing = properties.getRouting();
+            return new ReplicaLagMonitor(replicaSet.getReplicas(), routing.getMaxLag(),
+                routing.getHealthCheckInterval(), routing.getLagQuery());
+        }
+
+        @Bean
+        public static ReadWriteRoutingPostProcessor readWriteRoutingPostProcessor(
+                ObjectProvider<ReplicaSet> replicaSet) {
+            return new ReadWriteRoutingPostProcessor(replicaSet);
+        }
+
+        /**
+         * Per-request read-your-writes.
+         */
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        @ConditionalOnClass(name = "org.springframework.web.filter.OncePerRequestFilter")
+        static class ReadYourWritesFilterConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public ReadYourWritesFilter readYourWritesFilter() {
+                return new ReadYourWritesFilter();
+            }
+        }
+    }
+
+    /**
+     * Second-level cache configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = {
+        "com.github.benmanes.caffeine.cache.Caffeine",
+        "org.springframework.cache.caffeine.CaffeineCacheManager"
+    })
+    @ConditionalOnProperty(prefix = "nexora.jpa.second-level-cache", name = "enabled", havingValue = "true")
+    static class SecondLevelCacheConfiguration {
+
+        /**
+         * Regions live in the application's {@link CaffeineCacheManager} when there is one
+         * (e.g. from the nexora redis starter), otherwise in a private one.
+         */
+        @Bean
+        @ConditionalOnMissingBean(RegionFactory.class)
+        public CacheManagerRegionFactory cacheManagerRegionFactory(JpaProperties properties,
+                                                                   ObjectProvider<CaffeineCacheManager> caffeineCacheManager,
+                                                                   ObjectProvider<CacheInvalidationBus> invalidationBus) {
+            JpaProperties.SecondLevelCache cache = properties.getSecondLevelCache();
+            CaffeineCacheManager cacheManager = caffeineCacheManager.getIfAvailable(() -> {
+                CaffeineCacheManager own = new CaffeineCacheManager();
+                own.setCaffeineSpec(CaffeineSpec.parse(cache.getSpec()));
+                return own;
+            });
+            cache.getRegions().forEach((region, config) -> cacheManager.registerCustomCache(region,
+                Caffeine.from(config.getSpec() != null ? config.getSpec() : cache.getSpec()).build()));
+            // Update timestamps must never be evicted early or cached queries could return stale rows
+            cacheManager.registerCustomCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                Caffeine.newBuilder().build());
+            return new CacheManagerRegionFactory(cacheManager, invalidationBus.getIfAvailable());
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+                RegionFactory regionFactory, JpaProperties properties) {
+            return hibernateProperties -> {
+                JpaProperties.SecondLevelCache cache = properties.getSecondLevelCache();
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, String.valueOf(cache.isQueryCache()));
+                cache.getRegions().forEach((entity, config) -> hibernateProperties.put(
+                    AvailableSettings.CLASS_CACHE_PREFIX + "." + entity, config.getAccessType().getExternalName()));
+            };
+        }
+
+        /**
+         * Redis pub/sub invalidation.
+         */
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "org.redisson.api.RedissonClient")
+        @ConditionalOnProperty(prefix = "nexora.jpa.second-level-cache", name = "invalidation", havingValue = "redis")
+        static class RedisInvalidationConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(CacheInvalidationBus.class)
+            public RedissonCacheInvalidationBus redissonCacheInvalidationBus(RedissonClient redissonClient,
+                                                                             JpaProperties properties) {
+                return new RedissonCacheInvalidationBus(redissonClient,
+                    properties.getSecondLevelCache().getInvalidationTopic());
+            }
+        }
+    }
+
+    /**
+     * SQL statistics configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "nexora.jpa.statistics", name = "enabled", havingValue = "true")
+    static class StatisticsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public QueryStatisticsReporter queryStatisticsReporter(JpaProperties properties) {
+            return new QueryStatisticsReporter(properties.getStatistics().getRepeatThreshold());
+        }
+
+        /**
+         * Install the inspector, interceptor and session listener unless the
+         * application already configured its own.
+         */
+        @Bean
+        public HibernatePropertiesCustomizer statisticsHibernatePropertiesCustomizer(JpaProperties properties) {
+            JpaProperties.Statistics statistics = properties.getStatistics();
+            QueryStatisticsInspector inspector = new QueryStatisticsInspector(
+                statistics.getRepeatThreshold(), statistics.isFailFast());
+            return hibernateProperties -> {
+                hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+                hibernateProperties.putIfAbsent(AvailableSettings.INTERCEPTOR, inspector);
+                hibernateProperties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    JdbcTimingSessionListener.class.getName());
+            };
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "nexora.jpa.statistics", name = "transaction-scope", havingValue = "true", matchIfMissing = true)
+        public QueryStatisticsTransactionListener queryStatisticsTransactionListener(QueryStatisticsReporter reporter) {
+            return new QueryStatisticsTransactionListener(reporter);
+        }
+
+        /**
+         * Per-request scope.
+         */
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        @ConditionalOnClass(name = "org.springframework.web.filter.OncePerRequestFilter")
+        @ConditionalOnProperty(prefix = "nexora.jpa.statistics", name = "request-scope", havingValue = "true", matchIfMissing = true)
+        static class RequestScopeConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public QueryStatisticsFilter queryStatisticsFilter(QueryStatisticsReporter reporter) {
+                return new QueryStatisticsFilter(reporter);
+            }
+        }
+    }
+
+    /**
+     * Multi-tenancy configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nexora.jpa.multi-tenancy", name = "enabled", havingValue = "true")
+    static class MultiTenancyConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(CurrentTenantIdentifierResolver.class)
+        public TenantIdentifierResolver tenantIdentifierResolver(JpaProperties properties) {
+            JpaProperties.MultiTenancy tenancy = properties.getMultiTenancy();
+            String rootTenant = tenancy.getRootTenant() == null || tenancy.getRootTenant().isBlank()
+                ? null : tenancy.getRootTenant();
+            return new TenantIdentifierResolver(tenancy.getDefaultTenant(), rootTenant);
+        }
+
+        /**
+         * Dedicated pools are created for tenants with their own URL; the
+         * others switch schema on the shared data source.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnClass(DataSourceBuilder.class)
+        public TenantConnectionProvider tenantConnectionProvider(DataSource dataSource, JpaProperties properties) {
+            Map<String, TenantStorage> storage = new LinkedHashMap<>();
+            properties.getMultiTenancy().getTenants().forEach((tenant, config) -> {
+                DataSource dedicated = config.getUrl() == null ? null : DataSourceBuilder.create()
+                    .url(config.getUrl())
+                    .username(config.getUsername())
+                    .password(config.getPassword())
+                    .driverClassName(config.getDriverClassName())
+                    .build();
+                storage.put(tenant, new TenantStorage(config.getSchema(), dedicated));
+            });
+            return new TenantConnectionProvider(dataSource, storage);
+        }
+
+        /**
+         * The connection provider is only installed when some tenant has its
+         * own storage; otherwise tenants are separated by the discriminator alone.
+         */
+        @Bean
+        public HibernatePropertiesCustomizer multiTenancyHibernatePropertiesCustomizer(
+                CurrentTenantIdentifierResolver<?> tenantIdentifierResolver,
+                ObjectProvider<TenantConnectionProvider> tenantConnectionProvider,
+                JpaProperties properties) {
+            return hibernateProperties -> {
+                hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, tenantIdentifierResolver);
+                TenantConnectionProvider connectionProvider = tenantConnectionProvider.getIfAvailable();
+                if (connectionProvider != null && !properties.getMultiTenancy().getTenants().isEmpty()) {
+                    hibernateProperties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, connectionProvider);
+                }
+            };
+        }
+
+        /**
+         * Per-request tenant, from an application-provided {@link TenantResolver}
+         * or, when explicitly trusted, a header.
+         */
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        @ConditionalOnClass(name = "org.springframework.web.filter.OncePerRequestFilter")
+        static class TenantFilterConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(TenantResolver.class)
+            @ConditionalOnProperty(prefix = "nexora.jpa.multi-tenancy", name = "trust-header", havingValue = "true")
+            public HeaderTenantResolver headerTenantResolver(JpaProperties properties) {
+                return new HeaderTenantResolver(properties.getMultiTenancy().getHeader());
+            }
+
+            @Bean
+            @ConditionalOnMissingBean
+            @ConditionalOnBean(TenantResolver.class)
+            public TenantFilter tenantFilter(TenantResolver tenantResolver, JpaProperties properties) {
+                String rootTenant = properties.getMultiTenancy().getRootTenant();
+                return new TenantFilter(tenantResolver, rootTenant == null || rootTenant.isBlank() ? null : rootTenant);
+            }
+        }
+    }
+
+    /**
+     * Soft-delete compaction configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "nexora.jpa.soft-delete.compaction", name = "enabled", havingValue = "true")
+    static class SoftDeleteCompactionConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SoftDeleteCompactor softDeleteCompactor(EntityManagerFactory entityManagerFactory, JpaProperties properties) {
+            JpaProperties.SoftDelete.Compaction compaction = properties.getSoftDelete().getCompaction();
+            return new SoftDeleteCompactor(entityManagerFactory.unwrap(SessionFactory.class), compaction.getRetention(),
+                compaction.getInterval(), compaction.getChunkSize(), compaction.getChunkPause(),
+                compaction.getArchiveTables());
+        }
     }
 }
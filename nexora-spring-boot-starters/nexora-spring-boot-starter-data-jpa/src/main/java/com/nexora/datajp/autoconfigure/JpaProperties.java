@@ -1,8 +1,17 @@
 package com.nexora.datajp.autoconfigure;
 
+import com.nexora.datajp.id.IdStrategy;
+import com.nexora.datajp.routing.LoadBalancing;
 import lombok.Data;
+import org.hibernate.cache.spi.access.AccessType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * JPA configuration properties.
  *
@@ -13,6 +22,51 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     enabled: true
  *   lazy-loading:
  *     enabled: true
+ *   id-generation:
+ *     strategy: sequence      # identity | sequence | snowflake
+ *     increment-size: 50
+ *     node-id: 0
+ *   batch:
+ *     enabled: true
+ *     size: 50
+ *   routing:
+ *     enabled: true
+ *     load-balancing: least-connections
+ *     max-lag: 5s
+ *     replicas:
+ *       - name: replica-1
+ *         url: jdbc:postgresql://replica-1:5432/app
+ *         username: app
+ *         password: secret
+ *   second-level-cache:
+ *     enabled: true
+ *     query-cache: true
+ *     invalidation: redis
+ *     regions:
+ *       "[com.nexora.security.domain.RefreshToken]":
+ *         access-type: nonstrict-read-write
+ *         spec: maximumSize=50000,expireAfterWrite=5m
+ *   statistics:
+ *     enabled: true
+ *     repeat-threshold: 10
+ *     fail-fast: true         # dev/test only
+ *   multi-tenancy:
+ *     enabled: true
+ *     header: X-Tenant-Id
+ *     tenants:
+ *       acme:
+ *         schema: tenant_acme   # schema of the shared database
+ *       globex:
+ *         url: jdbc:postgresql://globex-db:5432/app
+ *         username: app
+ *         password: secret
+ *   soft-delete:
+ *     compaction:
+ *       enabled: true
+ *       retention: 30d
+ *       chunk-size: 1000
+ *       archive-tables:
+ *         Order: orders_archive
  * </pre>
  *
  * @author sujie
@@ -32,6 +86,41 @@ public class JpaProperties {
      */
     private LazyLoading lazyLoading = new LazyLoading();
 
+    /**
+     * Primary key generation for {@link com.nexora.datajp.support.BaseEntity}.
+     */
+    private IdGeneration idGeneration = new IdGeneration();
+
+    /**
+     * JDBC batching configuration.
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * Read/write routing configuration.
+     */
+    private Routing routing = new Routing();
+
+    /**
+     * Hibernate second-level cache configuration.
+     */
+    private SecondLevelCache secondLevelCache = new SecondLevelCache();
+
+    /**
+     * Per-request and per-transaction SQL statistics and N+1 detection.
+     */
+    private Statistics statistics = new Statistics();
+
+    /**
+     * Multi-tenancy configuration.
+     */
+    private MultiTenancy multiTenancy = new MultiTenancy();
+
+    /**
+     * Soft-delete configuration.
+     */
+    private SoftDelete softDelete = new SoftDelete();
+
     @Data
     public static class Auditing {
         /**
@@ -47,4 +136,314 @@ public class JpaProperties {
          */
         private boolean enabled = true;
     }
+
+    @Data
+    public static class IdGeneration {
+        /**
+         * Id generation strategy. IDENTITY keeps existing schemas working but
+         * disables insert batching; SEQUENCE or SNOWFLAKE enable it.
+         */
+        private IdStrategy strategy = IdStrategy.IDENTITY;
+
+        /**
+         * Ids reserved per sequence call (SEQUENCE strategy). Must match the
+         * database sequence's INCREMENT BY.
+         */
+        private int incrementSize = 50;
+
+        /**
+         * Node id (0-1023) for the SNOWFLAKE strategy; must be unique per running instance.
+         * Required with SNOWFLAKE: startup fails if it is not set, since a shared default
+         * would make every instance generate colliding ids.
+         */
+        private Integer nodeId;
+    }
+
+    @Data
+    public static class Batch {
+        /**
+         * Apply Hibernate JDBC batch settings. Explicit
+         * {@code spring.jpa.properties.hibernate.*} values take precedence.
+         */
+        private boolean enabled = true;
+
+        /**
+         * JDBC batch size ({@code hibernate.jdbc.batch_size}).
+         */
+        private int size = 50;
+
+        /**
+         * Group inserts by entity so batches are not broken up ({@code hibernate.order_inserts}).
+         */
+        private boolean orderInserts = true;
+
+        /**
+         * Group updates by entity so batches are not broken up ({@code hibernate.order_updates}).
+         */
+        private boolean orderUpdates = true;
+    }
+
+    @Data
+    public static class Routing {
+        /**
+         * Route read-only transactions to replicas.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Read replicas.
+         */
+        private List<Replica> replicas = new ArrayList<>();
+
+        /**
+         * How reads are spread over healthy replicas.
+         */
+        private LoadBalancing loadBalancing = LoadBalancing.ROUND_ROBIN;
+
+        /**
+         * Replicas further behind than this are taken out of rotation.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        /**
+         * Interval between replica lag checks.
+         */
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+        /**
+         * Query returning replication lag in seconds. Defaults to a built-in
+         * query for PostgreSQL and MySQL; other databases only get a connectivity check.
+         */
+        private String lagQuery;
+
+        /**
+         * After a read-write transaction, reads on the same thread go to the
+         * primary for this long (read-your-writes).
+         */
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+        @Data
+        public static class Replica {
+            /**
+             * Replica name used in logs.
+             */
+            private String name;
+
+            /**
+             * JDBC URL.
+             */
+            private String url;
+
+            /**
+             * Login username.
+             */
+            private String username;
+
+            /**
+             * Login password.
+             */
+            private String password;
+
+            /**
+             * JDBC driver class name; derived from the URL when not set.
+             */
+            private String driverClassName;
+        }
+    }
+
+    @Data
+    public static class SecondLevelCache {
+        /**
+         * Enable the second-level cache on the Caffeine cache manager.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Enable the query cache.
+         */
+        private boolean queryCache = false;
+
+        /**
+         * Caffeine spec for regions without their own.
+         */
+        private String spec = "maximumSize=10000,expireAfterWrite=10m";
+
+        /**
+         * Cached entities by class name; each entry enables caching for that
+         * entity without a {@code @Cache} annotation.
+         */
+        private Map<String, Region> regions = new LinkedHashMap<>();
+
+        /**
+         * How other nodes learn about changes.
+         */
+        private Invalidation invalidation = Invalidation.NONE;
+
+        /**
+         * Redis topic for {@link Invalidation#REDIS}.
+         */
+        private String invalidationTopic = "nexora:jpa:cache-invalidation";
+
+        public enum Invalidation {
+            /**
+             * Single node, or stale reads across nodes are acceptable until entries expire.
+             */
+            NONE,
+            /**
+             * Redis pub/sub; requires a RedissonClient bean.
+             */
+            REDIS
+        }
+
+        @Data
+        public static class Region {
+            /**
+             * Cache concurrency strategy.
+             */
+            private AccessType accessType = AccessType.NONSTRICT_READ_WRITE;
+
+            /**
+             * Caffeine spec; falls back to the shared spec.
+             */
+            private String spec;
+        }
+    }
+
+    @Data
+    public static class Statistics {
+        /**
+         * Count statements, JDBC time and loaded entities per unit of work.
+         */
+        private boolean enabled = false;
+
+        /**
+         * A statement executed this many times in one unit of work is flagged as a possible N+1.
+         */
+        private int repeatThreshold = 10;
+
+        /**
+         * Reject the statement that reaches the threshold instead of logging a
+         * warning afterwards. Meant for development and tests.
+         */
+        private boolean failFast = false;
+
+        /**
+         * Record per HTTP request (servlet applications).
+         */
+        private boolean requestScope = true;
+
+        /**
+         * Record per transaction.
+         */
+        private boolean transactionScope = true;
+    }
+
+    @Data
+    public static class MultiTenancy {
+        /**
+         * Enable tenant resolution for {@link com.nexora.datajp.tenant.TenantEntity} and other
+         * {@code @TenantId} entities.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Request header carrying the tenant id (servlet applications), used when
+         * {@link #trustHeader} is on.
+         */
+        private String header = "X-Tenant-Id";
+
+        /**
+         * Take the tenant from {@link #header}. The header is not authenticated, so
+         * only enable this behind a gateway that sets it; otherwise provide a
+         * {@link com.nexora.datajp.tenant.TenantResolver} bean.
+         */
+        private boolean trustHeader = false;
+
+        /**
+         * Tenant used when none is set on the current thread.
+         */
+        private String defaultTenant = "default";
+
+        /**
+         * Tenant whose sessions see all tenants' rows, for maintenance jobs. Disabled when empty.
+         */
+        private String rootTenant;
+
+        /**
+         * Tenants isolated onto their own schema or database; all others share
+         * the default storage and are separated by the tenant column.
+         */
+        private Map<String, Tenant> tenants = new LinkedHashMap<>();
+
+        @Data
+        public static class Tenant {
+            /**
+             * Schema to switch to.
+             */
+            private String schema;
+
+            /**
+             * JDBC URL of a dedicated database; uses the shared data source when not set.
+             */
+            private String url;
+
+            /**
+             * Login username of the dedicated database.
+             */
+            private String username;
+
+            /**
+             * Login password of the dedicated database.
+             */
+            private String password;
+
+            /**
+             * JDBC driver class name; derived from the URL when not set.
+             */
+            private String driverClassName;
+        }
+    }
+
+    @Data
+    public static class SoftDelete {
+        /**
+         * Background removal of expired soft-deleted rows.
+         */
+        private Compaction compaction = new Compaction();
+
+        @Data
+        public static class Compaction {
+            /**
+             * Enable the compactor.
+             */
+            private boolean enabled = false;
+
+            /**
+             * How long soft-deleted rows are kept before removal.
+             */
+            private Duration retention = Duration.ofDays(30);
+
+            /**
+             * Interval between compaction runs.
+             */
+            private Duration interval = Duration.ofHours(1);
+
+            /**
+             * Rows removed per transaction.
+             */
+            private int chunkSize = 1000;
+
+            /**
+             * Pause between chunks, to limit load on the database.
+             */
+            private Duration chunkPause = Duration.ofMillis(200);
+
+            /**
+             * Archive table by entity name; rows are copied there with
+             * {@code INSERT ... SELECT *} before deletion, so its columns must
+             * match the entity table. Entities without one are deleted outright.
+             */
+            private Map<String, String> archiveTables = new LinkedHashMap<>();
+        }
+    }
 }
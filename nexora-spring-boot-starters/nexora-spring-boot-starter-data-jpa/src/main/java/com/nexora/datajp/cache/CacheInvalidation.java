@@ -0,0 +1,16 @@
+package com.nexora.datajp.cache;
+
+import java.io.Serializable;
+
+/**
+ * Second-level cache change broadcast to the other nodes.
+ *
+ * @param origin node that made the change; receivers ignore their own messages
+ * @param region cache region name
+ * @param key    affected key, or {@code null} for the whole region
+ * @param value  new value to store (timestamps region), or {@code null} to evict
+ * @author sujie
+ * @since 1.0.0
+ */
+public record CacheInvalidation(String origin, String region, Object key, Object value) implements Serializable {
+}
@@ -0,0 +1,22 @@
+package com.nexora.datajp.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport for {@link CacheInvalidation} messages between nodes.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Send a change to every node, including this one.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Register the handler for changes from any node.
+     */
+    void subscribe(Consumer<CacheInvalidation> handler);
+}
@@ -0,0 +1,110 @@
+package com.nexora.datajp.cache;
+
+import com.nexora.datajp.cache.SpringCacheStorageAccess.PutPropagation;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache regions backed by a Spring {@link CacheManager}.
+ *
+ * <p>Each region is the cache of the same name. With a local cache manager
+ * (Caffeine) hits are served from memory; a {@link CacheInvalidationBus}
+ * keeps nodes consistent by evicting entries other nodes changed and
+ * replicating update timestamps so cached query results are invalidated
+ * everywhere.
+ *
+ * <p>Local caches plus invalidation fit {@code NONSTRICT_READ_WRITE} and
+ * {@code READ_ONLY} best, which is why {@code NONSTRICT_READ_WRITE} is the
+ * default access type.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheManagerRegionFactory extends RegionFactoryTemplate {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus bus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, SpringCacheStorageAccess> regions = new ConcurrentHashMap<>();
+
+    /**
+     * @param bus cross-node transport, or {@code null} for a single node
+     */
+    public CacheManagerRegionFactory(CacheManager cacheManager, CacheInvalidationBus bus) {
+        this.cacheManager = cacheManager;
+        this.bus = bus;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        if (bus != null) {
+            bus.subscribe(this::onInvalidation);
+        }
+        log.info("Second-level cache on {} ({})", cacheManager.getClass().getSimpleName(),
+            bus == null ? "single node" : "cross-node invalidation");
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.clear();
+    }
+
+    @Override
+    public AccessType getDefaultAccessType() {
+        return AccessType.NONSTRICT_READ_WRITE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return storage(regionConfig.getRegionName(), PutPropagation.INVALIDATE);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return storage(regionName, PutPropagation.NONE);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return storage(regionName, PutPropagation.REPLICATE);
+    }
+
+    private SpringCacheStorageAccess storage(String regionName, PutPropagation propagation) {
+        Cache cache = cacheManager.getCache(regionName);
+        if (cache == null) {
+            throw new IllegalStateException("Cache manager has no cache for region " + regionName
+                + "; register it or allow dynamic cache creation");
+        }
+        SpringCacheStorageAccess storage = new SpringCacheStorageAccess(
+            regionName, cache, propagation, nodeId, bus == null ? null : bus::publish);
+        regions.put(regionName, storage);
+        return storage;
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        SpringCacheStorageAccess storage = regions.get(invalidation.region());
+        if (storage != null) {
+            storage.apply(invalidation);
+        }
+    }
+}
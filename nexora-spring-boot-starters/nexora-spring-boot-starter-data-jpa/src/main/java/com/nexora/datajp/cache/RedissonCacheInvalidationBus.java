@@ -0,0 +1,43 @@
+package com.nexora.datajp.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.SerializationCodec;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} over a Redis pub/sub topic.
+ *
+ * <p>Uses Java serialization rather than the client's JSON codec: Hibernate
+ * cache keys are {@link java.io.Serializable} but not JSON round-trippable.
+ * Delivery is fire-and-forget, so a node that misses a message keeps a stale
+ * entry until it expires; size region TTLs accordingly.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedissonCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final RTopic topic;
+
+    public RedissonCacheInvalidationBus(RedissonClient redissonClient, String topicName) {
+        this.topic = redissonClient.getTopic(topicName, new SerializationCodec());
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        topic.publishAsync(invalidation).whenComplete((receivers, ex) -> {
+            if (ex != null) {
+                log.warn("Failed to publish cache invalidation for region {}: {}", invalidation.region(), ex.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> handler) {
+        topic.addListener(CacheInvalidation.class, (channel, message) -> handler.accept(message));
+    }
+}
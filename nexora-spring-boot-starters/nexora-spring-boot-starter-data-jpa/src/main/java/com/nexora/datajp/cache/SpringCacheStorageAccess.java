@@ -0,0 +1,126 @@
+package com.nexora.datajp.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.cache.Cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Hibernate region storage on a Spring {@link Cache}.
+ *
+ * <p>Reads and writes are local. Changes other nodes must see are handed to
+ * the broadcaster: evictions always, and puts according to {@link PutPropagation}.
+ * Values loaded from the database ({@link #putFromLoad}) are never broadcast;
+ * every node can load them itself.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class SpringCacheStorageAccess implements DomainDataStorageAccess {
+
+    /**
+     * What other nodes do when this node puts a value.
+     */
+    public enum PutPropagation {
+
+        /**
+         * Nothing (query results; they are validated against the timestamps region).
+         */
+        NONE,
+
+        /**
+         * Evict the key (entity and collection data written by a transaction).
+         */
+        INVALIDATE,
+
+        /**
+         * Store the same value (update timestamps, which must agree across nodes).
+         */
+        REPLICATE
+    }
+
+    private final String region;
+    private final Cache cache;
+    private final PutPropagation propagation;
+    private final Consumer<CacheInvalidation> broadcaster;
+    private final String origin;
+
+    /**
+     * @param broadcaster sink for changes to announce, or {@code null} for a single node
+     */
+    public SpringCacheStorageAccess(String region, Cache cache, PutPropagation propagation,
+                                    String origin, Consumer<CacheInvalidation> broadcaster) {
+        this.region = region;
+        this.cache = cache;
+        this.propagation = propagation;
+        this.origin = origin;
+        this.broadcaster = broadcaster;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Cache.ValueWrapper wrapper = cache.get(key);
+        return wrapper == null ? null : wrapper.get();
+    }
+
+    @Override
+    public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        cache.put(key, value);
+        switch (propagation) {
+            case INVALIDATE -> broadcast(key, null);
+            case REPLICATE -> broadcast(key, value);
+            case NONE -> { }
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return cache.get(key) != null;
+    }
+
+    @Override
+    public void evictData() {
+        cache.clear();
+        broadcast(null, null);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        cache.evict(key);
+        broadcast(key, null);
+    }
+
+    @Override
+    public void release() {
+        cache.clear();
+    }
+
+    /**
+     * Apply a change made on another node, without re-broadcasting it.
+     */
+    void apply(CacheInvalidation invalidation) {
+        if (invalidation.key() == null) {
+            cache.clear();
+        } else if (invalidation.value() != null) {
+            cache.put(invalidation.key(), invalidation.value());
+        } else {
+            cache.evict(invalidation.key());
+        }
+    }
+
+    private void broadcast(Object key, Object value) {
+        if (broadcaster != null) {
+            broadcaster.accept(new CacheInvalidation(origin, region, key, value));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nexora.datajp.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an id attribute whose generation strategy is chosen at bootstrap
+ * through {@code nexora.jpa.id-generation.strategy} instead of being fixed
+ * in the mapping.
+ *
+ * @author sujie
+ * @since 1.0.0
+ * @see ConfigurableIdGenerator
+ */
+@IdGeneratorType(ConfigurableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ConfigurableId {
+}
@@ -0,0 +1,161 @@
+package com.nexora.datajp.id;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.generator.OnExecutionGenerator;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.io.Serial;
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate generator behind {@link ConfigurableId}.
+ *
+ * <p>The strategy is read once per entity hierarchy from the Hibernate
+ * settings populated by the JPA auto-configuration and the generator then
+ * behaves exactly like the matching built-in one:
+ * <ul>
+ *   <li>{@link IdStrategy#IDENTITY} - delegates to {@link IdentityGenerator}</li>
+ *   <li>{@link IdStrategy#SEQUENCE} - delegates to {@link SequenceStyleGenerator}
+ *       with the {@code pooled-lo} optimizer, one {@code <entity>_seq} per entity</li>
+ *   <li>{@link IdStrategy#SNOWFLAKE} - {@link SnowflakeIdGenerator}, shared per node id</li>
+ * </ul>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class ConfigurableIdGenerator
+    implements BeforeExecutionGenerator, OnExecutionGenerator, Configurable, ExportableProducer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Hibernate setting holding the {@link IdStrategy} name.
+     */
+    public static final String STRATEGY_SETTING = "nexora.id.strategy";
+
+    /**
+     * Hibernate setting holding the sequence increment (ids reserved per round trip).
+     */
+    public static final String INCREMENT_SIZE_SETTING = "nexora.id.increment_size";
+
+    /**
+     * Hibernate setting holding the Snowflake node id.
+     */
+    public static final String NODE_ID_SETTING = "nexora.id.node_id";
+
+    static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    private static final Map<Integer, SnowflakeIdGenerator> SNOWFLAKES = new ConcurrentHashMap<>();
+
+    private final IdStrategy strategy;
+    private final int incrementSize;
+    private final IdentityGenerator identity = new IdentityGenerator();
+    private SequenceStyleGenerator sequence;
+    private transient SnowflakeIdGenerator snowflake;
+
+    public ConfigurableIdGenerator(ConfigurableId config, Member member, GeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+            .requireService(ConfigurationService.class)
+            .getSettings();
+        this.strategy = IdStrategy.valueOf(
+            String.valueOf(settings.getOrDefault(STRATEGY_SETTING, IdStrategy.IDENTITY.name())).trim().toUpperCase());
+        this.incrementSize = intSetting(settings, INCREMENT_SIZE_SETTING, DEFAULT_INCREMENT_SIZE);
+        if (strategy == IdStrategy.IDENTITY) {
+            // Same as @GeneratedValue(IDENTITY): schema export must render an identity column
+            context.getProperty().getValue().getColumns().get(0).setIdentity(true);
+        } else if (strategy == IdStrategy.SNOWFLAKE) {
+            int nodeId = intSetting(settings, NODE_ID_SETTING, 0);
+            this.snowflake = SNOWFLAKES.computeIfAbsent(nodeId, SnowflakeIdGenerator::new);
+        }
+    }
+
+    /**
+     * The strategy this generator resolved to.
+     */
+    public IdStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public void configure(GeneratorCreationContext context, Properties parameters) {
+        if (strategy == IdStrategy.SEQUENCE) {
+            Properties params = new Properties();
+            params.putAll(parameters);
+            params.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(incrementSize));
+            params.setProperty(OptimizableGenerator.OPT_PARAM, "pooled-lo");
+            sequence = new SequenceStyleGenerator();
+            sequence.configure(context, params);
+        }
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        if (sequence != null) {
+            sequence.registerExportables(database);
+        }
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        if (sequence != null) {
+            sequence.initialize(context);
+        }
+    }
+
+    @Override
+    public boolean generatedOnExecution() {
+        return strategy == IdStrategy.IDENTITY;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        return switch (strategy) {
+            case SEQUENCE -> sequence.generate(session, owner);
+            case SNOWFLAKE -> snowflake.nextId();
+            case IDENTITY -> throw new IllegalStateException("IDENTITY ids are generated by the database");
+        };
+    }
+
+    @Override
+    public boolean referenceColumnsInSql(Dialect dialect) {
+        return identity.referenceColumnsInSql(dialect);
+    }
+
+    @Override
+    public boolean writePropertyValue() {
+        return identity.writePropertyValue();
+    }
+
+    @Override
+    public String[] getReferencedColumnValues(Dialect dialect) {
+        return identity.getReferencedColumnValues(dialect);
+    }
+
+    private static int intSetting(Map<String, Object> settings, String name, int defaultValue) {
+        Object value = settings.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.toString().trim());
+    }
+}
@@ -0,0 +1,29 @@
+package com.nexora.datajp.id;
+
+/**
+ * Primary key generation strategy for {@link com.nexora.datajp.support.BaseEntity}.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public enum IdStrategy {
+
+    /**
+     * Database identity column. The id is only known after the INSERT,
+     * so Hibernate cannot batch inserts.
+     */
+    IDENTITY,
+
+    /**
+     * Per-entity database sequence with the pooled-lo optimizer. One
+     * sequence call reserves a whole block of ids, so inserts are batched.
+     */
+    SEQUENCE,
+
+    /**
+     * Time-ordered 64-bit ids generated in the JVM (timestamp, node id,
+     * sequence). No database round trip at all; requires a unique node id
+     * per running instance.
+     */
+    SNOWFLAKE
+}
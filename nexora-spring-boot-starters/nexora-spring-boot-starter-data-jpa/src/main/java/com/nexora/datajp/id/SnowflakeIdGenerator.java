@@ -0,0 +1,81 @@
+package com.nexora.datajp.id;
+
+import java.time.Instant;
+
+/**
+ * Time-ordered 64-bit id generator.
+ *
+ * <p>Layout (most significant first): 1 sign bit, 41 bits of milliseconds
+ * since {@link #EPOCH}, 10 bits of node id, 12 bits of per-millisecond
+ * sequence. Ids are strictly increasing per generator, which keeps B-tree
+ * inserts append-only like an identity column.
+ *
+ * <p>When the sequence overflows or the wall clock moves backwards the
+ * generator keeps counting on its own logical clock instead of blocking,
+ * so it never hands out a duplicate and never stalls a flush.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class SnowflakeIdGenerator {
+
+    /**
+     * Custom epoch (2024-01-01T00:00:00Z); 41 bits last about 69 years from here.
+     */
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "Snowflake node id must be between 0 and " + MAX_NODE_ID + ", was " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Generate the next id.
+     */
+    public synchronized long nextId() {
+        long now = currentTimeMillis() - EPOCH;
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // Block exhausted for this millisecond: borrow the next one
+                lastTimestamp++;
+            }
+        }
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | sequence;
+    }
+
+    /**
+     * Extract the creation time encoded in an id.
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    /**
+     * Extract the node id encoded in an id.
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,20 @@
+package com.nexora.datajp.routing;
+
+/**
+ * How read-only connections are spread over healthy replicas.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public enum LoadBalancing {
+
+    /**
+     * Rotate through healthy replicas.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Pick the healthy replica with the fewest connections currently borrowed.
+     */
+    LEAST_CONNECTIONS
+}
@@ -0,0 +1,76 @@
+package com.nexora.datajp.routing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Routes read-only transactions to replicas and everything else to the primary.
+ *
+ * <p>Built on {@link LazyConnectionDataSourceProxy}: the physical connection
+ * is fetched on first use, after the transaction manager has flagged it
+ * read-only, so {@code @Transactional(readOnly = true)} work is served by the
+ * {@link ReplicaPoolDataSource} and all other work by the primary. Every
+ * primary connection marks the thread for {@link ReadYourWrites}, once when
+ * borrowed and again when its transaction completes.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    private final DataSource primary;
+    private final ReplicaPoolDataSource replicas;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPoolDataSource replicas) {
+        super(new WriteTrackingDataSource(primary));
+        this.primary = primary;
+        this.replicas = replicas;
+        replicas.setPrimary(primary);
+        setReadOnlyDataSource(replicas);
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public ReplicaPoolDataSource getReplicas() {
+        return replicas;
+    }
+
+    private static final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            markWrite();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            markWrite();
+            return super.getConnection(username, password);
+        }
+
+        private static void markWrite() {
+            ReadYourWrites.markWrite();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        ReadYourWrites.markWrite();
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.nexora.datajp.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's primary {@link DataSource} bean in a
+ * {@link ReadWriteRoutingDataSource}, leaving its pool configuration
+ * ({@code spring.datasource.*}) untouched.
+ *
+ * <p>The primary is the only {@code DataSource} bean or, when there are
+ * several, the one marked {@code @Primary}; whatever its name. Without a
+ * unique primary nothing is wrapped and a warning is logged.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadWriteRoutingPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private final ObjectProvider<ReplicaSet> replicaSet;
+    private ConfigurableListableBeanFactory beanFactory;
+    private volatile String primaryBeanName;
+
+    public ReadWriteRoutingPostProcessor(ObjectProvider<ReplicaSet> replicaSet) {
+        this.replicaSet = replicaSet;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource primary
+            && !(bean instanceof ReadWriteRoutingDataSource)
+            && beanName.equals(primaryBeanName())) {
+            ReplicaSet replicas = replicaSet.getObject();
+            log.info("Routing read-only transactions on '{}' to {} replica(s)", beanName, replicas.getReplicas().size());
+            return new ReadWriteRoutingDataSource(primary, new ReplicaPoolDataSource(replicas));
+        }
+        return bean;
+    }
+
+    private String primaryBeanName() {
+        String name = primaryBeanName;
+        if (name == null) {
+            name = resolvePrimaryBeanName();
+            primaryBeanName = name;
+        }
+        return name;
+    }
+
+    private String resolvePrimaryBeanName() {
+        String[] names = beanFactory.getBeanNamesForType(DataSource.class, true, false);
+        if (names.length == 1) {
+            return names[0];
+        }
+        String primary = null;
+        for (String name : names) {
+            if (beanFactory.containsBeanDefinition(name) && beanFactory.getBeanDefinition(name).isPrimary()) {
+                if (primary != null) {
+                    primary = null;
+                    break;
+                }
+                primary = name;
+            }
+        }
+        if (primary == null) {
+            log.warn("Read/write routing found no unique primary among DataSource beans {}; nothing is routed",
+                String.join(", ", names));
+            return "";
+        }
+        return primary;
+    }
+}
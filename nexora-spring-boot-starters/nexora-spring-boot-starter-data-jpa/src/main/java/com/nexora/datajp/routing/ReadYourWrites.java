@@ -0,0 +1,54 @@
+package com.nexora.datajp.routing;
+
+import java.time.Duration;
+
+/**
+ * Per-thread read-your-writes marker.
+ *
+ * <p>Every read-write transaction marks the current thread; read-only work
+ * on the same thread inside the stickiness window is then served by the
+ * primary, so a request never reads a replica that has not yet replayed
+ * its own write. The mark expires on its own after one window; in servlet
+ * applications {@link ReadYourWritesFilter} also clears it when a request
+ * ends, so it never leaks into the next request on a pooled thread. Other
+ * request boundaries (message listeners, jobs) should call {@link #clear()}.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Record a write on the current thread.
+     */
+    public static void markWrite() {
+        LAST_WRITE.set(System.nanoTime());
+    }
+
+    /**
+     * Whether the current thread wrote within {@code window}.
+     */
+    public static boolean isSticky(Duration window) {
+        Long lastWrite = LAST_WRITE.get();
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < window.toNanos()) {
+            return true;
+        }
+        LAST_WRITE.remove();
+        return false;
+    }
+
+    /**
+     * Forget the current thread's last write.
+     */
+    public static void clear() {
+        LAST_WRITE.remove();
+    }
+}
@@ -0,0 +1,59 @@
+package com.nexora.datajp.routing;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A read replica and its routing state.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private volatile boolean healthy = true;
+    private volatile double lagSeconds;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Connections currently borrowed through the replica pool.
+     */
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    AtomicInteger activeConnectionCounter() {
+        return activeConnections;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Replication lag seen by the last health check, in seconds.
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    void update(boolean healthy, double lagSeconds) {
+        this.healthy = healthy;
+        this.lagSeconds = lagSeconds;
+    }
+}
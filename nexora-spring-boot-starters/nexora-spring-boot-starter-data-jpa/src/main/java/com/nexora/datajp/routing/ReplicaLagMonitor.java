@@ -0,0 +1,160 @@
+package com.nexora.datajp.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures replication lag and takes lagging or unreachable
+ * replicas out of rotation until they catch up.
+ *
+ * <p>Lag is read with the configured query (one numeric column, seconds) or,
+ * when none is configured, a built-in query for PostgreSQL and MySQL. Other
+ * databases only get a connectivity check.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when everything received has been replayed
+     * (an idle primary would otherwise look like growing lag).
+     */
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+        + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration interval;
+    private final String lagQuery;
+    private volatile ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(List<Replica> replicas, Duration maxLag, Duration interval, String lagQuery) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.interval = interval;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * Check every replica once.
+     */
+    public void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    void check(Replica replica) {
+        boolean wasHealthy = replica.isHealthy();
+        double lag;
+        try {
+            lag = measureLag(replica.getDataSource());
+        } catch (Exception ex) {
+            replica.update(false, replica.getLagSeconds());
+            if (wasHealthy) {
+                log.warn("Replica {} failed its health check, removed from rotation: {}", replica.getName(), ex.getMessage());
+            }
+            return;
+        }
+        boolean healthy = lag <= maxLag.toMillis() / 1000.0;
+        replica.update(healthy, lag);
+        if (wasHealthy && !healthy) {
+            log.warn("Replica {} is {}s behind (max {}), removed from rotation", replica.getName(), lag, maxLag);
+        } else if (!wasHealthy && healthy) {
+            log.info("Replica {} caught up ({}s behind), back in rotation", replica.getName(), lag);
+        }
+    }
+
+    private double measureLag(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String query = StringUtils.hasText(lagQuery) ? lagQuery : defaultLagQuery(connection.getMetaData());
+            if (query == null) {
+                if (!connection.isValid((int) Math.max(1, interval.toSeconds()))) {
+                    throw new SQLException("Connection is not valid");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(query)) {
+                if (!rs.next()) {
+                    throw new SQLException("Lag query returned no rows; is this a replica?");
+                }
+                if (MYSQL_LAG_QUERY.equals(query)) {
+                    long seconds = rs.getLong("Seconds_Behind_Source");
+                    if (rs.wasNull()) {
+                        throw new SQLException("Replication is not running");
+                    }
+                    return seconds;
+                }
+                double seconds = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    throw new SQLException("Lag query returned NULL");
+                }
+                return seconds;
+            }
+        }
+    }
+
+    private static String defaultLagQuery(DatabaseMetaData metaData) throws SQLException {
+        String product = JdbcUtils.commonDatabaseName(metaData.getDatabaseProductName());
+        if ("PostgreSQL".equals(product)) {
+            return POSTGRES_LAG_QUERY;
+        }
+        if ("MySQL".equals(product)) {
+            return MYSQL_LAG_QUERY;
+        }
+        return null;
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+        log.info("Replica lag monitor started for {} replica(s), max lag {}", replicas.size(), maxLag);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+}
@@ -0,0 +1,139 @@
+package com.nexora.datajp.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only {@link DataSource} backed by a set of replicas.
+ *
+ * <p>Connections come from a healthy replica chosen by the configured
+ * {@link LoadBalancing}. The primary serves the request instead when no
+ * replica is healthy, when a replica refuses a connection, or when the
+ * current thread wrote recently (see {@link ReadYourWrites}).
+ *
+ * <p>Not a bean: {@link ReadWriteRoutingPostProcessor} builds it from the
+ * {@link ReplicaSet}, which owns and closes the replica pools.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaPoolDataSource extends AbstractDataSource {
+
+    private final List<Replica> replicas;
+    private final LoadBalancing loadBalancing;
+    private final Duration readYourWritesWindow;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile DataSource primary;
+
+    public ReplicaPoolDataSource(List<Replica> replicas, LoadBalancing loadBalancing, Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.loadBalancing = loadBalancing;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public ReplicaPoolDataSource(ReplicaSet replicaSet) {
+        this(replicaSet.getReplicas(), replicaSet.getLoadBalancing(), replicaSet.getReadYourWritesWindow());
+    }
+
+    /**
+     * Fallback for reads that cannot or must not go to a replica.
+     */
+    public void setPrimary(DataSource primary) {
+        this.primary = primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    /**
+     * Connect with explicit credentials, to the selected replica or the primary alike;
+     * {@code null} credentials use each pool's own.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!ReadYourWrites.isSticky(readYourWritesWindow)) {
+            Replica replica = select();
+            if (replica != null) {
+                try {
+                    return borrow(replica, username, password);
+                } catch (SQLException ex) {
+                    log.warn("Replica {} refused a connection, routing to primary until next health check: {}",
+                        replica.getName(), ex.getMessage());
+                    replica.update(false, replica.getLagSeconds());
+                }
+            }
+        }
+        return connect(requirePrimary(), username, password);
+    }
+
+    /**
+     * Choose a healthy replica, or {@code null} when none is available.
+     */
+    Replica select() {
+        if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+            // Rotate over the healthy subset so a removed replica's share is spread evenly
+            List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+            return healthy.isEmpty() ? null : healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+        }
+        Replica selected = null;
+        for (Replica candidate : replicas) {
+            if (candidate.isHealthy()
+                && (selected == null || candidate.getActiveConnections() < selected.getActiveConnections())) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private Connection borrow(Replica replica, String username, String password) throws SQLException {
+        Connection connection = connect(replica.getDataSource(), username, password);
+        if (loadBalancing != LoadBalancing.LEAST_CONNECTIONS) {
+            return connection;
+        }
+        AtomicInteger active = replica.activeConnectionCounter();
+        active.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                    active.decrementAndGet();
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getTargetException();
+                }
+            });
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null && password == null
+            ? dataSource.getConnection()
+            : dataSource.getConnection(username, password);
+    }
+
+    private DataSource requirePrimary() {
+        DataSource dataSource = primary;
+        if (dataSource == null) {
+            throw new IllegalStateException("Replica pool has no primary DataSource to fall back to");
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nexora.datajp.routing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The configured read replicas and how reads are spread over them.
+ *
+ * <p>Deliberately not a {@link javax.sql.DataSource}: registered as a bean,
+ * it leaves the application's own DataSource (and Spring Boot's
+ * {@code @ConditionalOnMissingBean(DataSource.class)}) alone.
+ * {@link ReadWriteRoutingPostProcessor} turns it into a
+ * {@link ReplicaPoolDataSource} when it wraps the primary.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final LoadBalancing loadBalancing;
+    private final Duration readYourWritesWindow;
+
+    public ReplicaSet(List<Replica> replicas, LoadBalancing loadBalancing, Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.loadBalancing = loadBalancing;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public LoadBalancing getLoadBalancing() {
+        return loadBalancing;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    /**
+     * Close the replica pools.
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close replica {}: {}", replica.getName(), ex.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.nexora.datajp.softdelete;
+
+import com.nexora.datajp.support.BaseEntity;
+import jakarta.persistence.MappedSuperclass;
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.annotations.SoftDeleteType;
+
+import java.io.Serial;
+
+/**
+ * {@link BaseEntity} that is soft-deleted.
+ *
+ * <p>Removing the entity (including {@code Entities.delete} and
+ * {@code Entities.deleteAllById}) sets {@code deleted_at} instead of deleting
+ * the row, and every query skips rows with {@code deleted_at} set. The column
+ * is managed by Hibernate and not mapped as an attribute. Entities outside
+ * this hierarchy (e.g. tenant entities) get the same behaviour by declaring
+ * {@code @SoftDelete(strategy = SoftDeleteType.TIMESTAMP, columnName = "deleted_at")}
+ * themselves.
+ *
+ * <p>Deleted rows stay in every index until {@link SoftDeleteCompactor}
+ * removes them; see {@link SoftDeleteCompactor#indexRecommendations()} for
+ * partial indexes that keep lookups on live rows fast meanwhile.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@MappedSuperclass
+@SoftDelete(strategy = SoftDeleteType.TIMESTAMP, columnName = SoftDeletableEntity.DELETED_AT)
+public abstract class SoftDeletableEntity extends BaseEntity {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Column holding the deletion time.
+     */
+    public static final String DELETED_AT = "deleted_at";
+}
@@ -0,0 +1,263 @@
+package com.nexora.datajp.softdelete;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.SoftDeleteType;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.metamodel.mapping.SoftDeleteMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hard-deletes (or archives) soft-deleted rows once they are older than the
+ * retention window.
+ *
+ * <p>Every entity soft-deleted with a {@link SoftDeleteType#TIMESTAMP}
+ * column is compacted. Each chunk selects up to {@code chunkSize} expired ids
+ * ordered by deletion time and deletes them in its own transaction, after
+ * copying them with {@code INSERT ... SELECT} when an archive table is
+ * configured; chunks are separated by a pause so compaction does not
+ * saturate the database. Each chunk transaction locks its rows with
+ * {@code SELECT ... FOR UPDATE} before copying them, so nodes that compact at
+ * the same time serialize per chunk instead of archiving the same rows twice. A chunk that fails (for example because another
+ * table still references the rows) stops that entity until the next run.
+ *
+ * <p>Entities mapped with joined inheritance are skipped: their rows span
+ * several tables.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class SoftDeleteCompactor implements SmartLifecycle {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final Duration retention;
+    private final Duration interval;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Map<String, String> archiveTables;
+    private final String forUpdate;
+    private volatile List<Target> targets;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * @param archiveTables archive table by entity name; entities without one are deleted outright
+     */
+    public SoftDeleteCompactor(SessionFactory sessionFactory, Duration retention, Duration interval,
+                               int chunkSize, Duration chunkPause, Map<String, String> archiveTables) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.sessionFactory = sessionFactory.unwrap(SessionFactoryImplementor.class);
+        this.retention = retention;
+        this.interval = interval;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.archiveTables = Map.copyOf(archiveTables);
+        this.forUpdate = this.sessionFactory.getJdbcServices().getDialect().getForUpdateString();
+    }
+
+    /**
+     * Compact every soft-deletable entity once.
+     *
+     * @return number of rows removed
+     */
+    public long compactAll() {
+        Instant cutoff = Instant.now().minus(retention);
+        long removed = 0;
+        for (Target target : targets()) {
+            removed += compact(target, cutoff);
+        }
+        return removed;
+    }
+
+    /**
+     * Index DDL for the compactor's scan on the soft-delete column, partial to deleted rows
+     * where the database supports it. There, entities with a natural id also get a unique
+     * index on its columns over live rows only, to replace the full unique constraint that
+     * would keep a deleted row from being re-created.
+     */
+    public List<String> indexRecommendations() {
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        return indexRecommendations(targets(), dialect instanceof PostgreSQLDialect || dialect instanceof SQLServerDialect);
+    }
+
+    static List<String> indexRecommendations(List<Target> targets, boolean partial) {
+        List<String> ddl = new ArrayList<>();
+        for (Target target : targets) {
+            if (partial) {
+                if (!target.naturalIdColumns().isEmpty()) {
+                    ddl.add("create unique index " + target.table() + "_live_uk on " + target.table()
+                        + " (" + String.join(", ", target.naturalIdColumns()) + ") where "
+                        + target.deletedAtColumn() + " is null");
+                }
+                ddl.add("create index " + target.table() + "_deleted_idx on " + target.table()
+                    + " (" + target.deletedAtColumn() + ") where " + target.deletedAtColumn() + " is not null");
+            } else {
+                ddl.add("create index " + target.table() + "_deleted_idx on " + target.table()
+                    + " (" + target.deletedAtColumn() + ")");
+            }
+        }
+        return ddl;
+    }
+
+    private long compact(Target target, Instant cutoff) {
+        long removed = 0;
+        while (true) {
+            int deleted;
+            try {
+                deleted = sessionFactory.fromTransaction(session -> {
+                    List<?> ids = session.createNativeQuery("select " + target.idColumn() + " from " + target.table()
+                            + " where " + target.deletedAtColumn() + " < :cutoff order by " + target.deletedAtColumn(), Object.class)
+                        .setParameter("cutoff", cutoff)
+                        .setMaxResults(chunkSize)
+                        .getResultList();
+                    if (ids.isEmpty()) {
+                        return 0;
+                    }
+                    // Lock the chunk first: a node compacting the same rows concurrently blocks here until
+                    // it commits and then only sees the rows that are left, so nothing is archived twice
+                    List<?> locked = session.createNativeQuery("select " + target.idColumn() + " from "
+                            + target.table() + " where " + target.idColumn() + " in (:ids) and "
+                            + target.deletedAtColumn() + " < :cutoff" + forUpdate, Object.class)
+                        .setParameterList("ids", ids)
+                        .setParameter("cutoff", cutoff)
+                        .getResultList();
+                    if (locked.isEmpty()) {
+                        return 0;
+                    }
+                    if (target.archiveTable() != null) {
+                        session.createNativeMutationQuery("insert into " + target.archiveTable() + " select * from "
+                                + target.table() + " where " + target.idColumn() + " in (:ids)")
+                            .setParameterList("ids", locked)
+                            .executeUpdate();
+                    }
+                    return session.createNativeMutationQuery("delete from " + target.table()
+                            + " where " + target.idColumn() + " in (:ids)")
+                        .setParameterList("ids", locked)
+                        .executeUpdate();
+                });
+            } catch (RuntimeException ex) {
+                log.warn("Compaction of {} stopped after {} rows: {}", target.entityName(), removed, ex.getMessage());
+                break;
+            }
+            removed += deleted;
+            if (deleted < chunkSize || !pause()) {
+                break;
+            }
+        }
+        if (removed > 0) {
+            log.info("Compacted {} soft-deleted {} row(s) older than {}", removed, target.entityName(), cutoff);
+        }
+        return removed;
+    }
+
+    private boolean pause() {
+        long pauseMillis = chunkPause.toMillis();
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<Target> targets() {
+        List<Target> resolved = targets;
+        if (resolved == null) {
+            resolved = new ArrayList<>();
+            List<Target> found = resolved;
+            sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+                Target target = target(persister);
+                if (target != null) {
+                    found.add(target);
+                }
+            });
+            targets = resolved;
+        }
+        return resolved;
+    }
+
+    private Target target(EntityPersister persister) {
+        SoftDeleteMapping softDelete = persister.getSoftDeleteMapping();
+        if (softDelete == null || softDelete.getSoftDeleteStrategy() != SoftDeleteType.TIMESTAMP
+            || persister.getSuperMappingType() != null) {
+            return null;
+        }
+        EntityIdentifierMapping id = persister.getIdentifierMapping();
+        if (persister instanceof JoinedSubclassEntityPersister || !(id instanceof SelectableMapping idColumn)) {
+            log.debug("Skipping compaction of {}: joined inheritance or composite id", persister.getEntityName());
+            return null;
+        }
+        List<String> naturalIdColumns = new ArrayList<>();
+        NaturalIdMapping naturalId = persister.getNaturalIdMapping();
+        if (naturalId != null) {
+            naturalId.forEachSelectable((index, selectable) -> naturalIdColumns.add(selectable.getSelectionExpression()));
+        }
+        return new Target(persister.getEntityName(), softDelete.getTableName(), idColumn.getSelectionExpression(),
+            softDelete.getColumnName(), List.copyOf(naturalIdColumns), archiveTables.get(persister.getJpaEntityName()));
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soft-delete-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler = executor;
+        executor.scheduleWithFixedDelay(this::runSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Soft-delete compactor started for {} entit(ies), retention {}; recommended indexes: {}",
+            targets().size(), retention, indexRecommendations());
+    }
+
+    private void runSafely() {
+        try {
+            compactAll();
+        } catch (RuntimeException ex) {
+            log.warn("Soft-delete compaction failed: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    record Target(String entityName, String table, String idColumn, String deletedAtColumn,
+                  List<String> naturalIdColumns, String archiveTable) {
+    }
+}
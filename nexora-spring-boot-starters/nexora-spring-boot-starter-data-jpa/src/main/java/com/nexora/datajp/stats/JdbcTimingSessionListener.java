@@ -0,0 +1,43 @@
+package com.nexora.datajp.stats;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds statement and batch execution time to the open {@link QueryStatistics} scopes.
+ *
+ * <p>Hibernate creates one instance per session from
+ * {@code hibernate.session.events.auto}, so the start timestamp needs no
+ * synchronization.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        long elapsed = System.nanoTime() - executionStart;
+        QueryStatisticsContext.forEachOpen(statistics -> statistics.recordJdbcTime(elapsed));
+    }
+}
@@ -0,0 +1,111 @@
+package com.nexora.datajp.stats;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statistics for one unit of work (an HTTP request or a transaction).
+ *
+ * <p>Statements are counted by their SQL text. Hibernate renders parameters
+ * as {@code ?}, so loading twenty lazy associations one by one shows up as the
+ * same statement executed twenty times - the N+1 signature. Only queries are
+ * tracked for repeats; an unbatched bulk insert legitimately repeats its
+ * INSERT and is not an N+1.
+ *
+ * <p>Instances are confined to the thread that opened them.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class QueryStatistics {
+
+    private final String scope;
+    private final String description;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private int entitiesLoaded;
+
+    /**
+     * @param scope       kind of unit of work, used as a metric tag ({@code request}, {@code transaction})
+     * @param description what is being measured, for logs (request URI, transaction name)
+     */
+    public QueryStatistics(String scope, String description) {
+        this.scope = scope;
+        this.description = description;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Number of statements prepared.
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Time spent executing statements and batches.
+     */
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    /**
+     * Number of entities hydrated from result sets (second-level cache hits excluded).
+     */
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * Statements executed at least {@code threshold} times, most repeated first.
+     */
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return Collections.unmodifiableMap(repeated);
+    }
+
+    /**
+     * @return how many times this query has now been seen, or 0 for other statements
+     */
+    int recordStatement(String sql) {
+        statements++;
+        if (!isQuery(sql)) {
+            return 0;
+        }
+        return statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void recordEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    private static boolean isQuery(String sql) {
+        String trimmed = sql.stripLeading();
+        return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    @Override
+    public String toString() {
+        return scope + " " + description + ": " + statements + " statements, "
+            + getJdbcTime().toMillis() + " ms JDBC, " + entitiesLoaded + " entities loaded";
+    }
+}
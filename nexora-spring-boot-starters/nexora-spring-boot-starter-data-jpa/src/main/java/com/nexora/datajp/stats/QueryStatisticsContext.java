@@ -0,0 +1,78 @@
+package com.nexora.datajp.stats;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Per-thread stack of open {@link QueryStatistics}.
+ *
+ * <p>Scopes nest: a transaction inside a request is recorded in both, so the
+ * request total covers all of its transactions. Nothing is recorded while no
+ * scope is open.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public final class QueryStatisticsContext {
+
+    private static final ThreadLocal<Deque<QueryStatistics>> OPEN = new ThreadLocal<>();
+
+    private QueryStatisticsContext() {
+    }
+
+    /**
+     * Start recording a unit of work on the current thread.
+     */
+    public static QueryStatistics open(String scope, String description) {
+        Deque<QueryStatistics> open = OPEN.get();
+        if (open == null) {
+            open = new ArrayDeque<>();
+            OPEN.set(open);
+        }
+        QueryStatistics statistics = new QueryStatistics(scope, description);
+        open.addLast(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stop recording {@code statistics}; other open scopes are unaffected.
+     */
+    public static void close(QueryStatistics statistics) {
+        Deque<QueryStatistics> open = OPEN.get();
+        if (open == null) {
+            return;
+        }
+        open.removeLastOccurrence(statistics);
+        if (open.isEmpty()) {
+            OPEN.remove();
+        }
+    }
+
+    /**
+     * The innermost open scope of the given kind.
+     */
+    public static Optional<QueryStatistics> innermost(String scope) {
+        Deque<QueryStatistics> open = OPEN.get();
+        if (open == null) {
+            return Optional.empty();
+        }
+        Iterator<QueryStatistics> iterator = open.descendingIterator();
+        while (iterator.hasNext()) {
+            QueryStatistics statistics = iterator.next();
+            if (statistics.getScope().equals(scope)) {
+                return Optional.of(statistics);
+            }
+        }
+        return Optional.empty();
+    }
+
+    static void forEachOpen(Consumer<QueryStatistics> action) {
+        Deque<QueryStatistics> open = OPEN.get();
+        if (open != null) {
+            open.forEach(action);
+        }
+    }
+}
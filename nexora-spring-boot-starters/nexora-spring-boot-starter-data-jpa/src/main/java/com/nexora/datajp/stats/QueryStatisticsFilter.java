@@ -0,0 +1,42 @@
+package com.nexora.datajp.stats;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@code request} scope around every HTTP request and reports it afterwards.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+    /**
+     * Scope name of request statistics.
+     */
+    public static final String SCOPE = "request";
+
+    private final QueryStatisticsReporter reporter;
+
+    public QueryStatisticsFilter(QueryStatisticsReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        QueryStatistics statistics = QueryStatisticsContext.open(SCOPE,
+            request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStatisticsContext.close(statistics);
+            reporter.report(statistics);
+        }
+    }
+}
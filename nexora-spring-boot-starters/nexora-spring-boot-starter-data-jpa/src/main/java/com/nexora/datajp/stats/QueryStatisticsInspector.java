@@ -0,0 +1,44 @@
+package com.nexora.datajp.stats;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Records every statement and entity load into the open {@link QueryStatistics} scopes.
+ *
+ * <p>Registered both as the session factory's {@link StatementInspector} and
+ * its {@link Interceptor}. In fail-fast mode the statement that reaches the
+ * repeat threshold is rejected before it runs, so an N+1 fails the test
+ * that caused it instead of a log line nobody reads.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class QueryStatisticsInspector implements StatementInspector, Interceptor {
+
+    private final int repeatThreshold;
+    private final boolean failFast;
+
+    public QueryStatisticsInspector(int repeatThreshold, boolean failFast) {
+        this.repeatThreshold = repeatThreshold;
+        this.failFast = failFast;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        QueryStatisticsContext.forEachOpen(statistics -> {
+            int count = statistics.recordStatement(sql);
+            if (failFast && count == repeatThreshold) {
+                throw new RepeatedStatementException(statistics, sql, count);
+            }
+        });
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryStatisticsContext.forEachOpen(QueryStatistics::recordEntityLoad);
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+package com.nexora.datajp.stats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * Publishes finished {@link QueryStatistics}: histograms per scope and a
+ * warning for every unit of work with repeated statements.
+ *
+ * <p>Meters:
+ * <ul>
+ *   <li>{@code nexora.jpa.statements} - statements per unit of work</li>
+ *   <li>{@code nexora.jpa.jdbc.time} - JDBC execution time per unit of work</li>
+ *   <li>{@code nexora.jpa.entities.loaded} - entities hydrated per unit of work</li>
+ *   <li>{@code nexora.jpa.repeated.statements} - units of work flagged as possible N+1</li>
+ * </ul>
+ * all tagged with {@code scope}.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class QueryStatisticsReporter implements MeterBinder {
+
+    private final int repeatThreshold;
+    private volatile MeterRegistry registry;
+
+    public QueryStatisticsReporter(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Record a finished unit of work.
+     */
+    public void report(QueryStatistics statistics) {
+        Map<String, Integer> repeated = statistics.repeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("Possible N+1 in {}; repeated statements: {}", statistics, repeated);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{}", statistics);
+        }
+
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+        String scope = statistics.getScope();
+        DistributionSummary.builder("nexora.jpa.statements")
+            .tag("scope", scope)
+            .description("SQL statements per unit of work")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(statistics.getStatements());
+        Timer.builder("nexora.jpa.jdbc.time")
+            .tag("scope", scope)
+            .description("JDBC execution time per unit of work")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(statistics.getJdbcTime());
+        DistributionSummary.builder("nexora.jpa.entities.loaded")
+            .tag("scope", scope)
+            .description("Entities loaded per unit of work")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(statistics.getEntitiesLoaded());
+        if (!repeated.isEmpty()) {
+            Counter.builder("nexora.jpa.repeated.statements")
+                .tag("scope", scope)
+                .description("Units of work with a statement repeated past the threshold")
+                .register(registry)
+                .increment();
+        }
+    }
+}
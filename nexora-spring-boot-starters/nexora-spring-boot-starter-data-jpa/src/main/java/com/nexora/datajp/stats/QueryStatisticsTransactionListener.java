@@ -0,0 +1,54 @@
+package com.nexora.datajp.stats;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Opens a {@code transaction} scope for every new transaction and reports it on completion.
+ *
+ * <p>Participating transactions ({@code REQUIRED} inside an existing one)
+ * are part of the outer scope.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class QueryStatisticsTransactionListener implements TransactionExecutionListener {
+
+    /**
+     * Scope name of transaction statistics.
+     */
+    public static final String SCOPE = "transaction";
+
+    private final QueryStatisticsReporter reporter;
+
+    public QueryStatisticsTransactionListener(QueryStatisticsReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && transaction.isNewTransaction()) {
+            QueryStatisticsContext.open(SCOPE, transaction.getTransactionName());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        complete(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        complete(transaction);
+    }
+
+    private void complete(TransactionExecution transaction) {
+        if (!transaction.isNewTransaction()) {
+            return;
+        }
+        QueryStatisticsContext.innermost(SCOPE).ifPresent(statistics -> {
+            QueryStatisticsContext.close(statistics);
+            reporter.report(statistics);
+        });
+    }
+}
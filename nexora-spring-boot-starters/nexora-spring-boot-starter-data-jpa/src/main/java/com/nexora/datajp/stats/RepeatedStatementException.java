@@ -0,0 +1,29 @@
+package com.nexora.datajp.stats;
+
+/**
+ * Thrown in fail-fast mode when one statement is repeated past the threshold
+ * within a unit of work, which usually means an N+1 select.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class RepeatedStatementException extends IllegalStateException {
+
+    private final String sql;
+    private final int count;
+
+    public RepeatedStatementException(QueryStatistics statistics, String sql, int count) {
+        super("Statement executed " + count + " times in " + statistics.getScope() + " "
+            + statistics.getDescription() + " (possible N+1): " + sql);
+        this.sql = sql;
+        this.count = count;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
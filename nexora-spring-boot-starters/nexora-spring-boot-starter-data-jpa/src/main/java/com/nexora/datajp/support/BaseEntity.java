@@ -1,5 +1,6 @@
 package com.nexora.datajp.support;
 
+import com.nexora.datajp.id.ConfigurableId;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
@@ -17,7 +18,8 @@ import java.util.Objects;
  *
  * <p>Provides standard auditing capabilities:
  * <ul>
- *   <li>id - Auto-generated primary key</li>
+ *   <li>id - Auto-generated primary key; the strategy (identity, pooled
+ *       sequence or Snowflake) is selected with {@code nexora.jpa.id-generation.strategy}</li>
  *   <li>createdAt - Timestamp when entity was first persisted</li>
  *   <li>updatedAt - Timestamp of last modification</li>
  *   <li>createdBy - User/system that created the entity</li>
@@ -43,7 +45,7 @@ public abstract class BaseEntity implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ConfigurableId
     private Long id;
 
     @CreatedDate
@@ -0,0 +1,208 @@
+package com.nexora.datajp.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.PredicateSpecification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Chunked processing of large result sets with constant memory.
+ *
+ * <p>Rows are read with keyset pagination on the id ({@code WHERE id > :last
+ * ORDER BY id LIMIT :chunkSize}), so every chunk is an index range scan no
+ * matter how deep into the table it is, and the persistence context is
+ * cleared after each chunk so nothing accumulates.
+ *
+ * <pre>{@code
+ * long processed = Entities.batch(entityManager, Order.class)
+ *     .where((root, cb) -> cb.equal(root.get("status"), Status.PENDING))
+ *     .chunkSize(1000)
+ *     .forEachChunk(orders -> exporter.write(orders));
+ *
+ * // chunks handed to a bounded executor, at most 4 in flight
+ * Entities.batch(entityManager, Order.class)
+ *     .parallel(executor, 4)
+ *     .forEach(order -> indexer.index(order));
+ * }</pre>
+ *
+ * <p>In sequential mode the handler runs on the calling thread; changes it
+ * makes to the entities are flushed before the context is cleared when a
+ * transaction is active. In parallel mode the handler receives detached
+ * entities on executor threads and must not use the calling
+ * {@link EntityManager}; write back through transactional services instead.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class BatchProcessor<T> {
+
+    static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final Class<T> type;
+    private final String idAttribute;
+    private PredicateSpecification<T> where = PredicateSpecification.unrestricted();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private Executor executor;
+    private int parallelism = 1;
+
+    BatchProcessor(EntityManager entityManager, Class<T> type) {
+        this.entityManager = entityManager;
+        this.type = type;
+        this.idAttribute = Entities.idAttributeName(entityManager, type);
+    }
+
+    /**
+     * Restrict the processed rows.
+     */
+    public BatchProcessor<T> where(PredicateSpecification<T> where) {
+        this.where = where;
+        return this;
+    }
+
+    /**
+     * Rows loaded per chunk.
+     */
+    public BatchProcessor<T> chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Process chunks on {@code executor}, with at most {@code parallelism}
+     * chunks loaded or in progress at any time.
+     */
+    public BatchProcessor<T> parallel(Executor executor, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Process every matching entity.
+     *
+     * @return number of processed entities
+     */
+    public long forEach(Consumer<? super T> handler) {
+        return forEachChunk(chunk -> chunk.forEach(handler));
+    }
+
+    /**
+     * Process every matching entity, one chunk at a time.
+     *
+     * @return number of processed entities
+     */
+    public long forEachChunk(Consumer<? super List<T>> handler) {
+        return executor == null ? runSequential(handler) : runParallel(handler);
+    }
+
+    private long runSequential(Consumer<? super List<T>> handler) {
+        long processed = 0;
+        Object lastId = null;
+        List<T> chunk;
+        while (!(chunk = nextChunk(lastId)).isEmpty()) {
+            lastId = idOf(chunk.getLast());
+            handler.accept(chunk);
+            processed += chunk.size();
+            if (entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+            entityManager.clear();
+        }
+        return processed;
+    }
+
+    private long runParallel(Consumer<? super List<T>> handler) {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        long processed = 0;
+        Object lastId = null;
+        try {
+            while (failure.get() == null) {
+                permits.acquire();
+                List<T> chunk = nextChunk(lastId);
+                // Hand over detached entities; the EntityManager stays on this thread
+                entityManager.clear();
+                if (chunk.isEmpty()) {
+                    permits.release();
+                    break;
+                }
+                lastId = idOf(chunk.getLast());
+                processed += chunk.size();
+                inFlight.removeIf(CompletableFuture::isDone);
+                inFlight.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        handler.accept(chunk);
+                    } catch (Throwable ex) {
+                        failure.compareAndSet(null, ex);
+                        throw ex;
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing " + type.getSimpleName(), ex);
+        } catch (CompletionException ex) {
+            // reported below through failure
+        }
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error != null) {
+            throw new IllegalStateException(error);
+        }
+        return processed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<T> nextChunk(Object lastId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        Path<Comparable> id = root.get(idAttribute);
+        Predicate predicate = where.toPredicate(root, cb);
+        if (lastId != null) {
+            Predicate after = cb.greaterThan(id, (Comparable) lastId);
+            predicate = predicate == null ? after : cb.and(predicate, after);
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(id));
+        return entityManager.createQuery(query)
+            .setMaxResults(chunkSize)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+            .getResultList();
+    }
+
+    private Object idOf(T entity) {
+        return entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+}
@@ -1,8 +1,30 @@
 package com.nexora.datajp.support;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -34,6 +56,51 @@ import java.util.function.Supplier;
  * Entities.update(repo, id)
  *     .apply(entity -> entity.touch())
  *     .execute();
+ *
+ * // optimistic locking: reload and re-apply on conflict (VersionedEntity, outside a transaction)
+ * Entities.update(repo, id)
+ *     .apply(stock -> stock.reserve(quantity))
+ *     .withRetry(3, Duration.ofMillis(20))
+ *     .execute();
+ * }</pre>
+ *
+ * <h2>Compare-and-set</h2>
+ * <p>Single {@code UPDATE} statements that never read the row, for hot
+ * counters and inventory rows. Zero updated rows means the condition no
+ * longer held.
+ * <pre>{@code
+ * // succeeds only if nobody changed the row since version 7 was read
+ * int updated = Entities.compareAndSet(entityManager, Inventory.class, id, 7L)
+ *     .set("reserved", true)
+ *     .execute();
+ *
+ * // atomic decrement guarded by the current value
+ * int reserved = Entities.updateWhere(entityManager, Inventory.class,
+ *         (root, cb) -> cb.and(cb.equal(root.get("id"), id), cb.ge(root.get("stock"), quantity)))
+ *     .increment("stock", -quantity)
+ *     .execute();
+ * }</pre>
+ *
+ * <h2>Bulk</h2>
+ * <p>Bulk operations work on an {@link EntityManager} and must run inside a
+ * transaction. They return the number of affected rows.
+ * <pre>{@code
+ * // batched persist, flush + clear every hibernate.jdbc.batch_size entities
+ * int created = Entities.createAll(entityManager, entities);
+ *
+ * // single UPDATE ... WHERE
+ * int archived = Entities.updateWhere(entityManager, Order.class,
+ *         (root, cb) -> cb.lessThan(root.<Instant>get("createdAt"), cutoff))
+ *     .set("status", Status.ARCHIVED)
+ *     .execute();
+ *
+ * // DELETE ... WHERE id IN (...), chunked
+ * int deleted = Entities.deleteAllById(entityManager, Order.class, ids);
+ *
+ * // keyset-paginated chunks, persistence context cleared in between
+ * long processed = Entities.batch(entityManager, Order.class)
+ *     .chunkSize(1000)
+ *     .forEachChunk(orders -> exporter.write(orders));
  * }</pre>
  *
  * @author sujie
@@ -41,6 +108,13 @@ import java.util.function.Supplier;
  */
 public final class Entities {
 
+    /**
+     * Maximum number of ids bound into a single {@code IN} list.
+     */
+    static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
     private Entities() {
     }
 
@@ -62,11 +136,240 @@ public final class Entities {
      * Delete entity by ID.
      */
     public static <T> boolean delete(JpaRepository<T, Long> repo, Long id) {
-        if (!repo.existsById(id)) {
-            return false;
+        // deleteById loads the entity anyway; reuse that load instead of a separate existsById
+        return repo.findById(id)
+            .map(entity -> {
+                repo.delete(entity);
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Persist all entities, flushing and clearing the persistence context every
+     * {@code hibernate.jdbc.batch_size} entities (50 if not configured).
+     *
+     * <p>Entities of earlier batches are detached once this returns; ids are assigned.
+     *
+     * @return number of persisted entities
+     */
+    public static <T> int createAll(EntityManager entityManager, Iterable<? extends T> entities) {
+        return createAll(entityManager, entities, configuredBatchSize(entityManager));
+    }
+
+    /**
+     * Persist all entities, flushing and clearing the persistence context every
+     * {@code batchSize} entities so the JDBC driver receives full batches and
+     * memory stays bounded.
+     *
+     * @return number of persisted entities
+     */
+    public static <T> int createAll(EntityManager entityManager, Iterable<? extends T> entities, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        int count = 0;
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        if (count % batchSize != 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Start a bulk {@code UPDATE ... WHERE} operation.
+     *
+     * <p>Runs as one statement: no entity is loaded, lifecycle callbacks and
+     * optimistic locking are bypassed, and already-managed instances are not
+     * refreshed. For {@link BaseEntity} subclasses {@code updatedAt} is set to
+     * the current time unless assigned explicitly; for {@link VersionedEntity}
+     * subclasses the version is incremented so concurrent entity updates of
+     * the same rows still fail their version check.
+     */
+    public static <T> UpdateWhere<T> updateWhere(EntityManager entityManager, Class<T> type,
+                                                 PredicateSpecification<T> where) {
+        return new UpdateWhere<>(entityManager, type, where);
+    }
+
+    /**
+     * Start a compare-and-set update of one {@link VersionedEntity} row.
+     *
+     * <p>The {@code UPDATE} matches only while the row still has
+     * {@code expectedVersion} and increments the version, exactly like an
+     * optimistic-locked entity update but without loading the entity first.
+     * {@link UpdateWhere#execute()} returns 1 on success and 0 on conflict.
+     */
+    public static <T extends VersionedEntity> UpdateWhere<T> compareAndSet(EntityManager entityManager, Class<T> type,
+                                                                          Long id, long expectedVersion) {
+        return new UpdateWhere<>(entityManager, type, (root, cb) -> cb.and(
+            cb.equal(root.get(idAttributeName(entityManager, type)), id),
+            cb.equal(root.get(VersionedEntity.VERSION), expectedVersion)));
+    }
+
+    /**
+     * Delete entities by ID with {@code DELETE ... WHERE id IN (...)}, issuing
+     * one statement per {@value #DELETE_CHUNK_SIZE} ids.
+     *
+     * <p>Like {@link #updateWhere}, this bypasses lifecycle callbacks and cascades.
+     * Rows of {@link com.nexora.datajp.softdelete.SoftDeletableEntity soft-deletable}
+     * entities are marked deleted rather than removed.
+     *
+     * @return number of deleted rows
+     */
+    public static <T> int deleteAllById(EntityManager entityManager, Class<T> type, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        String idAttribute = idAttributeName(entityManager, type);
+        List<?> all = new ArrayList<>(ids);
+        int deleted = 0;
+        for (int from = 0; from < all.size(); from += DELETE_CHUNK_SIZE) {
+            List<?> chunk = all.subList(from, Math.min(from + DELETE_CHUNK_SIZE, all.size()));
+            CriteriaDelete<T> delete = cb.createCriteriaDelete(type);
+            Root<T> root = delete.from(type);
+            delete.where(root.get(idAttribute).in(chunk));
+            deleted += entityManager.createQuery(delete).executeUpdate();
+        }
+        return deleted;
+    }
+
+    /**
+     * Start a chunked processing operation over all rows of {@code type}.
+     *
+     * @see BatchProcessor
+     */
+    public static <T> BatchProcessor<T> batch(EntityManager entityManager, Class<T> type) {
+        return new BatchProcessor<>(entityManager, type);
+    }
+
+    private static int configuredBatchSize(EntityManager entityManager) {
+        Object value = entityManager.getEntityManagerFactory().getProperties().get(AvailableSettings.STATEMENT_BATCH_SIZE);
+        if (value == null) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        int size = Integer.parseInt(value.toString().trim());
+        return size > 0 ? size : DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Sum two increments in the wider of their types: BigDecimal, then BigInteger,
+     * then double, then long.
+     */
+    static Number add(Number a, Number b) {
+        if (a instanceof BigDecimal || b instanceof BigDecimal
+            || (isBigInteger(a) || isBigInteger(b)) && (isFloatingPoint(a) || isFloatingPoint(b))) {
+            return toBigDecimal(a).add(toBigDecimal(b));
+        }
+        if (isBigInteger(a) || isBigInteger(b)) {
+            return toBigInteger(a).add(toBigInteger(b));
+        }
+        if (isFloatingPoint(a) || isFloatingPoint(b)) {
+            return a.doubleValue() + b.doubleValue();
+        }
+        return a.longValue() + b.longValue();
+    }
+
+    private static boolean isBigInteger(Number number) {
+        return number instanceof BigInteger;
+    }
+
+    private static boolean isFloatingPoint(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+        return isFloatingPoint(number)
+            ? BigDecimal.valueOf(number.doubleValue())
+            : BigDecimal.valueOf(number.longValue());
+    }
+
+    private static BigInteger toBigInteger(Number number) {
+        return number instanceof BigInteger integer ? integer : BigInteger.valueOf(number.longValue());
+    }
+
+    static String idAttributeName(EntityManager entityManager, Class<?> type) {
+        return entityManager.getMetamodel().entity(type).getSingularAttributes().stream()
+            .filter(SingularAttribute::isId)
+            .map(SingularAttribute::getName)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No single id attribute on " + type.getName()));
+    }
+
+    /**
+     * Bulk update operation.
+     */
+    public static class UpdateWhere<T> {
+
+        private final EntityManager entityManager;
+        private final Class<T> type;
+        private final PredicateSpecification<T> where;
+        private final Map<String, Object> assignments = new LinkedHashMap<>();
+        private final Map<String, Number> increments = new LinkedHashMap<>();
+
+        UpdateWhere(EntityManager entityManager, Class<T> type, PredicateSpecification<T> where) {
+            this.entityManager = entityManager;
+            this.type = type;
+            this.where = where;
+        }
+
+        /**
+         * Assign an attribute.
+         */
+        public UpdateWhere<T> set(String attribute, Object value) {
+            assignments.put(attribute, value);
+            return this;
+        }
+
+        /**
+         * Add {@code delta} to a numeric attribute in the database
+         * ({@code SET attribute = attribute + delta}), without reading it first.
+         */
+        public UpdateWhere<T> increment(String attribute, Number delta) {
+            increments.merge(attribute, delta, Entities::add);
+            return this;
+        }
+
+        /**
+         * Execute the update.
+         *
+         * @return number of updated rows
+         */
+        public int execute() {
+            if (assignments.isEmpty() && increments.isEmpty()) {
+                throw new IllegalStateException("No attributes to update");
+            }
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaUpdate<T> update = cb.createCriteriaUpdate(type);
+            Root<T> root = update.from(type);
+            assignments.forEach(update::set);
+            increments.forEach((attribute, delta) -> {
+                Path<Number> path = root.get(attribute);
+                update.set(path, cb.sum(path, delta));
+            });
+            if (BaseEntity.class.isAssignableFrom(type) && !assignments.containsKey("updatedAt")) {
+                update.set("updatedAt", Instant.now());
+            }
+            if (VersionedEntity.class.isAssignableFrom(type) && !assignments.containsKey(VersionedEntity.VERSION)) {
+                Path<Long> version = root.get(VersionedEntity.VERSION);
+                update.set(version, cb.sum(version, 1L));
+            }
+            update.where(where.toPredicate(root, cb));
+            return entityManager.createQuery(update).executeUpdate();
         }
-        repo.deleteById(id);
-        return true;
     }
 
     /**
@@ -186,13 +489,26 @@ public final class Entities {
             this.input = input;
         }
 
+        private OptimisticRetry retry = OptimisticRetry.NONE;
+
+        /**
+         * Retry on optimistic lock conflicts, reloading the entity and
+         * re-applying the update each time.
+         *
+         * @see OptimisticRetry
+         */
+        public UpdateWith<T> withRetry(int maxAttempts, Duration backoff) {
+            this.retry = new OptimisticRetry(maxAttempts, backoff);
+            return this;
+        }
+
         /**
          * Execute the update operation.
          */
         public Optional<T> execute() {
-            return repo.findById(id)
+            return retry.execute(() -> repo.findById(id)
                 .map(entity -> updater.apply(entity, input))
-                .map(repo::save);
+                .map(retry.save(repo)));
         }
     }
 
@@ -211,13 +527,88 @@ public final class Entities {
             this.updater = updater;
         }
 
+        private OptimisticRetry retry = OptimisticRetry.NONE;
+
+        /**
+         * Retry on optimistic lock conflicts, reloading the entity and
+         * re-applying the update each time.
+         *
+         * @see OptimisticRetry
+         */
+        public UpdateApply<T> withRetry(int maxAttempts, Duration backoff) {
+            this.retry = new OptimisticRetry(maxAttempts, backoff);
+            return this;
+        }
+
         /**
          * Execute the update operation.
          */
         public Optional<T> execute() {
-            return repo.findById(id)
+            return retry.execute(() -> repo.findById(id)
                 .map(updater)
-                .map(repo::save);
+                .map(retry.save(repo)));
+        }
+    }
+
+    /**
+     * Retry policy for optimistic lock conflicts.
+     *
+     * <p>Each attempt reloads the entity, re-applies the update and flushes,
+     * so the conflict surfaces inside the attempt. That only works when every
+     * attempt gets a fresh persistence context, so retries must start outside
+     * a transaction; inside one the failed attempt has already marked it
+     * rollback-only. Waits between attempts grow exponentially from
+     * {@code backoff} with full jitter so contending callers spread out.
+     */
+    static final class OptimisticRetry {
+
+        static final OptimisticRetry NONE = new OptimisticRetry(1, Duration.ZERO);
+
+        private final int maxAttempts;
+        private final Duration backoff;
+
+        OptimisticRetry(int maxAttempts, Duration backoff) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            this.backoff = backoff;
+        }
+
+        <T> Function<T, T> save(JpaRepository<T, Long> repo) {
+            return this == NONE ? repo::save : repo::saveAndFlush;
+        }
+
+        <R> R execute(Supplier<R> attempt) {
+            if (this == NONE) {
+                return attempt.get();
+            }
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException("withRetry must be called outside a transaction");
+            }
+            for (int i = 1; ; i++) {
+                try {
+                    return attempt.get();
+                } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                    if (i >= maxAttempts) {
+                        throw e;
+                    }
+                    pause(i);
+                }
+            }
+        }
+
+        private void pause(int attempt) {
+            long ceiling = backoff.toMillis() << Math.min(attempt - 1, 16);
+            if (ceiling <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to retry", e);
+            }
         }
     }
 }
@@ -0,0 +1,58 @@
+package com.nexora.datajp.support;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+
+import java.io.Serial;
+
+/**
+ * {@link BaseEntity} with optimistic locking.
+ *
+ * <p>Every update checks and increments {@code version}; a concurrent
+ * modification fails with an optimistic lock exception instead of silently
+ * overwriting the other write. Extend this instead of {@link BaseEntity} for
+ * rows that are updated concurrently, and pair it with
+ * {@link Entities.UpdateApply#withRetry} or {@link Entities#compareAndSet}
+ * rather than pessimistic locks.
+ *
+ * <p>Usage:
+ * <pre>
+ * &#64;Entity
+ * public class Inventory extends VersionedEntity {
+ *     // ... entity fields
+ * }
+ * </pre>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@MappedSuperclass
+public abstract class VersionedEntity extends BaseEntity {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Attribute name of the version.
+     */
+    public static final String VERSION = "version";
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Get the optimistic lock version; {@code null} until persisted.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Set the optimistic lock version. Normally managed by the persistence provider.
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
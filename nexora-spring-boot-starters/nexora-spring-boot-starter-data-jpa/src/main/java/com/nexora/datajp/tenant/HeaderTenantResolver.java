@@ -0,0 +1,27 @@
+package com.nexora.datajp.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Takes the tenant from a request header.
+ *
+ * <p>The header is not authenticated: any client can name any tenant. Only
+ * use it behind a gateway that sets the header itself, hence it is opt-in
+ * ({@code nexora.jpa.multi-tenancy.trust-header}).
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class HeaderTenantResolver implements TenantResolver {
+
+    private final String header;
+
+    public HeaderTenantResolver(String header) {
+        this.header = header;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        return request.getHeader(header);
+    }
+}
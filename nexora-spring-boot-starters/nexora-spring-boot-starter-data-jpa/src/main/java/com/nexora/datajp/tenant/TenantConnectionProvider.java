@@ -0,0 +1,121 @@
+package com.nexora.datajp.tenant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Connections per tenant: a dedicated pool, a schema of the shared pool, or
+ * the shared pool as is.
+ *
+ * <p>Tenants without a {@link TenantStorage} entry share the default
+ * storage and are separated by the tenant discriminator only, so large
+ * tenants can be moved onto their own schema or database by configuration
+ * alone.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class TenantConnectionProvider implements MultiTenantConnectionProvider<String>, AutoCloseable {
+
+    private final DataSource shared;
+    private final Map<String, TenantStorage> storage;
+    private volatile String defaultSchema;
+
+    public TenantConnectionProvider(DataSource shared, Map<String, TenantStorage> storage) {
+        this.shared = shared;
+        this.storage = Map.copyOf(storage);
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return shared.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String tenant) throws SQLException {
+        TenantStorage tenantStorage = storage.get(tenant);
+        if (tenantStorage == null) {
+            return shared.getConnection();
+        }
+        DataSource dataSource = tenantStorage.dataSource() != null ? tenantStorage.dataSource() : shared;
+        Connection connection = dataSource.getConnection();
+        if (tenantStorage.schema() != null) {
+            if (tenantStorage.dataSource() == null && defaultSchema == null) {
+                defaultSchema = connection.getSchema();
+            }
+            try {
+                connection.setSchema(tenantStorage.schema());
+            } catch (SQLException ex) {
+                connection.close();
+                throw ex;
+            }
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(String tenant, Connection connection) throws SQLException {
+        TenantStorage tenantStorage = storage.get(tenant);
+        try {
+            // Shared pool connections go back to other tenants: undo the schema switch
+            if (tenantStorage != null && tenantStorage.schema() != null && tenantStorage.dataSource() == null) {
+                connection.setSchema(defaultSchema);
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean handlesConnectionSchema() {
+        return true;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this) || unwrapType.isInstance(shared);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isInstance(this)) {
+            return unwrapType.cast(this);
+        }
+        if (unwrapType.isInstance(shared)) {
+            return unwrapType.cast(shared);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + unwrapType.getName());
+    }
+
+    /**
+     * Close the dedicated tenant pools.
+     */
+    @Override
+    public void close() {
+        storage.forEach((tenant, tenantStorage) -> {
+            if (tenantStorage.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close data source of tenant {}: {}", tenant, ex.getMessage());
+                }
+            }
+        });
+    }
+}
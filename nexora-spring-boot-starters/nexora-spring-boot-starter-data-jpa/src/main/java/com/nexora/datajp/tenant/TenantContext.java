@@ -0,0 +1,70 @@
+package com.nexora.datajp.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * Current tenant of the thread.
+ *
+ * <p>Set at the request boundary ({@link TenantFilter}) or around background
+ * work with {@link #callAs}; read by Hibernate through
+ * {@link TenantIdentifierResolver} whenever a session opens.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * The current tenant, or {@code null} if none is set.
+     */
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Set the current tenant; {@code null} clears it.
+     */
+    public static void set(String tenant) {
+        if (tenant == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(tenant);
+        }
+    }
+
+    /**
+     * Clear the current tenant.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run {@code action} as {@code tenant}, restoring the previous tenant afterwards.
+     * Open the transaction inside the action: the tenant is fixed when the session opens.
+     */
+    public static <T> T callAs(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        set(tenant);
+        try {
+            return action.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * Run {@code action} as {@code tenant}, restoring the previous tenant afterwards.
+     */
+    public static void runAs(String tenant, Runnable action) {
+        callAs(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.nexora.datajp.tenant;
+
+import com.nexora.datajp.support.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import org.hibernate.annotations.TenantId;
+
+import java.io.Serial;
+
+/**
+ * {@link BaseEntity} partitioned by tenant.
+ *
+ * <p>Hibernate fills {@code tenantId} from the session's tenant on insert
+ * and adds {@code tenant_id = ?} to every query, so rows of other tenants
+ * are never read or written. Entities outside this hierarchy get the same
+ * behaviour by declaring their own {@link TenantId} attribute.
+ *
+ * <p>Put {@code tenant_id} first in composite indexes so each tenant's rows
+ * are clustered together.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@MappedSuperclass
+public abstract class TenantEntity extends BaseEntity {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    /**
+     * Get the owning tenant.
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.nexora.datajp.tenant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Sets {@link TenantContext} from the {@link TenantResolver} for the duration of the request.
+ *
+ * <p>Requests without a tenant run as the default tenant. Malformed
+ * values are rejected with 400 because the tenant id ends up in SQL
+ * parameters and pool names. The root tenant bypasses tenant filtering
+ * and is never accepted from a request: it is rejected with 403.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class TenantFilter extends OncePerRequestFilter {
+
+    private static final Pattern VALID_TENANT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final TenantResolver resolver;
+    private final String rootTenant;
+
+    /**
+     * @param rootTenant tenant that bypasses tenant filtering, or {@code null} for none
+     */
+    public TenantFilter(TenantResolver resolver, String rootTenant) {
+        this.resolver = resolver;
+        this.rootTenant = rootTenant;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String tenant = resolver.resolve(request);
+        if (tenant != null && !VALID_TENANT.matcher(tenant).matches()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid tenant");
+            return;
+        }
+        if (tenant != null && tenant.equals(rootTenant)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "Tenant not allowed");
+            return;
+        }
+        TenantContext.set(tenant);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.nexora.datajp.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Hibernate tenant resolver reading {@link TenantContext}.
+ *
+ * <p>Without a current tenant the default tenant is used. Sessions of the
+ * root tenant, if one is configured, see the rows of every tenant; use it
+ * for maintenance jobs only.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    private final String defaultTenant;
+    private final String rootTenant;
+
+    /**
+     * @param rootTenant tenant that bypasses tenant filtering, or {@code null} for none
+     */
+    public TenantIdentifierResolver(String defaultTenant, String rootTenant) {
+        this.defaultTenant = defaultTenant;
+        this.rootTenant = rootTenant;
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String tenant = TenantContext.get();
+        return tenant != null ? tenant : defaultTenant;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    @Override
+    public boolean isRoot(String tenant) {
+        return rootTenant != null && rootTenant.equals(tenant);
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexora.datajp.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the tenant of an HTTP request for {@link TenantFilter}.
+ *
+ * <p>Derive the tenant from something the client cannot choose freely,
+ * typically the authenticated principal:
+ * <pre>
+ * &#64;Bean
+ * TenantResolver tenantResolver() {
+ *     return request -&gt; request.getUserPrincipal() instanceof MyPrincipal p ? p.getTenantId() : null;
+ * }
+ * </pre>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface TenantResolver {
+
+    /**
+     * The request's tenant, or {@code null} for the default tenant.
+     */
+    String resolve(HttpServletRequest request);
+}
@@ -0,0 +1,14 @@
+package com.nexora.datajp.tenant;
+
+import javax.sql.DataSource;
+
+/**
+ * Where a tenant's tables live.
+ *
+ * @param schema     schema to switch to, or {@code null} for the connection's default
+ * @param dataSource dedicated pool, or {@code null} to use the shared one
+ * @author sujie
+ * @since 1.0.0
+ */
+public record TenantStorage(String schema, DataSource dataSource) {
+}
@@ -1,6 +1,12 @@
 package com.nexora.datajp.autoconfigure;
 
+import com.nexora.datajp.id.IdStrategy;
+import com.nexora.datajp.id.ConfigurableIdGenerator;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,5 +30,24 @@ class JpaAutoConfigurationTest {
 
         assertTrue(properties.getAuditing().isEnabled());
         assertTrue(properties.getLazyLoading().isEnabled());
+        assertEquals(IdStrategy.IDENTITY, properties.getIdGeneration().getStrategy());
+        assertEquals(50, properties.getIdGeneration().getIncrementSize());
+        assertTrue(properties.getBatch().isEnabled());
+        assertEquals(50, properties.getBatch().getSize());
+    }
+
+    @Test
+    void testSnowflakeRequiresExplicitNodeId() {
+        JpaProperties properties = new JpaProperties();
+        properties.getIdGeneration().setStrategy(IdStrategy.SNOWFLAKE);
+        HibernatePropertiesCustomizer customizer = new JpaAutoConfiguration.HibernateSettingsConfiguration()
+            .nexoraHibernatePropertiesCustomizer(properties);
+
+        assertThrows(IllegalStateException.class, () -> customizer.customize(new HashMap<>()));
+
+        properties.getIdGeneration().setNodeId(0);
+        Map<String, Object> hibernateProperties = new HashMap<>();
+        customizer.customize(hibernateProperties);
+        assertEquals("0", hibernateProperties.get(ConfigurableIdGenerator.NODE_ID_SETTING));
     }
 }
@@ -0,0 +1,101 @@
+package com.nexora.datajp.autoconfigure;
+
+import com.nexora.datajp.routing.ReadWriteRoutingDataSource;
+import com.nexora.datajp.routing.ReadYourWrites;
+import com.nexora.datajp.routing.ReplicaSet;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for read/write routing wired by {@link JpaAutoConfiguration} alongside
+ * Spring Boot's DataSource and Hibernate auto-configuration.
+ */
+class ReadWriteRoutingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class, JpaAutoConfiguration.class))
+        .withPropertyValues(
+            "nexora.jpa.routing.enabled=true",
+            "nexora.jpa.routing.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+            "nexora.jpa.routing.replicas[0].username=sa");
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void testBootDataSourceIsWrappedAndJpaStarts() {
+        contextRunner
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(DataSource.class);
+                assertThat(context).hasSingleBean(ReplicaSet.class);
+                assertThat(context).hasSingleBean(EntityManagerFactory.class);
+                DataSource dataSource = context.getBean("dataSource", DataSource.class);
+                assertThat(dataSource).isInstanceOf(ReadWriteRoutingDataSource.class);
+
+                ReadYourWrites.clear();
+                assertThat(database(dataSource, true)).isEqualToIgnoringCase("routing-replica");
+                assertThat(database(dataSource, false)).isEqualToIgnoringCase("routing-primary");
+            });
+    }
+
+    @Test
+    void testPrimaryUserDataSourceIsWrapped() {
+        contextRunner
+            .withUserConfiguration(TwoDataSourcesConfiguration.class)
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(EntityManagerFactory.class);
+                assertThat(context.getBean("mainDataSource")).isInstanceOf(ReadWriteRoutingDataSource.class);
+                assertThat(context.getBean("reportingDataSource")).isNotInstanceOf(ReadWriteRoutingDataSource.class);
+            });
+    }
+
+    private static String database(DataSource dataSource, boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT DATABASE()")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class TwoDataSourcesConfiguration {
+
+        @Bean
+        @Primary
+        DataSource mainDataSource() {
+            return new DriverManagerDataSource("jdbc:h2:mem:routing-main;DB_CLOSE_DELAY=-1", "sa", "");
+        }
+
+        @Bean
+        DataSource reportingDataSource() {
+            return new DriverManagerDataSource("jdbc:h2:mem:routing-reporting;DB_CLOSE_DELAY=-1", "sa", "");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.nexora.datajp.cache;
+
+import com.nexora.datajp.support.BaseEntity;
+import jakarta.persistence.Entity;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CacheManagerRegionFactory}: two nodes with their own caches on one H2 database.
+ */
+class CacheManagerRegionFactoryTest {
+
+    private final InMemoryBus bus = new InMemoryBus();
+    private SessionFactory nodeA;
+    private SessionFactory nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node("create-drop");
+        nodeB = node("none");
+        nodeA.inTransaction(session -> {
+            Product product = new Product();
+            product.name = "original";
+            product.setCreatedAt(Instant.now());
+            product.setUpdatedAt(Instant.now());
+            session.persist(product);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void testEntityLoadsAreServedFromCache() {
+        long id = firstId();
+        nodeA.getStatistics().clear();
+
+        assertEquals("original", load(nodeA, id));
+        assertEquals("original", load(nodeA, id));
+
+        assertEquals(1, nodeA.getStatistics().getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void testUpdateOnOneNodeEvictsOtherNodes() {
+        long id = firstId();
+        assertEquals("original", load(nodeA, id));
+
+        nodeB.inTransaction(session -> session.find(Product.class, id).name = "changed");
+
+        assertEquals("changed", load(nodeA, id));
+    }
+
+    @Test
+    void testQueryCacheInvalidatedAcrossNodes() {
+        assertEquals(1L, cachedCount(nodeA));
+        nodeA.getStatistics().clear();
+        assertEquals(1L, cachedCount(nodeA));
+        assertEquals(1, nodeA.getStatistics().getQueryCacheHitCount());
+
+        nodeB.inTransaction(session -> {
+            Product product = new Product();
+            product.name = "second";
+            product.setCreatedAt(Instant.now());
+            product.setUpdatedAt(Instant.now());
+            session.persist(product);
+        });
+
+        assertEquals(2L, cachedCount(nodeA));
+    }
+
+    private long firstId() {
+        return nodeA.fromSession(session -> session
+            .createSelectionQuery("select min(id) from Product", Long.class)
+            .getSingleResult());
+    }
+
+    private static String load(SessionFactory node, long id) {
+        return node.fromTransaction(session -> session.find(Product.class, id).name);
+    }
+
+    private static long cachedCount(SessionFactory node) {
+        return node.fromTransaction(session -> session
+            .createSelectionQuery("select count(*) from Product", Long.class)
+            .setCacheable(true)
+            .getSingleResult());
+    }
+
+    private SessionFactory node(String ddl) {
+        Configuration configuration = new Configuration();
+        configuration.getProperties().put(AvailableSettings.CACHE_REGION_FACTORY,
+            new CacheManagerRegionFactory(new CaffeineCacheManager(), bus));
+        return configuration
+            .addAnnotatedClass(Product.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:l2-cache;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, ddl)
+            .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+            .setProperty(AvailableSettings.USE_QUERY_CACHE, "true")
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+            .buildSessionFactory();
+    }
+
+    @Entity(name = "Product")
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+    static class Product extends BaseEntity {
+        String name;
+    }
+
+    static class InMemoryBus implements CacheInvalidationBus {
+
+        private final List<Consumer<CacheInvalidation>> handlers = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            handlers.forEach(handler -> handler.accept(invalidation));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> handler) {
+            handlers.add(handler);
+        }
+    }
+}
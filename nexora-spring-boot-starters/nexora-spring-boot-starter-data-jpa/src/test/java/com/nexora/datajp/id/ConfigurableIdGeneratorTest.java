@@ -0,0 +1,92 @@
+package com.nexora.datajp.id;
+
+import com.nexora.datajp.support.BaseEntity;
+import jakarta.persistence.Entity;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ConfigurableIdGenerator} against an in-memory H2 database.
+ */
+class ConfigurableIdGeneratorTest {
+
+    @Test
+    void testIdentityStrategy() {
+        List<Long> ids = persist(IdStrategy.IDENTITY, 3);
+
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    void testSequenceStrategyUsesPooledLoBlocks() {
+        try (SessionFactory sessionFactory = sessionFactory(IdStrategy.SEQUENCE)) {
+            List<Long> ids = persist(sessionFactory, 25);
+
+            assertEquals(25, ids.size());
+            for (int i = 1; i < ids.size(); i++) {
+                assertEquals(ids.get(i - 1) + 1, ids.get(i));
+            }
+            // pooled-lo reserves 10 ids per call: 25 inserts need 3 sequence calls
+            long sequenceValue = sessionFactory.fromSession(session -> ((Number) session
+                .createNativeQuery("select current value for SampleEntity_SEQ", Object.class)
+                .getSingleResult()).longValue());
+            assertEquals(21, sequenceValue);
+        }
+    }
+
+    @Test
+    void testSnowflakeStrategy() {
+        List<Long> ids = persist(IdStrategy.SNOWFLAKE, 5);
+
+        assertEquals(5, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+        assertEquals(3, SnowflakeIdGenerator.nodeIdOf(ids.get(0)));
+    }
+
+    private static List<Long> persist(IdStrategy strategy, int count) {
+        try (SessionFactory sessionFactory = sessionFactory(strategy)) {
+            return persist(sessionFactory, count);
+        }
+    }
+
+    private static List<Long> persist(SessionFactory sessionFactory, int count) {
+        return sessionFactory.fromTransaction(session -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                SampleEntity entity = new SampleEntity();
+                entity.setCreatedAt(Instant.now());
+                entity.setUpdatedAt(Instant.now());
+                session.persist(entity);
+                session.flush();
+                ids.add(entity.getId());
+            }
+            return ids;
+        });
+    }
+
+    private static SessionFactory sessionFactory(IdStrategy strategy) {
+        return new Configuration()
+            .addAnnotatedClass(SampleEntity.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + strategy + ";DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(ConfigurableIdGenerator.STRATEGY_SETTING, strategy.name())
+            .setProperty(ConfigurableIdGenerator.INCREMENT_SIZE_SETTING, "10")
+            .setProperty(ConfigurableIdGenerator.NODE_ID_SETTING, "3")
+            .buildSessionFactory();
+    }
+
+    @Entity(name = "SampleEntity")
+    static class SampleEntity extends BaseEntity {
+    }
+}
@@ -0,0 +1,66 @@
+package com.nexora.datajp.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SnowflakeIdGenerator}.
+ */
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void testIdsAreUniqueAndIncreasing() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> seen = new HashSet<>();
+        long previous = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertTrue(seen.add(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    void testEncodesNodeAndTimestamp() {
+        Instant before = Instant.now().minusMillis(1);
+        long id = new SnowflakeIdGenerator(513).nextId();
+
+        assertEquals(513, SnowflakeIdGenerator.nodeIdOf(id));
+        assertFalse(SnowflakeIdGenerator.timestampOf(id).isBefore(before));
+    }
+
+    @Test
+    void testSequenceOverflowAndClockRollbackStayMonotonic() {
+        long[] clock = {SnowflakeIdGenerator.EPOCH + 1_000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1) {
+            @Override
+            protected long currentTimeMillis() {
+                return clock[0];
+            }
+        };
+
+        long previous = 0;
+        for (int i = 0; i < 5_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+
+        clock[0] -= 500;
+        assertTrue(generator.nextId() > previous);
+    }
+
+    @Test
+    void testRejectsInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}
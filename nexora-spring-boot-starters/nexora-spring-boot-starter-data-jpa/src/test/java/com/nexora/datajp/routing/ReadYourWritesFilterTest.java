@@ -0,0 +1,30 @@
+package com.nexora.datajp.routing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ReadYourWritesFilter}.
+ */
+class ReadYourWritesFilterTest {
+
+    @Test
+    void testStickinessClearedWhenRequestEnds() throws Exception {
+        AtomicBoolean stickyInRequest = new AtomicBoolean();
+
+        new ReadYourWritesFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            (req, res) -> {
+                ReadYourWrites.markWrite();
+                stickyInRequest.set(ReadYourWrites.isSticky(Duration.ofMinutes(1)));
+            });
+
+        assertTrue(stickyInRequest.get());
+        assertFalse(ReadYourWrites.isSticky(Duration.ofMinutes(1)));
+    }
+}
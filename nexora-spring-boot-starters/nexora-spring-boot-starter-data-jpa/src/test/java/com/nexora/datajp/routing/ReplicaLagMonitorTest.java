@@ -0,0 +1,69 @@
+package com.nexora.datajp.routing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReplicaLagMonitor}.
+ */
+class ReplicaLagMonitorTest {
+
+    private static final DataSource H2 = new DriverManagerDataSource("jdbc:h2:mem:replica-lag;DB_CLOSE_DELAY=-1", "sa", "");
+
+    @Test
+    void testLaggingReplicaLeavesAndRejoinsRotation() {
+        Replica replica = new Replica("r1", H2);
+
+        monitor(replica, "SELECT 12.5").checkAll();
+        assertFalse(replica.isHealthy());
+        assertEquals(12.5, replica.getLagSeconds());
+
+        monitor(replica, "SELECT 0.2").checkAll();
+        assertTrue(replica.isHealthy());
+        assertEquals(0.2, replica.getLagSeconds());
+    }
+
+    @Test
+    void testUnreachableReplicaIsUnhealthy() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+        Replica replica = new Replica("r2", broken);
+
+        monitor(replica, null).checkAll();
+
+        assertFalse(replica.isHealthy());
+    }
+
+    @Test
+    void testConnectivityCheckWithoutLagQuery() {
+        Replica replica = new Replica("r3", H2);
+        replica.update(false, 0);
+
+        monitor(replica, null).checkAll();
+
+        assertTrue(replica.isHealthy());
+    }
+
+    @Test
+    void testLifecycle() {
+        ReplicaLagMonitor monitor = monitor(new Replica("r4", H2), null);
+
+        monitor.start();
+        assertTrue(monitor.isRunning());
+        monitor.stop();
+        assertFalse(monitor.isRunning());
+    }
+
+    private static ReplicaLagMonitor monitor(Replica replica, String lagQuery) {
+        return new ReplicaLagMonitor(List.of(replica), Duration.ofSeconds(5), Duration.ofSeconds(1), lagQuery);
+    }
+}
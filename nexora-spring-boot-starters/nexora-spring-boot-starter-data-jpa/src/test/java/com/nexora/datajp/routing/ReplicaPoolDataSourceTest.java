@@ -0,0 +1,138 @@
+package com.nexora.datajp.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReplicaPoolDataSource} and {@link ReadWriteRoutingDataSource}.
+ */
+class ReplicaPoolDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void testRoundRobinSkipsUnhealthyReplicas() throws SQLException {
+        Replica a = replica("a");
+        Replica b = replica("b");
+        Replica c = replica("c");
+        ReplicaPoolDataSource pool = pool(LoadBalancing.ROUND_ROBIN, a, b, c);
+
+        assertEquals(List.of(a, b, c, a), List.of(pool.select(), pool.select(), pool.select(), pool.select()));
+
+        b.update(false, 30);
+        assertEquals(List.of(a, c, a), List.of(pool.select(), pool.select(), pool.select()));
+    }
+
+    @Test
+    void testLeastConnectionsPrefersIdleReplica() throws SQLException {
+        Replica a = replica("a");
+        Replica b = replica("b");
+        ReplicaPoolDataSource pool = pool(LoadBalancing.LEAST_CONNECTIONS, a, b);
+
+        Connection first = pool.getConnection();
+        assertEquals(1, a.getActiveConnections());
+        pool.getConnection();
+        assertEquals(1, b.getActiveConnections());
+
+        first.close();
+        first.close();
+        assertEquals(0, a.getActiveConnections());
+        assertSame(a, pool.select());
+    }
+
+    @Test
+    void testFallsBackToPrimary() throws SQLException {
+        Replica a = replica("a");
+        DataSource primary = dataSource();
+        ReplicaPoolDataSource pool = new ReplicaPoolDataSource(List.of(a), LoadBalancing.ROUND_ROBIN, Duration.ofSeconds(5));
+        pool.setPrimary(primary);
+
+        a.update(false, 60);
+        pool.getConnection();
+        verify(primary).getConnection();
+
+        a.update(true, 0);
+        when(a.getDataSource().getConnection()).thenThrow(new SQLException("refused"));
+        pool.getConnection();
+        assertFalse(a.isHealthy());
+    }
+
+    @Test
+    void testReadYourWritesStickToPrimary() throws SQLException {
+        Replica a = replica("a");
+        DataSource primary = dataSource();
+        ReplicaPoolDataSource pool = new ReplicaPoolDataSource(List.of(a), LoadBalancing.ROUND_ROBIN, Duration.ofMinutes(1));
+        pool.setPrimary(primary);
+
+        ReadYourWrites.markWrite();
+        pool.getConnection();
+
+        verify(primary).getConnection();
+        verify(a.getDataSource(), never()).getConnection();
+    }
+
+    @Test
+    void testPerCallCredentialsReachReplicaAndPrimary() throws SQLException {
+        Replica a = replica("a");
+        DataSource primary = dataSource();
+        ReplicaPoolDataSource pool = new ReplicaPoolDataSource(List.of(a), LoadBalancing.ROUND_ROBIN, Duration.ofMinutes(1));
+        pool.setPrimary(primary);
+
+        pool.getConnection("reader", "secret");
+        verify(a.getDataSource()).getConnection("reader", "secret");
+
+        a.update(false, 60);
+        pool.getConnection("reader", "secret");
+        verify(primary).getConnection("reader", "secret");
+    }
+
+    @Test
+    void testRoutingByReadOnlyFlag() throws SQLException {
+        Replica a = replica("a");
+        DataSource primary = dataSource();
+        ReplicaPoolDataSource pool = new ReplicaPoolDataSource(List.of(a), LoadBalancing.ROUND_ROBIN, Duration.ofMinutes(1));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, pool);
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        Connection read = routing.getConnection();
+        read.setReadOnly(true);
+        read.createStatement();
+        verify(a.getDataSource()).getConnection();
+        verify(primary, never()).getConnection();
+
+        Connection write = routing.getConnection();
+        write.createStatement();
+        verify(primary).getConnection();
+        assertTrue(ReadYourWrites.isSticky(Duration.ofMinutes(1)));
+    }
+
+    private static ReplicaPoolDataSource pool(LoadBalancing loadBalancing, Replica... replicas) {
+        return new ReplicaPoolDataSource(List.of(replicas), loadBalancing, Duration.ofSeconds(5));
+    }
+
+    private static Replica replica(String name) throws SQLException {
+        return new Replica(name, dataSource());
+    }
+
+    private static DataSource dataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return dataSource;
+    }
+}
@@ -0,0 +1,190 @@
+package com.nexora.datajp.softdelete;
+
+import com.nexora.datajp.support.Entities;
+import jakarta.persistence.Entity;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SoftDeletableEntity} and {@link SoftDeleteCompactor} on H2.
+ */
+class SoftDeleteCompactorTest {
+
+    private static final String URL = "jdbc:h2:mem:soft-delete;DB_CLOSE_DELAY=-1";
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Invoice.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.inTransaction(session -> session
+            .createNativeMutationQuery("drop table if exists invoice_archive").executeUpdate());
+        sessionFactory.close();
+    }
+
+    @Test
+    void testDeletedRowsAreHiddenButKept() {
+        List<Long> ids = create(4);
+
+        sessionFactory.inTransaction(session -> session.remove(session.find(Invoice.class, ids.get(0))));
+        int bulk = sessionFactory.fromTransaction(session -> Entities.deleteAllById(session, Invoice.class, ids.subList(1, 3)));
+
+        assertEquals(2, bulk);
+        assertEquals(1L, liveCount());
+        assertEquals(4L, rawCount(null));
+        assertNull(sessionFactory.fromSession(session -> session.find(Invoice.class, ids.get(0))));
+    }
+
+    @Test
+    void testCompactorRemovesOnlyExpiredRowsInChunks() {
+        List<Long> ids = create(7);
+        sessionFactory.inTransaction(session -> Entities.deleteAllById(session, Invoice.class, ids.subList(0, 6)));
+        // five rows deleted long ago, one just now
+        backdate(ids.subList(0, 5), Instant.now().minus(Duration.ofDays(40)));
+
+        SoftDeleteCompactor compactor = new SoftDeleteCompactor(sessionFactory, Duration.ofDays(30),
+            Duration.ofHours(1), 2, Duration.ZERO, Map.of());
+        long removed = compactor.compactAll();
+
+        assertEquals(5, removed);
+        assertEquals(2L, rawCount(null));
+        assertEquals(1L, liveCount());
+    }
+
+    @Test
+    void testCompactorArchivesBeforeDeleting() {
+        List<Long> ids = create(3);
+        sessionFactory.inTransaction(session -> {
+            Entities.deleteAllById(session, Invoice.class, ids);
+            session.createNativeMutationQuery("create table invoice_archive as select * from Invoice where 1 = 0")
+                .executeUpdate();
+        });
+        backdate(ids, Instant.now().minus(Duration.ofDays(40)));
+
+        SoftDeleteCompactor compactor = new SoftDeleteCompactor(sessionFactory, Duration.ofDays(30),
+            Duration.ofHours(1), 10, Duration.ZERO, Map.of("Invoice", "invoice_archive"));
+
+        assertEquals(3, compactor.compactAll());
+        assertEquals(0L, rawCount(null));
+        assertEquals(3L, rawCount("invoice_archive"));
+    }
+
+    @Test
+    void testConcurrentCompactionDoesNotArchiveTwice() throws Exception {
+        List<Long> ids = create(3);
+        sessionFactory.inTransaction(session -> {
+            Entities.deleteAllById(session, Invoice.class, ids);
+            session.createNativeMutationQuery("create table invoice_archive as select * from Invoice where 1 = 0")
+                .executeUpdate();
+        });
+        backdate(ids, Instant.now().minus(Duration.ofDays(40)));
+        SoftDeleteCompactor compactor = new SoftDeleteCompactor(sessionFactory, Duration.ofDays(30),
+            Duration.ofHours(1), 10, Duration.ZERO, Map.of("Invoice", "invoice_archive"));
+
+        // Another node has archived and deleted the rows but not committed yet
+        try (Connection otherNode = DriverManager.getConnection(URL, "sa", "")) {
+            otherNode.setAutoCommit(false);
+            try (Statement statement = otherNode.createStatement()) {
+                statement.executeUpdate("insert into invoice_archive select * from Invoice");
+                statement.executeUpdate("delete from Invoice");
+            }
+            CompletableFuture<Long> compaction = CompletableFuture.supplyAsync(compactor::compactAll);
+            Thread.sleep(200);
+            otherNode.commit();
+
+            assertEquals(0, compaction.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(3L, rawCount("invoice_archive"));
+    }
+
+    @Test
+    void testIndexRecommendationsCoverDeletedAtColumn() {
+        SoftDeleteCompactor compactor = new SoftDeleteCompactor(sessionFactory, Duration.ofDays(30),
+            Duration.ofHours(1), 10, Duration.ZERO, Map.of());
+
+        // H2 has no partial indexes: only the compaction scan index is recommended
+        assertEquals(List.of("create index Invoice_deleted_idx on Invoice (deleted_at)"),
+            compactor.indexRecommendations());
+    }
+
+    @Test
+    void testPartialIndexRecommendationsCoverLiveNaturalIds() {
+        List<SoftDeleteCompactor.Target> targets = List.of(
+            new SoftDeleteCompactor.Target("Invoice", "invoice", "id", "deleted_at", List.of("number"), null),
+            new SoftDeleteCompactor.Target("Note", "note", "id", "deleted_at", List.of(), null));
+
+        assertEquals(List.of(
+                "create unique index invoice_live_uk on invoice (number) where deleted_at is null",
+                "create index invoice_deleted_idx on invoice (deleted_at) where deleted_at is not null",
+                "create index note_deleted_idx on note (deleted_at) where deleted_at is not null"),
+            SoftDeleteCompactor.indexRecommendations(targets, true));
+    }
+
+    private List<Long> create(int count) {
+        return sessionFactory.fromTransaction(session -> {
+            List<Invoice> invoices = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Invoice invoice = new Invoice();
+                invoice.number = "INV-" + i;
+                invoice.setCreatedAt(Instant.now());
+                invoice.setUpdatedAt(Instant.now());
+                session.persist(invoice);
+                invoices.add(invoice);
+            }
+            session.flush();
+            return invoices.stream().map(Invoice::getId).toList();
+        });
+    }
+
+    private void backdate(List<Long> ids, Instant deletedAt) {
+        sessionFactory.inTransaction(session -> session
+            .createNativeMutationQuery("update Invoice set deleted_at = :deletedAt where id in (:ids)")
+            .setParameter("deletedAt", Timestamp.from(deletedAt))
+            .setParameterList("ids", ids)
+            .executeUpdate());
+    }
+
+    private long liveCount() {
+        return sessionFactory.fromSession(session -> session
+            .createSelectionQuery("select count(*) from Invoice", Long.class)
+            .getSingleResult());
+    }
+
+    private long rawCount(String table) {
+        return sessionFactory.fromSession(session -> ((Number) session
+            .createNativeQuery("select count(*) from " + (table == null ? "Invoice" : table), Object.class)
+            .getSingleResult()).longValue());
+    }
+
+    @Entity(name = "Invoice")
+    static class Invoice extends SoftDeletableEntity {
+        String number;
+    }
+}
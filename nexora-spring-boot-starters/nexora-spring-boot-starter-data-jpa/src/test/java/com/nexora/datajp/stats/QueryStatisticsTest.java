@@ -0,0 +1,175 @@
+package com.nexora.datajp.stats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SQL statistics collection and N+1 detection.
+ */
+class QueryStatisticsTest {
+
+    private static final int AUTHORS = 5;
+
+    private SessionFactory sessionFactory;
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    void testLazyAssociationsAreFlaggedAsRepeatedStatements() {
+        sessionFactory = sessionFactory(false);
+
+        QueryStatistics statistics = QueryStatisticsContext.open("request", "GET /books");
+        try {
+            sessionFactory.inTransaction(QueryStatisticsTest::touchAllAuthors);
+        } finally {
+            QueryStatisticsContext.close(statistics);
+        }
+
+        assertEquals(1 + AUTHORS, statistics.getStatements());
+        assertEquals(2 * AUTHORS, statistics.getEntitiesLoaded());
+        Map<String, Integer> repeated = statistics.repeatedStatements(AUTHORS);
+        assertEquals(1, repeated.size());
+        assertEquals(AUTHORS, repeated.values().iterator().next());
+        assertTrue(repeated.keySet().iterator().next().toLowerCase().contains("from author"));
+    }
+
+    @Test
+    void testNothingRecordedOutsideScope() {
+        sessionFactory = sessionFactory(true);
+
+        assertDoesNotThrow(() -> sessionFactory.inTransaction(QueryStatisticsTest::touchAllAuthors));
+        assertTrue(QueryStatisticsContext.innermost("request").isEmpty());
+    }
+
+    @Test
+    void testFailFastRejectsStatementAtThreshold() {
+        sessionFactory = sessionFactory(true);
+
+        QueryStatistics statistics = QueryStatisticsContext.open("transaction", "test");
+        try {
+            Exception ex = assertThrows(Exception.class,
+                () -> sessionFactory.inTransaction(QueryStatisticsTest::touchAllAuthors));
+            assertInstanceOf(RepeatedStatementException.class, rootCause(ex));
+            assertEquals(3, ((RepeatedStatementException) rootCause(ex)).getCount());
+        } finally {
+            QueryStatisticsContext.close(statistics);
+        }
+    }
+
+    @Test
+    void testNestedScopesBothRecord() {
+        sessionFactory = sessionFactory(false);
+
+        QueryStatistics request = QueryStatisticsContext.open("request", "GET /books");
+        QueryStatistics transaction = QueryStatisticsContext.open("transaction", "listBooks");
+        sessionFactory.inTransaction(QueryStatisticsTest::touchAllAuthors);
+        QueryStatisticsContext.close(transaction);
+        sessionFactory.inTransaction(session -> session.createSelectionQuery("from Book", Book.class).getResultList());
+        QueryStatisticsContext.close(request);
+
+        assertEquals(1 + AUTHORS, transaction.getStatements());
+        assertEquals(2 + AUTHORS, request.getStatements());
+        assertTrue(QueryStatisticsContext.innermost("transaction").isEmpty());
+    }
+
+    @Test
+    void testReporterPublishesHistograms() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        QueryStatisticsReporter reporter = new QueryStatisticsReporter(3);
+        reporter.bindTo(registry);
+
+        QueryStatistics statistics = new QueryStatistics("request", "GET /books");
+        for (int i = 0; i < 4; i++) {
+            statistics.recordStatement("select * from author where id=?");
+        }
+        statistics.recordStatement("insert into author (name) values (?)");
+        statistics.recordEntityLoad();
+        statistics.recordJdbcTime(2_000_000);
+        reporter.report(statistics);
+
+        assertEquals(5, registry.get("nexora.jpa.statements").tag("scope", "request").summary().totalAmount());
+        assertEquals(1, registry.get("nexora.jpa.entities.loaded").summary().totalAmount());
+        assertEquals(2, registry.get("nexora.jpa.jdbc.time").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.get("nexora.jpa.repeated.statements").counter().count());
+    }
+
+    private static void touchAllAuthors(Session session) {
+        session.createSelectionQuery("from Book", Book.class).getResultList()
+            .forEach(book -> book.author.getName().length());
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null && !(cause instanceof RepeatedStatementException)) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static SessionFactory sessionFactory(boolean failFast) {
+        QueryStatisticsInspector inspector = new QueryStatisticsInspector(3, failFast);
+        Configuration configuration = new Configuration();
+        configuration.getProperties().put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        SessionFactory sessionFactory = configuration
+            .addAnnotatedClass(Author.class)
+            .addAnnotatedClass(Book.class)
+            .setInterceptor(inspector)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:query-statistics;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName())
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < AUTHORS; i++) {
+                Author author = new Author();
+                author.name = "author-" + i;
+                session.persist(author);
+                Book book = new Book();
+                book.author = author;
+                session.persist(book);
+            }
+        });
+        return sessionFactory;
+    }
+
+    @Entity(name = "Author")
+    static class Author {
+        @Id
+        @GeneratedValue
+        Long id;
+        String name;
+
+        String getName() {
+            return name;
+        }
+    }
+
+    @Entity(name = "Book")
+    static class Book {
+        @Id
+        @GeneratedValue
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        Author author;
+    }
+}
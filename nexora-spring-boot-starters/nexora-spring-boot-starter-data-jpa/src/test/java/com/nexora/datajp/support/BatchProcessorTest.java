@@ -0,0 +1,128 @@
+package com.nexora.datajp.support;
+
+import jakarta.persistence.Entity;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BatchProcessor} against an in-memory H2 database.
+ */
+class BatchProcessorTest {
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Row.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:batch-processor;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            List<Row> rows = new ArrayList<>();
+            for (int i = 0; i < 105; i++) {
+                Row row = new Row();
+                row.even = i % 2 == 0;
+                row.setCreatedAt(Instant.now());
+                row.setUpdatedAt(Instant.now());
+                rows.add(row);
+            }
+            Entities.createAll(session, rows);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void testSequentialChunksKeepContextEmpty() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+
+        long processed = sessionFactory.fromTransaction(session -> Entities.batch(session, Row.class)
+            .chunkSize(20)
+            .forEachChunk(chunk -> {
+                assertEquals(chunk.size(), session.getStatistics().getEntityCount());
+                chunkSizes.add(chunk.size());
+                chunk.forEach(row -> ids.add(row.getId()));
+            }));
+
+        assertEquals(105, processed);
+        assertEquals(List.of(20, 20, 20, 20, 20, 5), chunkSizes);
+        List<Long> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        assertEquals(sorted, ids);
+        assertEquals(105, ids.stream().distinct().count());
+    }
+
+    @Test
+    void testWhereAndChangesAreFlushed() {
+        long processed = sessionFactory.fromTransaction(session -> Entities.batch(session, Row.class)
+            .where((root, cb) -> cb.isTrue(root.get("even")))
+            .chunkSize(10)
+            .forEach(row -> row.setUpdatedBy("batch")));
+
+        assertEquals(53, processed);
+        long updated = sessionFactory.fromSession(session -> session
+            .createSelectionQuery("select count(*) from Record where updatedBy = 'batch'", Long.class)
+            .getSingleResult());
+        assertEquals(53L, updated);
+    }
+
+    @Test
+    void testParallelProcessing() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            AtomicInteger seen = new AtomicInteger();
+
+            long processed = sessionFactory.fromSession(session -> Entities.batch(session, Row.class)
+                .chunkSize(10)
+                .parallel(executor, 3)
+                .forEach(row -> seen.incrementAndGet()));
+
+            assertEquals(105, processed);
+            assertEquals(105, seen.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelFailurePropagates() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> sessionFactory.inSession(session -> Entities.batch(session, Row.class)
+                    .chunkSize(10)
+                    .parallel(executor, 2)
+                    .forEachChunk(chunk -> {
+                        throw new IllegalStateException("boom");
+                    })));
+            assertEquals("boom", ex.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Entity(name = "Record")
+    static class Row extends BaseEntity {
+        boolean even;
+    }
+}
@@ -0,0 +1,198 @@
+package com.nexora.datajp.support;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bulk operations of {@link Entities} against an in-memory H2 database.
+ */
+class EntitiesBulkTest {
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Item.class)
+            .addAnnotatedClass(Stock.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:entities-bulk;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "20")
+            .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void testCreateAll() {
+        int created = sessionFactory.fromTransaction(session -> Entities.createAll(session, items(45)));
+
+        assertEquals(45, created);
+        assertEquals(45L, count());
+    }
+
+    @Test
+    void testCreateAllRejectsInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> sessionFactory.inTransaction(session -> Entities.createAll(session, items(1), 0)));
+    }
+
+    @Test
+    void testUpdateWhere() {
+        sessionFactory.inTransaction(session -> Entities.createAll(session, items(10)));
+
+        int updated = sessionFactory.fromTransaction(session -> Entities
+            .updateWhere(session, Item.class, (root, cb) -> cb.lessThan(root.<Integer>get("position"), 4))
+            .set("status", "ARCHIVED")
+            .execute());
+
+        assertEquals(4, updated);
+        long archived = sessionFactory.fromSession(session -> session
+            .createSelectionQuery("select count(*) from Item where status = 'ARCHIVED'", Long.class)
+            .getSingleResult());
+        assertEquals(4L, archived);
+    }
+
+    @Test
+    void testUpdateWhereRequiresAssignment() {
+        assertThrows(IllegalStateException.class, () -> sessionFactory.inTransaction(session -> Entities
+            .updateWhere(session, Item.class, (root, cb) -> cb.conjunction())
+            .execute()));
+    }
+
+    @Test
+    void testDeleteAllByIdInChunks() {
+        int total = Entities.DELETE_CHUNK_SIZE + 5;
+        sessionFactory.inTransaction(session -> Entities.createAll(session, items(total)));
+        List<Long> ids = sessionFactory.fromSession(session -> session
+            .createSelectionQuery("select id from Item", Long.class)
+            .getResultList());
+
+        List<Long> toDelete = new ArrayList<>(ids.subList(0, total - 2));
+        toDelete.addAll(LongStream.rangeClosed(1, 3).map(i -> -i).boxed().toList());
+        int deleted = sessionFactory.fromTransaction(session -> Entities.deleteAllById(session, Item.class, toDelete));
+
+        assertEquals(total - 2, deleted);
+        assertEquals(2L, count());
+        int none = sessionFactory.fromTransaction(session -> Entities.deleteAllById(session, Item.class, List.of()));
+        assertEquals(0, none);
+    }
+
+    @Test
+    void testCompareAndSet() {
+        Stock stock = sessionFactory.fromTransaction(session -> {
+            Stock created = stock(10);
+            session.persist(created);
+            return created;
+        });
+        long version = stock.getVersion();
+
+        int first = sessionFactory.fromTransaction(session -> Entities
+            .compareAndSet(session, Stock.class, stock.getId(), version)
+            .set("quantity", 9)
+            .execute());
+        int stale = sessionFactory.fromTransaction(session -> Entities
+            .compareAndSet(session, Stock.class, stock.getId(), version)
+            .set("quantity", 8)
+            .execute());
+
+        assertEquals(1, first);
+        assertEquals(0, stale);
+        Stock reloaded = sessionFactory.fromSession(session -> session.find(Stock.class, stock.getId()));
+        assertEquals(9, reloaded.quantity);
+        assertEquals(version + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void testGuardedIncrement() {
+        Long id = sessionFactory.fromTransaction(session -> {
+            Stock created = stock(3);
+            session.persist(created);
+            return created.getId();
+        });
+
+        int[] results = new int[4];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = sessionFactory.fromTransaction(session -> Entities
+                .updateWhere(session, Stock.class, (root, cb) -> cb.and(
+                    cb.equal(root.get("id"), id), cb.ge(root.get("quantity"), 1)))
+                .increment("quantity", -1)
+                .execute());
+        }
+
+        assertArrayEquals(new int[]{1, 1, 1, 0}, results);
+        assertEquals(0, sessionFactory.fromSession(session -> session.find(Stock.class, id)).quantity);
+    }
+
+    @Test
+    void testBulkUpdateBumpsVersionSoStaleEntitiesFail() {
+        Stock stock = sessionFactory.fromTransaction(session -> {
+            Stock created = stock(5);
+            session.persist(created);
+            return created;
+        });
+
+        sessionFactory.inTransaction(session -> Entities
+            .updateWhere(session, Stock.class, (root, cb) -> cb.equal(root.get("id"), stock.getId()))
+            .increment("quantity", 1)
+            .execute());
+        stock.quantity = 0;
+
+        assertThrows(OptimisticLockException.class, () -> sessionFactory.inTransaction(session -> session.merge(stock)));
+    }
+
+    private long count() {
+        return sessionFactory.fromSession(session -> session
+            .createSelectionQuery("select count(*) from Item", Long.class)
+            .getSingleResult());
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Item item = new Item();
+            item.position = i;
+            item.status = "ACTIVE";
+            item.setCreatedAt(Instant.now());
+            item.setUpdatedAt(Instant.now());
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static Stock stock(int quantity) {
+        Stock stock = new Stock();
+        stock.quantity = quantity;
+        stock.setCreatedAt(Instant.now());
+        stock.setUpdatedAt(Instant.now());
+        return stock;
+    }
+
+    @Entity(name = "Stock")
+    static class Stock extends VersionedEntity {
+        int quantity;
+    }
+
+    @Entity(name = "Item")
+    static class Item extends BaseEntity {
+        int position;
+        String status;
+    }
+}
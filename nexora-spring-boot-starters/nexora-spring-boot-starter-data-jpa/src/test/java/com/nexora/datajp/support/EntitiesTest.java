@@ -2,12 +2,19 @@ package com.nexora.datajp.support;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -90,6 +97,40 @@ class EntitiesTest {
         assertEquals("modified", result.get().getName());
     }
 
+    @Test
+    void testUpdateRetriesOptimisticLockConflicts() {
+        @SuppressWarnings("unchecked")
+        JpaRepository<TestEntity, Long> repo = mock(JpaRepository.class);
+        when(repo.findById(1L)).thenAnswer(invocation -> Optional.of(new TestEntity("original")));
+        when(repo.saveAndFlush(any(TestEntity.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(TestEntity.class, 1L))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<TestEntity> result = Entities.update(repo, 1L)
+            .with("update", TestEntity::apply)
+            .withRetry(3, Duration.ZERO)
+            .execute();
+
+        assertEquals("original-update", result.orElseThrow().getName());
+        verify(repo, times(2)).findById(1L);
+        verify(repo, never()).save(any(TestEntity.class));
+    }
+
+    @Test
+    void testUpdateRetryGivesUpAfterMaxAttempts() {
+        @SuppressWarnings("unchecked")
+        JpaRepository<TestEntity, Long> repo = mock(JpaRepository.class);
+        when(repo.findById(1L)).thenAnswer(invocation -> Optional.of(new TestEntity("original")));
+        when(repo.saveAndFlush(any(TestEntity.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(TestEntity.class, 1L));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> Entities.update(repo, 1L)
+            .apply(entity -> entity)
+            .withRetry(3, Duration.ofMillis(1))
+            .execute());
+        verify(repo, times(3)).saveAndFlush(any(TestEntity.class));
+    }
+
     @Test
     void testDelete() {
         @SuppressWarnings("unchecked")
@@ -108,6 +149,18 @@ class EntitiesTest {
         assertFalse(Entities.delete(repo, 1L));
     }
 
+    @Test
+    void testIncrementsAddInWidestType() {
+        assertEquals(3L, Entities.add(1, 2L));
+        assertEquals(1.5, Entities.add(1, 0.5));
+        assertEquals(1.5, Entities.add(0.5, 1L));
+        assertEquals(new BigDecimal("1.10"), Entities.add(new BigDecimal("1.00"), new BigDecimal("0.10")));
+        assertEquals(new BigDecimal("2.1"), Entities.add(2, new BigDecimal("0.1")));
+        assertEquals(new BigDecimal("0.3"), Entities.add(new BigDecimal("0.2"), 0.1));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+            Entities.add(BigInteger.valueOf(Long.MAX_VALUE), 1));
+    }
+
     // Test entity class
 
     static class TestEntity {
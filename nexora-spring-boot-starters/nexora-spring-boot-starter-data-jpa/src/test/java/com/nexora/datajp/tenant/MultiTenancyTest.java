@@ -0,0 +1,116 @@
+package com.nexora.datajp.tenant;
+
+import com.nexora.datajp.id.ConfigurableIdGenerator;
+import com.nexora.datajp.id.IdStrategy;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Entity;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for tenant discriminator filtering and per-tenant schema routing on H2.
+ */
+class MultiTenancyTest {
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Test
+    void testRowsAreFilteredByTenant() {
+        sessionFactory = sessionFactory("discriminator", Map.of());
+
+        TenantContext.runAs("acme", () -> sessionFactory.inTransaction(session -> session.persist(note("acme-1"))));
+        TenantContext.runAs("globex", () -> sessionFactory.inTransaction(session -> session.persist(note("globex-1"))));
+
+        List<Note> acme = TenantContext.callAs("acme", () -> notes());
+        assertEquals(List.of("acme-1"), acme.stream().map(note -> note.text).toList());
+        assertEquals("acme", acme.get(0).getTenantId());
+        assertEquals(List.of(), notes());
+        assertEquals(2, TenantContext.callAs("root", () -> notes()).size());
+    }
+
+    @Test
+    void testIsolatedTenantUsesItsSchema() throws SQLException {
+        sessionFactory = sessionFactory("schema", Map.of("acme", new TenantStorage("TENANT_ACME", null)));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create schema TENANT_ACME");
+            statement.execute("create table TENANT_ACME.Note as select * from PUBLIC.Note where 1 = 0");
+        }
+
+        TenantContext.runAs("acme", () -> sessionFactory.inTransaction(session -> session.persist(note("acme-1"))));
+        TenantContext.runAs("globex", () -> sessionFactory.inTransaction(session -> session.persist(note("globex-1"))));
+
+        assertEquals(1, count("TENANT_ACME"));
+        assertEquals(1, count("PUBLIC"));
+        assertEquals(1, TenantContext.callAs("acme", () -> notes()).size());
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals("PUBLIC", connection.getSchema());
+        }
+    }
+
+    private List<Note> notes() {
+        return sessionFactory.fromTransaction(session -> session
+            .createSelectionQuery("from Note", Note.class)
+            .getResultList());
+    }
+
+    private long count(String schema) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select count(*) from " + schema + ".Note")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private SessionFactory sessionFactory(String database, Map<String, TenantStorage> storage) {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:tenancy-" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        // One connection, so a schema switch that is not undone would leak into the next tenant
+        dataSource.setMaximumPoolSize(1);
+
+        Configuration configuration = new Configuration();
+        configuration.getProperties().put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+            new TenantIdentifierResolver("default", "root"));
+        configuration.getProperties().put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+            new TenantConnectionProvider(dataSource, storage));
+        return configuration
+            .addAnnotatedClass(Note.class)
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(ConfigurableIdGenerator.STRATEGY_SETTING, IdStrategy.SNOWFLAKE.name())
+            .buildSessionFactory();
+    }
+
+    private static Note note(String text) {
+        Note note = new Note();
+        note.text = text;
+        note.setCreatedAt(Instant.now());
+        note.setUpdatedAt(Instant.now());
+        return note;
+    }
+
+    @Entity(name = "Note")
+    static class Note extends TenantEntity {
+        String text;
+    }
+}
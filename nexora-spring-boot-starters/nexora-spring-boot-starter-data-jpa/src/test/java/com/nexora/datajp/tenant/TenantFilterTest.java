@@ -0,0 +1,66 @@
+package com.nexora.datajp.tenant;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TenantFilter}.
+ */
+class TenantFilterTest {
+
+    private final TenantFilter filter = new TenantFilter(new HeaderTenantResolver("X-Tenant-Id"), "root");
+
+    @Test
+    void testTenantSetForRequestOnly() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Tenant-Id", "acme");
+        AtomicReference<String> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> seen.set(TenantContext.get());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals("acme", seen.get());
+        assertNull(TenantContext.get());
+    }
+
+    @Test
+    void testMalformedTenantRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Tenant-Id", "acme'; drop table");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> fail("chain must not run"));
+
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    void testRootTenantRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Tenant-Id", "root");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> fail("chain must not run"));
+
+        assertEquals(403, response.getStatus());
+        assertNull(TenantContext.get());
+    }
+
+    @Test
+    void testTenantFromResolver() throws Exception {
+        TenantFilter principalFilter = new TenantFilter(req -> "acme", "root");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Tenant-Id", "other");
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        principalFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(TenantContext.get()));
+
+        assertEquals("acme", seen.get());
+    }
+}
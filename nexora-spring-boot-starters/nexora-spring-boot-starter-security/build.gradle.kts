@@ -40,6 +40,15 @@ dependencies {
     runtimeOnly(libs.jjwt.impl)
     runtimeOnly(libs.jjwt.jackson)
 
+    // Caffeine for the verified-claims cache
+    implementation(libs.caffeine)
+
+    // Redisson for cross-node token revocation and the Redis refresh token store (optional)
+    compileOnly(libs.redisson)
+
+    // Micrometer for refresh token cleanup metrics (optional)
+    compileOnly(libs.micrometer.core)
+
     // Servlet API (optional at compile time)
     compileOnly(libs.jakarta.servlet.api)
 
@@ -54,4 +63,7 @@ dependencies {
     // Test dependencies
     testImplementation(libs.spring.boot.starter.test)
     testImplementation(libs.jakarta.servlet.api)
+    testImplementation(libs.redisson)
+    testImplementation(libs.micrometer.core)
+    testImplementation(libs.h2)
 }
@@ -2,13 +2,31 @@ package com.nexora.security.autoconfigure;
 
 import com.nexora.security.crypto.Encryptor;
 import com.nexora.security.domain.RefreshToken;
+import com.nexora.security.jwt.JwkSetEndpoint;
+import com.nexora.security.jwt.JwksKeySource;
+import com.nexora.security.jwt.JwtKeySource;
 import com.nexora.security.jwt.JwtProperties;
 import com.nexora.security.jwt.JwtTokenProvider;
 import com.nexora.security.jwt.ReactiveJwtTokenProvider;
+import com.nexora.security.jwt.StaticJwtKeySource;
 import com.nexora.security.repository.RefreshTokenRepository;
+import com.nexora.security.revocation.RedissonTokenRevocationBus;
+import com.nexora.security.revocation.TokenRevocationBus;
+import com.nexora.security.revocation.TokenRevocationList;
+import com.nexora.security.revocation.TokenRevocationService;
+import com.nexora.security.service.RefreshTokenCleaner;
+import com.nexora.security.service.RefreshTokenCleanupMetrics;
+import com.nexora.security.service.RefreshTokenProperties;
 import com.nexora.security.service.RefreshTokenService;
+import com.nexora.security.store.JpaRefreshTokenStore;
+import com.nexora.security.store.LegacyRefreshTokenMigration;
+import com.nexora.security.store.RedisRefreshTokenStore;
+import com.nexora.security.store.RefreshTokenStore;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -17,6 +35,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * Security auto-configuration.
@@ -38,16 +60,83 @@ public class SecurityAutoConfiguration {
     @ConditionalOnProperty(prefix = "nexora.security.jwt", name = "enabled", havingValue = "true")
     public static class JwtTokenProviderConfiguration {
 
+        /**
+         * Keys from the remote JWK Set when {@code jwk-set.uri} is set
+         * (verification only), otherwise the configured keys or secret.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public JwtKeySource jwtKeySource(JwtProperties properties) {
+            String jwkSetUri = properties.getJwkSet().getUri();
+            if (jwkSetUri != null && !jwkSetUri.isEmpty()) {
+                return new JwksKeySource(properties.getJwkSet());
+            }
+            return StaticJwtKeySource.from(properties);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JwtTokenProvider jwtTokenProvider(JwtProperties properties, JwtKeySource jwtKeySource,
+                                                 ObjectProvider<TokenRevocationList> revocationList) {
+            JwtTokenProvider provider = new JwtTokenProvider(properties, jwtKeySource);
+            provider.setRevocationList(revocationList.getIfAvailable());
+            return provider;
+        }
+
         @Bean
         @ConditionalOnMissingBean
-        public JwtTokenProvider jwtTokenProvider(JwtProperties properties) {
-            return new JwtTokenProvider(properties);
+        public ReactiveJwtTokenProvider reactiveJwtTokenProvider(JwtProperties properties, JwtKeySource jwtKeySource,
+                                                                 ObjectProvider<TokenRevocationList> revocationList) {
+            ReactiveJwtTokenProvider provider = new ReactiveJwtTokenProvider(properties, jwtKeySource);
+            provider.setRevocationList(revocationList.getIfAvailable());
+            return provider;
         }
 
         @Bean
         @ConditionalOnMissingBean
-        public ReactiveJwtTokenProvider reactiveJwtTokenProvider(JwtProperties properties) {
-            return new ReactiveJwtTokenProvider(properties);
+        @ConditionalOnProperty(prefix = "nexora.security.jwt.jwk-set", name = "endpoint-enabled", havingValue = "true")
+        public JwkSetEndpoint jwkSetEndpoint(JwtProperties properties, JwtKeySource jwtKeySource) {
+            return new JwkSetEndpoint(jwtKeySource, properties.getJwkSet().getMinRefreshInterval());
+        }
+    }
+
+    /**
+     * Access token revocation configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(JwtProperties.class)
+    @ConditionalOnProperty(prefix = "nexora.security.jwt", name = {"enabled", "revocation.enabled"}, havingValue = "true")
+    public static class TokenRevocationConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public TokenRevocationList tokenRevocationList(JwtProperties properties) {
+            JwtProperties.Revocation revocation = properties.getRevocation();
+            Duration window = revocation.getWindow() != null ? revocation.getWindow() : properties.getExpiration();
+            return new TokenRevocationList(revocation.getBucketWidth(), window);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public TokenRevocationService tokenRevocationService(TokenRevocationList tokenRevocationList,
+                                                             ObjectProvider<TokenRevocationBus> revocationBus) {
+            return new TokenRevocationService(tokenRevocationList, revocationBus.getIfAvailable());
+        }
+
+        /**
+         * Redis pub/sub propagation.
+         */
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "org.redisson.api.RedissonClient")
+        @ConditionalOnProperty(prefix = "nexora.security.jwt.revocation", name = "propagation", havingValue = "redis")
+        static class RedisRevocationConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(TokenRevocationBus.class)
+            public RedissonTokenRevocationBus redissonTokenRevocationBus(RedissonClient redissonClient,
+                                                                         JwtProperties properties) {
+                return new RedissonTokenRevocationBus(redissonClient, properties.getRevocation().getTopic());
+            }
         }
     }
 
@@ -57,18 +146,86 @@ public class SecurityAutoConfiguration {
      * to avoid JPA initialization issues in non-JPA applications.
      */
     @Configuration
-    @ConditionalOnClass(name = "org.springframework.data.jpa.repository.JpaRepository")
+    @EnableConfigurationProperties(RefreshTokenProperties.class)
     @ConditionalOnProperty(prefix = "nexora.security.refresh-token", name = "enabled", havingValue = "true")
-    @EnableJpaRepositories(basePackages = "com.nexora.security.repository")
-    // Note: EntityScan not available in Spring Boot 4.x milestone - entities should be scanned via main application configuration
     public static class RefreshTokenConfiguration {
 
         @Bean
         @ConditionalOnMissingBean
         public RefreshTokenService refreshTokenService(
-                RefreshTokenRepository refreshTokenRepository,
+                RefreshTokenStore refreshTokenStore,
                 JwtTokenProvider jwtTokenProvider) {
-            return new RefreshTokenService(refreshTokenRepository, jwtTokenProvider);
+            return new RefreshTokenService(refreshTokenStore, jwtTokenProvider);
+        }
+
+        /**
+         * Refresh tokens in the {@code refresh_tokens} table (default).
+         */
+        @Configuration
+        @ConditionalOnClass(name = "org.springframework.data.jpa.repository.JpaRepository")
+        @ConditionalOnProperty(prefix = "nexora.security.refresh-token", name = "store", havingValue = "jpa",
+            matchIfMissing = true)
+        @EnableJpaRepositories(basePackages = "com.nexora.security.repository")
+        // Note: EntityScan not available in Spring Boot 4.x milestone - entities should be scanned via main application configuration
+        static class JpaStoreConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(RefreshTokenStore.class)
+            public JpaRefreshTokenStore jpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository) {
+                return new JpaRefreshTokenStore(refreshTokenRepository);
+            }
+
+            @Bean
+            @ConditionalOnMissingBean
+            @ConditionalOnProperty(prefix = "nexora.security.refresh-token.cleanup", name = "enabled",
+                havingValue = "true", matchIfMissing = true)
+            public RefreshTokenCleaner refreshTokenCleaner(RefreshTokenRepository refreshTokenRepository,
+                                                           PlatformTransactionManager transactionManager,
+                                                           RefreshTokenProperties properties) {
+                return new RefreshTokenCleaner(refreshTokenRepository, transactionManager, properties.getCleanup());
+            }
+
+            @Bean
+            @ConditionalOnMissingBean
+            @ConditionalOnProperty(prefix = "nexora.security.refresh-token", name = "migrate-legacy-tokens",
+                havingValue = "true")
+            public LegacyRefreshTokenMigration legacyRefreshTokenMigration(DataSource dataSource,
+                                                                           PlatformTransactionManager transactionManager,
+                                                                           RefreshTokenProperties properties) {
+                return new LegacyRefreshTokenMigration(dataSource, transactionManager,
+                    properties.getCleanup().getChunkSize());
+            }
+
+            /**
+             * Cleanup metrics.
+             */
+            @Configuration(proxyBeanMethods = false)
+            @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+            @ConditionalOnBean(RefreshTokenCleaner.class)
+            static class CleanupMetricsConfiguration {
+
+                @Bean
+                @ConditionalOnMissingBean
+                public RefreshTokenCleanupMetrics refreshTokenCleanupMetrics(RefreshTokenCleaner refreshTokenCleaner) {
+                    return new RefreshTokenCleanupMetrics(refreshTokenCleaner);
+                }
+            }
+        }
+
+        /**
+         * Refresh tokens in Redis.
+         */
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "org.redisson.api.RedissonClient")
+        @ConditionalOnProperty(prefix = "nexora.security.refresh-token", name = "store", havingValue = "redis")
+        static class RedisStoreConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean(RefreshTokenStore.class)
+            public RedisRefreshTokenStore redisRefreshTokenStore(RedissonClient redissonClient,
+                                                                 RefreshTokenProperties properties) {
+                return new RedisRefreshTokenStore(redissonClient, properties.getRedis().getKeyPrefix());
+            }
         }
     }
 
@@ -1,8 +1,12 @@
 package com.nexora.security.domain;
 
+import com.nexora.security.store.TokenDigests;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 
@@ -12,6 +16,12 @@ import java.time.Instant;
  * <p>Stores refresh tokens with expiration tracking and user association.
  * Allows revocation of refresh tokens for security purposes.
  *
+ * <p>Only the SHA-256 digest of a token is persisted, as {@code binary(32)}:
+ * the table holds no usable credentials and its unique index stays small.
+ * The token value itself is transient and only known for tokens just issued
+ * or looked up by value. See {@link com.nexora.security.store.LegacyRefreshTokenMigration}
+ * for tables that still have the plain {@code token} column.
+ *
  * @author sujie
  * @since 1.0.0
  */
@@ -19,8 +29,8 @@ import java.time.Instant;
 @Setter
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-    @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
-    @Index(name = "idx_refresh_token_token", columnList = "token"),
+    // Serves per-user lookups, valid-token listing and bulk revocation; user_id alone is covered by its prefix
+    @Index(name = "idx_refresh_token_user_revoked_expiry", columnList = "user_id, revoked, expiry_date"),
     @Index(name = "idx_refresh_token_expiry", columnList = "expiry_date")
 })
 public class RefreshToken {
@@ -30,11 +40,19 @@ public class RefreshToken {
     private Long id;
 
     /**
-     * The refresh token value.
+     * The refresh token value; not persisted.
      */
-    @Column(name = "token", nullable = false, unique = true, length = 512)
+    @Transient
     private String token;
 
+    /**
+     * SHA-256 digest of the token value.
+     */
+    @Setter(AccessLevel.NONE)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
     /**
      * The user ID associated with this refresh token.
      */
@@ -65,6 +83,16 @@ public class RefreshToken {
     @Column(name = "revoked_date")
     private Instant revokedDate;
 
+    /**
+     * Set the token value and its digest.
+     *
+     * @param token the token value
+     */
+    public void setToken(String token) {
+        this.token = token;
+        this.tokenHash = token == null ? null : TokenDigests.sha256(token);
+    }
+
     /**
      * Check if this refresh token is expired.
      *
@@ -0,0 +1,43 @@
+package com.nexora.security.jwt;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the issuer's public keys as a JWK Set (RFC 7517) for verifiers
+ * configured with {@code nexora.security.jwt.jwk-set.uri}.
+ *
+ * <p>The document is built once; it only changes with the key configuration.
+ * Works with both Spring MVC and WebFlux. The path must be reachable without
+ * authentication.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@RestController
+public class JwkSetEndpoint {
+
+    private final Map<String, Object> jwkSet;
+    private final CacheControl cacheControl;
+
+    public JwkSetEndpoint(JwtKeySource keySource, Duration maxAge) {
+        List<Map<String, Object>> keys = keySource.publicJwks().stream()
+            .map(jwk -> (Map<String, Object>) new LinkedHashMap<String, Object>(jwk))
+            .toList();
+        this.jwkSet = Map.of("keys", keys);
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping(path = "${nexora.security.jwt.jwk-set.path:/.well-known/jwks.json}",
+        produces = "application/json")
+    public ResponseEntity<Map<String, Object>> jwkSet() {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(jwkSet);
+    }
+}
@@ -0,0 +1,205 @@
+package com.nexora.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verification-only {@link JwtKeySource} over an issuer's remote JWK Set.
+ *
+ * <p>Keys are held in memory and refreshed in the background every
+ * {@code refreshInterval}; {@link #verificationKey} only reads that snapshot
+ * and never waits for the network. A token with an unknown {@code kid}
+ * (typically signed by a freshly rotated key) is rejected and triggers an
+ * asynchronous refresh, rate-limited by {@code minRefreshInterval}, so a
+ * retry shortly after succeeds. A failed refresh keeps serving the last good
+ * keys (stale-while-revalidate) until the issuer is reachable again.
+ *
+ * <p>The first load runs synchronously in {@link #start()}, which is phased
+ * before the embedded web server so requests are not served with an empty
+ * key set.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class JwksKeySource implements JwtKeySource, SmartLifecycle {
+
+    private final URI uri;
+    private final Duration refreshInterval;
+    private final long minRefreshIntervalNanos;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile long lastAttemptNanos = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+    private volatile ScheduledExecutorService scheduler;
+
+    public JwksKeySource(URI uri, Duration refreshInterval, Duration minRefreshInterval, Duration timeout) {
+        this.uri = uri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    public JwksKeySource(JwtProperties.JwkSet properties) {
+        this(URI.create(properties.getUri()), properties.getRefreshInterval(),
+            properties.getMinRefreshInterval(), properties.getTimeout());
+    }
+
+    @Override
+    public SigningKey signingKey() {
+        return null;
+    }
+
+    @Override
+    public Key verificationKey(JwsHeader header) {
+        String kid = header.getKeyId();
+        Map<String, Key> current = keys;
+        Key key = kid == null && current.size() == 1 ? current.values().iterator().next() : current.get(kid);
+        if (key == null) {
+            requestRefresh();
+            throw new JwtException("No JWT verification key for kid " + kid);
+        }
+        return key;
+    }
+
+    @Override
+    public boolean isAsymmetric() {
+        return true;
+    }
+
+    /**
+     * Number of keys currently known.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Fetch the JWK Set and replace the known keys. Blocks; called from the
+     * background scheduler, never from verification.
+     *
+     * @throws IllegalStateException if the JWK Set cannot be fetched or parsed
+     */
+    public void refresh() {
+        lastAttemptNanos = System.nanoTime();
+        String body = fetch();
+        JwkSet jwkSet = Jwks.setParser().build().parse(body);
+        Map<String, Key> fetched = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet) {
+            if (jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null
+                    && (publicJwk.getPublicKeyUse() == null || "sig".equals(publicJwk.getPublicKeyUse()))) {
+                fetched.put(jwk.getId(), publicJwk.toKey());
+            }
+        }
+        if (fetched.isEmpty()) {
+            throw new IllegalStateException("JWK Set at " + uri + " has no signature keys");
+        }
+        if (!fetched.keySet().equals(keys.keySet())) {
+            log.info("JWK Set at {} now has keys {}", uri, fetched.keySet());
+        }
+        keys = Map.copyOf(fetched);
+    }
+
+    private String fetch() {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("JWK Set at " + uri + " returned HTTP " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to fetch JWK Set at " + uri + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted fetching JWK Set at " + uri, e);
+        }
+    }
+
+    private void requestRefresh() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null || System.nanoTime() - lastAttemptNanos < minRefreshIntervalNanos
+                || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                refreshSafely();
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("JWK Set refresh failed, keeping {} cached key(s): {}", keys.size(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler = executor;
+        // Runs before the web server starts (see getPhase); failures are retried on schedule
+        refreshSafely();
+        executor.scheduleWithFixedDelay(this::refreshSafely, refreshInterval.toMillis(), refreshInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+        log.info("JWK Set key source started for {} with {} key(s)", uri, keys.size());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Start before the web server so the first load completes before traffic arrives.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE - 1024;
+    }
+}
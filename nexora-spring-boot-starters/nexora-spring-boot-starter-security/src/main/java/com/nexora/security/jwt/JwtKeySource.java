@@ -0,0 +1,54 @@
+package com.nexora.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.security.Key;
+import java.util.List;
+
+/**
+ * Keys the token providers sign and verify with.
+ *
+ * <p>{@link #verificationKey} is called on every verification and must not
+ * block: implementations answer from memory and fetch keys out of band.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public interface JwtKeySource {
+
+    /**
+     * Key new tokens are signed with, or {@code null} if this source can only verify.
+     */
+    SigningKey signingKey();
+
+    /**
+     * Key to verify a token with the given header.
+     *
+     * @throws io.jsonwebtoken.JwtException if no key matches the header
+     */
+    Key verificationKey(JwsHeader header);
+
+    /**
+     * Whether verification uses public-key cryptography, which costs
+     * noticeably more CPU than HMAC.
+     */
+    boolean isAsymmetric();
+
+    /**
+     * Public keys to publish as a JWK Set; empty for HMAC.
+     */
+    default List<PublicJwk<?>> publicJwks() {
+        return List.of();
+    }
+
+    /**
+     * Signing key with its {@code kid} header and algorithm.
+     *
+     * @param id        key id, or {@code null} to send no {@code kid}
+     * @param algorithm signature algorithm, or {@code null} to derive it from the key
+     */
+    record SigningKey(String id, Key key, SecureDigestAlgorithm<Key, ?> algorithm) {
+    }
+}
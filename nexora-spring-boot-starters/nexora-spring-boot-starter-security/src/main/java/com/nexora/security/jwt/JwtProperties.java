@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * JWT specific properties.
@@ -19,10 +21,32 @@ import java.time.Duration;
 public class JwtProperties {
 
     /**
-     * JWT secret key (should be at least 256 bits).
+     * JWT secret key (should be at least 256 bits). Used when no {@link #keys} are configured.
      */
     private String secret;
 
+    /**
+     * Asymmetric signing keys (RS256/ES256/EdDSA). Takes precedence over {@link #secret}.
+     * Keys without a private key only verify, which keeps retired keys valid
+     * until the tokens they signed expire.
+     */
+    private List<SigningKey> keys = new ArrayList<>();
+
+    /**
+     * Key id of the key new tokens are signed with; defaults to the first key with a private key.
+     */
+    private String activeKeyId;
+
+    /**
+     * Remote JWK Set, for services that verify tokens but do not issue them.
+     */
+    private JwkSet jwkSet = new JwkSet();
+
+    /**
+     * Revocation of access tokens before expiry.
+     */
+    private Revocation revocation = new Revocation();
+
     /**
      * Token expiration time.
      */
@@ -42,4 +66,111 @@ public class JwtProperties {
      * Token audience.
      */
     private String audience = "nexora-api";
+
+    /**
+     * Cache of verified token claims.
+     */
+    private ClaimsCache claimsCache = new ClaimsCache();
+
+    @Data
+    public static class ClaimsCache {
+        /**
+         * Cache verified claims so a token is parsed and verified once, not per call.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached tokens.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Upper bound on how long verified claims are kept; never beyond the token's own expiry.
+         */
+        private Duration maxTtl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class SigningKey {
+        /**
+         * Key id, sent in the token's {@code kid} header and published in the JWK Set.
+         */
+        private String id;
+
+        /**
+         * Signature algorithm: RS256/RS384/RS512, PS256/PS384/PS512, ES256/ES384/ES512 or EdDSA.
+         */
+        private String algorithm = "RS256";
+
+        /**
+         * PKCS#8 PEM private key; leave empty for a verification-only key.
+         */
+        private String privateKey;
+
+        /**
+         * X.509 (SubjectPublicKeyInfo) PEM public key.
+         */
+        private String publicKey;
+    }
+
+    @Data
+    public static class JwkSet {
+        /**
+         * URI of the issuer's JWK Set; when set, tokens are verified against it and this service cannot sign.
+         */
+        private String uri;
+
+        /**
+         * How often the JWK Set is refreshed in the background.
+         */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+
+        /**
+         * Minimum time between refreshes triggered by tokens with an unknown key id.
+         */
+        private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+        /**
+         * Connect and read timeout of a JWK Set fetch.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * Serve this issuer's public keys as a JWK Set at {@link #path}.
+         */
+        private boolean endpointEnabled = false;
+
+        /**
+         * Path of the served JWK Set.
+         */
+        private String path = "/.well-known/jwks.json";
+    }
+
+    @Data
+    public static class Revocation {
+        /**
+         * Keep an in-memory list of revoked token ids checked on every validation.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Granularity at which revoked ids age out after their token expires.
+         */
+        private Duration bucketWidth = Duration.ofMinutes(1);
+
+        /**
+         * Longest remaining lifetime of a revocable token; defaults to {@link JwtProperties#expiration}.
+         */
+        private Duration window;
+
+        /**
+         * How revocations reach other nodes: {@code none} or {@code redis} (pub/sub).
+         */
+        private String propagation = "none";
+
+        /**
+         * Redis topic revocations are published on.
+         */
+        private String topic = "nexora:jwt:revocations";
+    }
 }
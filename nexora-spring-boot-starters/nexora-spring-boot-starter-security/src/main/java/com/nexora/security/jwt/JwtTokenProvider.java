@@ -1,19 +1,20 @@
 package com.nexora.security.jwt;
 
+import com.nexora.security.revocation.TokenRevocationList;
+import com.nexora.security.revocation.TokenRevokedException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT token provider for generating and validating tokens.
@@ -30,8 +31,24 @@ import java.util.Map;
  * if (tokenProvider.validateToken(token)) {
  *     Claims claims = tokenProvider.getClaims(token);
  * }
+ *
+ * // Verify once and read everything from the result
+ * Claims claims = tokenProvider.parseOnce(token);
  * </pre>
  *
+ * <p>The parser is built once, and verified claims are cached (see
+ * {@link JwtProperties.ClaimsCache}), so calling several getters for the same
+ * token verifies its signature only once.
+ *
+ * <p>Keys come from a {@link JwtKeySource}: the HMAC secret, asymmetric
+ * keys selected by {@code kid} (tokens carry the active key's id), or a
+ * remote JWK Set on verification-only services, which cannot generate
+ * tokens.
+ *
+ * <p>Every token carries a random {@code jti}; with a
+ * {@link TokenRevocationList} set, revoked ids are rejected even when their
+ * claims are cached.
+ *
  * @author sujie
  * @since 1.0.0
  */
@@ -42,19 +59,33 @@ import java.util.Map;
 public class JwtTokenProvider {
 
     private final JwtProperties properties;
-    private SecretKey secretKey;
+    private JwtKeySource keySource;
+    private JwtParser parser;
+    private VerifiedClaimsCache claimsCache;
+    private TokenRevocationList revocationList;
 
     public JwtTokenProvider(JwtProperties properties) {
+        this(properties, null);
+    }
+
+    /**
+     * @param keySource keys to sign and verify with, or {@code null} to use those in {@code properties}
+     */
+    @Autowired
+    public JwtTokenProvider(JwtProperties properties, JwtKeySource keySource) {
         this.properties = properties;
+        this.keySource = keySource;
     }
 
     @PostConstruct
     public void init() {
-        if (properties.getSecret() == null || properties.getSecret().isEmpty()) {
-            throw new IllegalArgumentException("JWT secret must not be empty");
+        if (keySource == null) {
+            keySource = StaticJwtKeySource.from(properties);
         }
-
-        this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe
+        this.parser = parser(keySource);
+        JwtProperties.ClaimsCache cache = properties.getClaimsCache();
+        this.claimsCache = cache.isEnabled() ? new VerifiedClaimsCache(cache.getMaximumSize(), cache.getMaxTtl()) : null;
         log.info("Initialized JwtTokenProvider with issuer: {}", properties.getIssuer());
     }
 
@@ -70,18 +101,18 @@ public class JwtTokenProvider {
         Instant expiry = now.plus(properties.getExpiration());
 
         JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiry))
                 .issuer(properties.getIssuer())
-                .audience().add(properties.getAudience()).and()
-                .signWith(secretKey);
+                .audience().add(properties.getAudience()).and();
 
         if (claims != null && !claims.isEmpty()) {
             builder.claims(claims);
         }
 
-        return builder.compact();
+        return sign(builder).compact();
     }
 
     /**
@@ -94,12 +125,12 @@ public class JwtTokenProvider {
         Instant now = Instant.now();
         Instant expiry = now.plus(properties.getRefreshExpiration());
 
-        return Jwts.builder()
+        return sign(Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiry))
-                .issuer(properties.getIssuer())
-                .signWith(secretKey)
+                .issuer(properties.getIssuer()))
                 .compact();
     }
 
@@ -111,10 +142,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseOnce(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
@@ -122,6 +150,26 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Verify token and return its claims, served from the claims cache when
+     * the token was verified before.
+     *
+     * @param token the JWT token
+     * @return the immutable claims
+     * @throws JwtException             if the token is invalid, expired or revoked
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public Claims parseOnce(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token must not be empty");
+        }
+        Claims claims = claimsCache == null ? verify(token) : claimsCache.get(token, this::verify);
+        if (revocationList != null && revocationList.isRevoked(claims)) {
+            throw new TokenRevokedException(claims.getId());
+        }
+        return claims;
+    }
+
     /**
      * Get claims from token.
      *
@@ -129,11 +177,7 @@ public class JwtTokenProvider {
      * @return the claims
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseOnce(token);
     }
 
     /**
@@ -143,7 +187,7 @@ public class JwtTokenProvider {
      * @return the subject
      */
     public String getSubject(String token) {
-        return getClaims(token).getSubject();
+        return parseOnce(token).getSubject();
     }
 
     /**
@@ -153,7 +197,7 @@ public class JwtTokenProvider {
      * @return the expiration date
      */
     public Date getExpiration(String token) {
-        return getClaims(token).getExpiration();
+        return parseOnce(token).getExpiration();
     }
 
     /**
@@ -178,7 +222,56 @@ public class JwtTokenProvider {
      * @return the username
      */
     public String getUsername(String token) {
-        return getClaims(token).get("username", String.class);
+        return parseOnce(token).get("username", String.class);
+    }
+
+    private Claims verify(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private JwtBuilder sign(JwtBuilder builder) {
+        JwtKeySource.SigningKey signingKey = keySource.signingKey();
+        if (signingKey == null) {
+            throw new IllegalStateException("No JWT signing key configured; this service can only verify tokens");
+        }
+        if (signingKey.id() != null) {
+            builder.header().keyId(signingKey.id()).and();
+        }
+        return signingKey.algorithm() == null
+                ? builder.signWith(signingKey.key())
+                : builder.signWith(signingKey.key(), signingKey.algorithm());
+    }
+
+    /**
+     * Parser resolving the verification key from each token's header.
+     */
+    static JwtParser parser(JwtKeySource keySource) {
+        return Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keySource.verificationKey(header);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Reject tokens whose {@code jti} is in {@code revocationList}.
+     *
+     * @param revocationList the revocation list, or {@code null} to disable the check
+     */
+    public void setRevocationList(TokenRevocationList revocationList) {
+        this.revocationList = revocationList;
+    }
+
+    /**
+     * Get the key source.
+     *
+     * @return the key source
+     */
+    public JwtKeySource getKeySource() {
+        return keySource;
     }
 
     /**
@@ -1,26 +1,36 @@
 package com.nexora.security.jwt;
 
+import com.nexora.security.revocation.TokenRevocationList;
+import com.nexora.security.revocation.TokenRevokedException;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.JwtParser;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 /**
  * Reactive JWT token provider for non-blocking JWT validation.
  *
- * <p>Wraps the blocking JWT operations in reactive types using
- * {@link Mono#fromCallable} with bounded elasticity scheduler.
- * This is essential for WebFlux and Gateway applications where blocking
- * operations can cause performance issues.
+ * <p>HMAC verification is pure CPU work measured in microseconds, so it runs
+ * on the subscribing thread; moving it to another scheduler would cost more
+ * in thread hops than the verification itself. Verified claims are cached
+ * (see {@link JwtProperties.ClaimsCache}) and, with
+ * {@link #validateToken(ServerWebExchange, String)}, also kept in the
+ * exchange attributes so one request verifies its token once.
+ *
+ * <p>RSA, ECDSA and EdDSA verification costs tens to hundreds of
+ * microseconds, enough to stall an event loop under load. With asymmetric
+ * keys a cache miss is therefore verified on the {@link Schedulers#parallel()
+ * parallel} scheduler (CPU-bound work, no blocking), while cache hits still
+ * complete inline. Keys never come from the network here: a remote JWK Set is
+ * refreshed in the background by {@link JwksKeySource}.
  *
  * <p>Usage:
  * <pre>
@@ -31,6 +41,10 @@ import java.util.Date;
  * reactiveJwtProvider.validateToken(token)
  *     .subscribe(claims -> processClaims(claims));
  *
+ * // Validate once per exchange (e.g. in a WebFilter and again in a handler)
+ * reactiveJwtProvider.validateToken(exchange, token)
+ *     .subscribe(claims -> processClaims(claims));
+ *
  * // Check if token is valid (no exception)
  * reactiveJwtProvider.isValid(token)
  *     .subscribe(valid -> {
@@ -47,16 +61,28 @@ import java.util.Date;
 @ConditionalOnProperty(prefix = "nexora.security.jwt", name = "enabled", havingValue = "true")
 public class ReactiveJwtTokenProvider {
 
+    /**
+     * Exchange attribute holding the claims verified for the exchange.
+     */
+    public static final String CLAIMS_ATTRIBUTE = ReactiveJwtTokenProvider.class.getName() + ".claims";
+
     private final JwtProperties properties;
-    private final SecretKey secretKey;
+    private final JwtKeySource keySource;
+    private final JwtParser parser;
+    private final VerifiedClaimsCache claimsCache;
+    private TokenRevocationList revocationList;
 
     public ReactiveJwtTokenProvider(JwtProperties properties) {
-        this.properties = properties;
-        if (properties.getSecret() == null || properties.getSecret().isEmpty()) {
-            throw new IllegalArgumentException("JWT secret must not be empty");
-        }
+        this(properties, StaticJwtKeySource.from(properties));
+    }
 
-        this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+    @Autowired
+    public ReactiveJwtTokenProvider(JwtProperties properties, JwtKeySource keySource) {
+        this.properties = properties;
+        this.keySource = keySource;
+        this.parser = JwtTokenProvider.parser(keySource);
+        JwtProperties.ClaimsCache cache = properties.getClaimsCache();
+        this.claimsCache = cache.isEnabled() ? new VerifiedClaimsCache(cache.getMaximumSize(), cache.getMaxTtl()) : null;
         log.info("Initialized ReactiveJwtTokenProvider with issuer: {}", properties.getIssuer());
     }
 
@@ -67,20 +93,65 @@ public class ReactiveJwtTokenProvider {
      * @return Mono containing the token claims
      */
     public Mono<Claims> validateToken(String token) {
-        return Mono.fromCallable(() -> {
-            var parser = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build();
-
-            Claims claims = parser.parseSignedClaims(token).getPayload();
-            log.debug("JWT validated successfully for subject: {}", claims.getSubject());
-            return claims;
-        })
-        .subscribeOn(Schedulers.boundedElastic())
-        .onErrorMap(io.jsonwebtoken.JwtException.class, e -> {
-            log.warn("JWT validation failed: {}", e.getMessage());
-            return new JwtValidationException("Invalid JWT token: " + e.getMessage());
-        });
+        Claims cached = claimsCache == null || token == null ? null : claimsCache.getIfPresent(token);
+        if (cached != null && !isRevoked(cached)) {
+            return Mono.just(cached);
+        }
+        Mono<Claims> verification = Mono.fromCallable(() -> parseOnce(token));
+        if (keySource.isAsymmetric()) {
+            verification = verification.subscribeOn(Schedulers.parallel());
+        }
+        return verification
+                .onErrorMap(io.jsonwebtoken.JwtException.class, e -> {
+                    log.warn("JWT validation failed: {}", e.getMessage());
+                    return new JwtValidationException("Invalid JWT token: " + e.getMessage());
+                });
+    }
+
+    /**
+     * Validate and parse JWT token once per exchange (non-blocking).
+     *
+     * <p>The claims are stored in the {@link #CLAIMS_ATTRIBUTE} exchange
+     * attribute; later calls for the same token on the same exchange return
+     * them without touching the parser or the cache.
+     *
+     * @param exchange the current exchange
+     * @param token the JWT token
+     * @return Mono containing the token claims
+     */
+    public Mono<Claims> validateToken(ServerWebExchange exchange, String token) {
+        if (exchange.getAttribute(CLAIMS_ATTRIBUTE) instanceof ExchangeClaims verified && verified.token().equals(token)
+                && !isRevoked(verified.claims())) {
+            return Mono.just(verified.claims());
+        }
+        return validateToken(token)
+                .doOnNext(claims -> exchange.getAttributes().put(CLAIMS_ATTRIBUTE, new ExchangeClaims(token, claims)));
+    }
+
+    private Claims parseOnce(String token) {
+        Claims claims = claimsCache == null ? verify(token) : claimsCache.get(token, this::verify);
+        if (isRevoked(claims)) {
+            throw new TokenRevokedException(claims.getId());
+        }
+        log.debug("JWT validated successfully for subject: {}", claims.getSubject());
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private boolean isRevoked(Claims claims) {
+        return revocationList != null && revocationList.isRevoked(claims);
+    }
+
+    /**
+     * Reject tokens whose {@code jti} is in {@code revocationList}.
+     *
+     * @param revocationList the revocation list, or {@code null} to disable the check
+     */
+    public void setRevocationList(TokenRevocationList revocationList) {
+        this.revocationList = revocationList;
     }
 
     /**
@@ -154,6 +225,9 @@ public class ReactiveJwtTokenProvider {
         return properties;
     }
 
+    private record ExchangeClaims(String token, Claims claims) {
+    }
+
     /**
      * JWT validation exception.
      */
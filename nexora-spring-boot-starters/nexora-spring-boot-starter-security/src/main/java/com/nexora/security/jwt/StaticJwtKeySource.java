@@ -0,0 +1,173 @@
+package com.nexora.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JwtKeySource} over keys configured in {@link JwtProperties}: either
+ * the shared HMAC {@code secret} or a set of asymmetric keys selected by
+ * {@code kid}.
+ *
+ * <p>With asymmetric keys, rotation is a configuration change on the issuer
+ * alone: add the new key, make it active, and keep the old one as
+ * verification-only until the tokens it signed have expired.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class StaticJwtKeySource implements JwtKeySource {
+
+    private final SigningKey signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final Key defaultVerificationKey;
+    private final List<PublicJwk<?>> publicJwks;
+
+    private StaticJwtKeySource(SigningKey signingKey, Map<String, Key> verificationKeys,
+                               Key defaultVerificationKey, List<PublicJwk<?>> publicJwks) {
+        this.signingKey = signingKey;
+        this.verificationKeys = verificationKeys;
+        this.defaultVerificationKey = defaultVerificationKey;
+        this.publicJwks = publicJwks;
+    }
+
+    /**
+     * Key source for the configured {@link JwtProperties#getKeys() keys}, or
+     * for the HMAC {@link JwtProperties#getSecret() secret} when there are none.
+     *
+     * @throws IllegalArgumentException if neither is configured or a key is invalid
+     */
+    public static StaticJwtKeySource from(JwtProperties properties) {
+        if (!properties.getKeys().isEmpty()) {
+            return asymmetric(properties.getKeys(), properties.getActiveKeyId());
+        }
+        if (properties.getSecret() == null || properties.getSecret().isEmpty()) {
+            throw new IllegalArgumentException("JWT secret must not be empty");
+        }
+        Key secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        return new StaticJwtKeySource(new SigningKey(null, secretKey, null), Map.of(), secretKey, List.of());
+    }
+
+    private static StaticJwtKeySource asymmetric(List<JwtProperties.SigningKey> keys, String activeKeyId) {
+        Map<String, Key> verificationKeys = new LinkedHashMap<>();
+        List<PublicJwk<?>> publicJwks = new ArrayList<>();
+        SigningKey signingKey = null;
+        for (JwtProperties.SigningKey key : keys) {
+            if (key.getId() == null || key.getId().isEmpty()) {
+                throw new IllegalArgumentException("JWT key id must not be empty");
+            }
+            if (verificationKeys.containsKey(key.getId())) {
+                throw new IllegalArgumentException("Duplicate JWT key id " + key.getId());
+            }
+            if (key.getPublicKey() == null || key.getPublicKey().isEmpty()) {
+                throw new IllegalArgumentException("JWT key " + key.getId() + " has no public key");
+            }
+            SecureDigestAlgorithm<Key, ?> algorithm = algorithm(key.getAlgorithm());
+            String family = keyFamily(key.getAlgorithm());
+            PublicKey publicKey = publicKey(family, key.getPublicKey(), key.getId());
+            verificationKeys.put(key.getId(), publicKey);
+            publicJwks.add(Jwks.builder().key(publicKey)
+                .id(key.getId())
+                .algorithm(algorithm.getId())
+                .publicKeyUse("sig")
+                .build());
+
+            boolean hasPrivateKey = key.getPrivateKey() != null && !key.getPrivateKey().isEmpty();
+            boolean active = activeKeyId == null ? signingKey == null : activeKeyId.equals(key.getId());
+            if (hasPrivateKey && active) {
+                signingKey = new SigningKey(key.getId(), privateKey(family, key.getPrivateKey(), key.getId()), algorithm);
+            }
+        }
+        if (activeKeyId != null && signingKey == null) {
+            throw new IllegalArgumentException("Active JWT key " + activeKeyId + " is not configured with a private key");
+        }
+        Key defaultKey = verificationKeys.size() == 1 ? verificationKeys.values().iterator().next() : null;
+        return new StaticJwtKeySource(signingKey, Map.copyOf(verificationKeys), defaultKey, List.copyOf(publicJwks));
+    }
+
+    @Override
+    public SigningKey signingKey() {
+        return signingKey;
+    }
+
+    @Override
+    public Key verificationKey(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = kid == null || verificationKeys.isEmpty() ? defaultVerificationKey : verificationKeys.get(kid);
+        if (key == null) {
+            throw new JwtException("No JWT verification key for kid " + kid);
+        }
+        return key;
+    }
+
+    @Override
+    public boolean isAsymmetric() {
+        return !publicJwks.isEmpty();
+    }
+
+    @Override
+    public List<PublicJwk<?>> publicJwks() {
+        return publicJwks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SecureDigestAlgorithm<Key, ?> algorithm(String id) {
+        if (id == null || id.startsWith("HS")) {
+            throw new IllegalArgumentException("Unsupported asymmetric JWT algorithm " + id + "; use the secret for HMAC");
+        }
+        SecureDigestAlgorithm<?, ?> algorithm = Jwts.SIG.get().get(id);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Unknown JWT algorithm " + id);
+        }
+        return (SecureDigestAlgorithm<Key, ?>) algorithm;
+    }
+
+    private static String keyFamily(String algorithm) {
+        if (algorithm.startsWith("RS") || algorithm.startsWith("PS")) {
+            return "RSA";
+        }
+        if (algorithm.startsWith("ES")) {
+            return "EC";
+        }
+        return "EdDSA";
+    }
+
+    private static PublicKey publicKey(String family, String pem, String kid) {
+        try {
+            return KeyFactory.getInstance(family).generatePublic(new X509EncodedKeySpec(pemContent(pem)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid public key for JWT key " + kid, e);
+        }
+    }
+
+    private static PrivateKey privateKey(String family, String pem, String kid) {
+        try {
+            return KeyFactory.getInstance(family).generatePrivate(new PKCS8EncodedKeySpec(pemContent(pem)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid private key for JWT key " + kid, e);
+        }
+    }
+
+    private static byte[] pemContent(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
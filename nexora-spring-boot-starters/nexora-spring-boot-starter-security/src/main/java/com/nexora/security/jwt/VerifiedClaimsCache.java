@@ -0,0 +1,100 @@
+package com.nexora.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified token claims.
+ *
+ * <p>Entries are keyed by the SHA-256 digest of the token, so the cache
+ * never holds usable credentials and keys stay small. An entry lives at most
+ * {@code maxTtl} and never past the token's {@code exp}, so an expired token
+ * is always re-verified (and rejected). Only successfully verified tokens are
+ * cached.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class VerifiedClaimsCache {
+
+    private final Cache<ByteBuffer, Claims> cache;
+
+    public VerifiedClaimsCache(long maximumSize, Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<ByteBuffer, Claims>() {
+                @Override
+                public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+                    Date expiration = claims.getExpiration();
+                    if (expiration == null) {
+                        return maxTtlNanos;
+                    }
+                    long untilExpiry = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+                    return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+                }
+
+                @Override
+                public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Cached claims of {@code token}, verifying it with {@code verifier} on a miss.
+     * Verification failures propagate and are not cached.
+     */
+    public Claims get(String token, Function<String, Claims> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * Cached claims of {@code token}, or {@code null} if it has not been verified recently.
+     */
+    public Claims getIfPresent(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * Drop the entry of {@code token}, e.g. after revoking it.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * Number of cached tokens (approximate).
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    static ByteBuffer digest(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("JWT token must not be null");
+        }
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
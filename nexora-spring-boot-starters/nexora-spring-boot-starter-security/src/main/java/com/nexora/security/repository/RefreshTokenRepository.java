@@ -1,10 +1,16 @@
 package com.nexora.security.repository;
 
 import com.nexora.security.domain.RefreshToken;
+import com.nexora.security.store.TokenDigests;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +26,22 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
      * Find refresh token by token value.
      *
      * @param token the token value
+     * @return the refresh token if found, with its token value set
+     */
+    default Optional<RefreshToken> findByToken(String token) {
+        return findByTokenHash(TokenDigests.sha256(token)).map(refreshToken -> {
+            refreshToken.setToken(token);
+            return refreshToken;
+        });
+    }
+
+    /**
+     * Find refresh token by the SHA-256 digest of its value.
+     *
+     * @param tokenHash the digest
      * @return the refresh token if found
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     /**
      * Find all valid (non-expired, non-revoked) refresh tokens for a user.
@@ -41,31 +60,82 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     List<RefreshToken> findByUserId(Long userId);
 
     /**
-     * Delete all expired refresh tokens.
+     * Delete all expired refresh tokens in one statement. Prefer
+     * {@link #findExpiredIds} with {@link #deleteAllByIdIn} for large tables.
      *
      * @param now the current time
      * @return number of deleted tokens
      */
     @Transactional
-    void deleteByExpiryDateBefore(Instant now);
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiryDate < :now")
+    int deleteByExpiryDateBefore(@Param("now") Instant now);
+
+    /**
+     * Ids of up to {@code limit} expired refresh tokens, oldest id first.
+     *
+     * @param now   the current time
+     * @param limit the chunk size
+     * @return the ids
+     */
+    @Query("select t.id from RefreshToken t where t.expiryDate < :now order by t.id")
+    List<Long> findExpiredIds(@Param("now") Instant now, Limit limit);
+
+    /**
+     * Delete refresh tokens by id in one statement.
+     *
+     * @param ids the ids
+     * @return number of deleted tokens
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * Delete all refresh tokens for a user.
+     * Delete all refresh tokens for a user in one statement.
      *
      * @param userId the user ID
      */
     @Transactional
-    void deleteByUserId(Long userId);
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
 
     /**
-     * Revoke all refresh tokens for a user.
+     * Revoke all refresh tokens for a user in one statement.
      *
      * @param userId the user ID
      */
     @Transactional
     default void revokeAllByUserId(Long userId) {
-        List<RefreshToken> tokens = findByUserId(userId);
-        tokens.forEach(RefreshToken::revoke);
-        saveAll(tokens);
+        revokeAllByUserId(userId, Instant.now());
     }
+
+    /**
+     * Revoke all unrevoked refresh tokens for a user in one statement.
+     *
+     * @param userId the user ID
+     * @param now    the revocation time
+     * @return number of revoked tokens
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.revokedDate = :now "
+        + "where t.userId = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * Revoke a refresh token if it is still valid and belongs to the user.
+     *
+     * @param tokenHash the SHA-256 digest of the token value
+     * @param userId    the expected owner
+     * @param now       the current time
+     * @return 1 if the token was revoked, 0 if it was unknown, already revoked, expired or not the user's
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true, t.revokedDate = :now "
+        + "where t.tokenHash = :tokenHash and t.userId = :userId and t.revoked = false and t.expiryDate > :now")
+    int revokeIfValid(@Param("tokenHash") byte[] tokenHash, @Param("userId") Long userId, @Param("now") Instant now);
 }
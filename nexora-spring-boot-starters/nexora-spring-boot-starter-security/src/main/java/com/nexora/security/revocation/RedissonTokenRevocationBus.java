@@ -0,0 +1,50 @@
+package com.nexora.security.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link TokenRevocationBus} over a Redis pub/sub topic.
+ *
+ * <p>Messages are plain strings ({@link TokenRevocation#encode()}), never
+ * Java-serialized objects, so whoever can publish to the topic cannot make
+ * nodes deserialize arbitrary classes. Delivery is fire-and-forget: a node
+ * that is disconnected while a token is revoked keeps accepting it; keep
+ * access tokens short-lived.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedissonTokenRevocationBus implements TokenRevocationBus {
+
+    private final RTopic topic;
+
+    public RedissonTokenRevocationBus(RedissonClient redissonClient, String topicName) {
+        this.topic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+    }
+
+    @Override
+    public void publish(TokenRevocation revocation) {
+        topic.publishAsync(revocation.encode()).whenComplete((receivers, ex) -> {
+            if (ex != null) {
+                log.warn("Failed to publish revocation of token {}: {}", revocation.jti(), ex.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<TokenRevocation> handler) {
+        topic.addListener(String.class, (channel, message) -> {
+            try {
+                handler.accept(TokenRevocation.decode(message));
+            } catch (IllegalArgumentException ex) {
+                log.warn("Ignoring token revocation message: {}", ex.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.nexora.security.revocation;
+
+import java.time.Instant;
+
+/**
+ * A revoked token id and the time until which it must be rejected.
+ *
+ * @param jti       the token id
+ * @param expiresAt the token's expiry
+ * @author sujie
+ * @since 1.0.0
+ */
+public record TokenRevocation(String jti, Instant expiresAt) {
+
+    /**
+     * Compact wire form, {@code <epochSecond>:<jti>}.
+     */
+    public String encode() {
+        return expiresAt.getEpochSecond() + ":" + jti;
+    }
+
+    /**
+     * Parse the {@link #encode() wire form}.
+     *
+     * @throws IllegalArgumentException if the message is malformed
+     */
+    public static TokenRevocation decode(String message) {
+        int separator = message.indexOf(':');
+        if (separator <= 0 || separator == message.length() - 1) {
+            throw new IllegalArgumentException("Malformed token revocation message");
+        }
+        try {
+            long expiresAt = Long.parseLong(message, 0, separator, 10);
+            return new TokenRevocation(message.substring(separator + 1), Instant.ofEpochSecond(expiresAt));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed token revocation message", e);
+        }
+    }
+}
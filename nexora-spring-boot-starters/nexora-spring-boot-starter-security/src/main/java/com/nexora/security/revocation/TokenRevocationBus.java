@@ -0,0 +1,22 @@
+package com.nexora.security.revocation;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport for {@link TokenRevocation}s between nodes.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public interface TokenRevocationBus {
+
+    /**
+     * Send a revocation to every node, including this one.
+     */
+    void publish(TokenRevocation revocation);
+
+    /**
+     * Register the handler for revocations from any node.
+     */
+    void subscribe(Consumer<TokenRevocation> handler);
+}
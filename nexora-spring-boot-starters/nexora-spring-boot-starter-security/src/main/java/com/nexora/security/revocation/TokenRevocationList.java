@@ -0,0 +1,191 @@
+package com.nexora.security.revocation;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory set of revoked token ids ({@code jti}), bucketed by token expiry.
+ *
+ * <p>A revoked token only needs to be remembered until it expires, so each
+ * entry goes into the bucket of its {@code exp}. Buckets form a ring covering
+ * {@code window}; when the ring wraps around, a bucket whose time has passed
+ * is discarded as a whole. Nothing is ever scanned or purged entry by entry.
+ *
+ * <p>Each bucket is an open-addressing table of 64-bit fingerprints of the
+ * {@code jti}. {@link #isRevoked(String, long)} hashes the id in place, picks
+ * the bucket from the expiry and probes it: O(1), lock-free and
+ * allocation-free. Writes are rare (logouts) and serialized.
+ *
+ * <p>Fingerprints may collide with a probability of about n/2<sup>64</sup>
+ * for n revoked tokens, which would reject one unrelated token.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class TokenRevocationList {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final long bucketWidthSeconds;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final Clock clock;
+
+    /**
+     * @param bucketWidth granularity at which entries age out
+     * @param window      longest remaining lifetime of a revocable token (the access token expiration)
+     */
+    public TokenRevocationList(Duration bucketWidth, Duration window) {
+        this(bucketWidth, window, Clock.systemUTC());
+    }
+
+    TokenRevocationList(Duration bucketWidth, Duration window, Clock clock) {
+        this.bucketWidthSeconds = Math.max(1, bucketWidth.toSeconds());
+        // One extra bucket for the partially elapsed current one, one for rounding up
+        int count = (int) ((window.toSeconds() + bucketWidthSeconds - 1) / bucketWidthSeconds) + 2;
+        this.buckets = new AtomicReferenceArray<>(count);
+        this.clock = clock;
+    }
+
+    /**
+     * Remember {@code jti} as revoked until {@code expiresAt}.
+     *
+     * @return {@code false} if the token has already expired and needs no entry
+     * @throws IllegalArgumentException if the expiry lies beyond the configured window
+     */
+    public boolean revoke(String jti, Instant expiresAt) {
+        long expiresAtSeconds = expiresAt.getEpochSecond();
+        long nowSeconds = clock.instant().getEpochSecond();
+        if (expiresAtSeconds < nowSeconds) {
+            return false;
+        }
+        long epoch = expiresAtSeconds / bucketWidthSeconds;
+        if (epoch - nowSeconds / bucketWidthSeconds >= buckets.length()) {
+            throw new IllegalArgumentException("Token expiry " + expiresAt
+                + " lies beyond the revocation window; increase nexora.security.jwt.revocation.window");
+        }
+        long fingerprint = fingerprint(jti);
+        int slot = slot(epoch);
+        synchronized (this) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || bucket.epoch != epoch) {
+                bucket = new Bucket(epoch, MIN_CAPACITY);
+            } else if ((bucket.size + 1) * 2 > bucket.table.length()) {
+                bucket = bucket.grow();
+            }
+            bucket.add(fingerprint);
+            buckets.set(slot, bucket);
+        }
+        return true;
+    }
+
+    /**
+     * Whether the token with id {@code jti} and expiry {@code expiresAtSeconds} (epoch seconds) is revoked.
+     */
+    public boolean isRevoked(String jti, long expiresAtSeconds) {
+        long epoch = expiresAtSeconds / bucketWidthSeconds;
+        Bucket bucket = buckets.get(slot(epoch));
+        return bucket != null && bucket.epoch == epoch && bucket.contains(fingerprint(jti));
+    }
+
+    /**
+     * Whether the token with these claims is revoked; tokens without {@code jti} or {@code exp} never are.
+     */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        return jti != null && expiration != null && isRevoked(jti, expiration.getTime() / 1000);
+    }
+
+    /**
+     * Number of revoked tokens that have not expired yet (approximate).
+     */
+    public int size() {
+        long currentEpoch = clock.instant().getEpochSecond() / bucketWidthSeconds;
+        int size = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch >= currentEpoch) {
+                size += bucket.size;
+            }
+        }
+        return size;
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length());
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer.
+     * Never returns 0, which marks an empty table slot.
+     */
+    static long fingerprint(String jti) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < jti.length(); i++) {
+            hash = (hash ^ jti.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static final class Bucket {
+
+        final long epoch;
+        final AtomicLongArray table;
+        int size;
+
+        Bucket(long epoch, int capacity) {
+            this.epoch = epoch;
+            this.table = new AtomicLongArray(capacity);
+        }
+
+        boolean contains(long fingerprint) {
+            int mask = table.length() - 1;
+            for (int i = (int) fingerprint & mask; ; i = (i + 1) & mask) {
+                long value = table.get(i);
+                if (value == fingerprint) {
+                    return true;
+                }
+                if (value == 0) {
+                    return false;
+                }
+            }
+        }
+
+        void add(long fingerprint) {
+            int mask = table.length() - 1;
+            for (int i = (int) fingerprint & mask; ; i = (i + 1) & mask) {
+                long value = table.get(i);
+                if (value == fingerprint) {
+                    return;
+                }
+                if (value == 0) {
+                    table.set(i, fingerprint);
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        Bucket grow() {
+            Bucket grown = new Bucket(epoch, table.length() * 2);
+            for (int i = 0; i < table.length(); i++) {
+                long value = table.get(i);
+                if (value != 0) {
+                    grown.add(value);
+                }
+            }
+            return grown;
+        }
+    }
+}
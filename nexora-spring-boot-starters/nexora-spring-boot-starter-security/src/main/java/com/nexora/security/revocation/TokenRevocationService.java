@@ -0,0 +1,84 @@
+package com.nexora.security.revocation;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * Revokes access tokens before they expire, on every node.
+ *
+ * <p>Revocations are applied to the local {@link TokenRevocationList} at once
+ * and announced on the {@link TokenRevocationBus}; the token providers reject
+ * revoked tokens from memory, with no per-request database or Redis lookup.
+ *
+ * <p>Usage:
+ * <pre>
+ * // Logout
+ * revocationService.revoke(tokenProvider.getClaims(accessToken));
+ * </pre>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class TokenRevocationService {
+
+    private final TokenRevocationList revocationList;
+    private final TokenRevocationBus bus;
+
+    /**
+     * @param bus cross-node transport, or {@code null} for a single node
+     */
+    public TokenRevocationService(TokenRevocationList revocationList, TokenRevocationBus bus) {
+        this.revocationList = revocationList;
+        this.bus = bus;
+        if (bus != null) {
+            bus.subscribe(this::apply);
+        }
+    }
+
+    /**
+     * Revoke the token with these (verified) claims.
+     *
+     * @throws IllegalArgumentException if the token has no {@code jti} or {@code exp}
+     */
+    public void revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            throw new IllegalArgumentException("Only tokens with jti and exp claims can be revoked");
+        }
+        revoke(claims.getId(), claims.getExpiration().toInstant());
+    }
+
+    /**
+     * Revoke the token with id {@code jti} that expires at {@code expiresAt}.
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (!revocationList.revoke(jti, expiresAt)) {
+            return;
+        }
+        if (bus != null) {
+            bus.publish(new TokenRevocation(jti, expiresAt));
+        }
+        log.debug("Revoked token {}", jti);
+    }
+
+    /**
+     * Whether the token with these claims is revoked.
+     */
+    public boolean isRevoked(Claims claims) {
+        return revocationList.isRevoked(claims);
+    }
+
+    public TokenRevocationList getRevocationList() {
+        return revocationList;
+    }
+
+    private void apply(TokenRevocation revocation) {
+        try {
+            revocationList.revoke(revocation.jti(), revocation.expiresAt());
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring revocation of token {}: {}", revocation.jti(), ex.getMessage());
+        }
+    }
+}
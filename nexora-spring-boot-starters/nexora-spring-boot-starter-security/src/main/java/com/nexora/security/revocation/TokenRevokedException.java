@@ -0,0 +1,16 @@
+package com.nexora.security.revocation;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Thrown when a correctly signed, unexpired token has been revoked.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class TokenRevokedException extends JwtException {
+
+    public TokenRevokedException(String jti) {
+        super("JWT " + jti + " has been revoked");
+    }
+}
@@ -0,0 +1,149 @@
+package com.nexora.security.service;
+
+import com.nexora.security.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically deletes expired rows from the {@code refresh_tokens} table.
+ *
+ * <p>Each chunk selects up to {@code chunkSize} expired ids through the
+ * expiry index and deletes them by primary key in its own short
+ * transaction, with a pause between chunks. Memory use and lock time are
+ * bounded by the chunk size, whatever the table size. A failed chunk ends
+ * the run; the next run continues where it stopped.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class RefreshTokenCleaner implements SmartLifecycle {
+
+    private final RefreshTokenRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration interval;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    private final AtomicLong deletedTotal = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastRunNanos;
+    private volatile ScheduledExecutorService scheduler;
+
+    public RefreshTokenCleaner(RefreshTokenRepository repository, PlatformTransactionManager transactionManager,
+                               RefreshTokenProperties.Cleanup cleanup) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.interval = cleanup.getInterval();
+        this.chunkSize = cleanup.getChunkSize();
+        this.pauseMillis = cleanup.getChunkPause().toMillis();
+    }
+
+    /**
+     * Delete all tokens that expired before now, chunk by chunk.
+     *
+     * @return number of deleted tokens
+     */
+    public long deleteExpired() {
+        long started = System.nanoTime();
+        Instant now = Instant.now();
+        long deleted = 0;
+        try {
+            while (true) {
+                Integer removed = transactionTemplate.execute(status -> {
+                    List<Long> ids = repository.findExpiredIds(now, Limit.of(chunkSize));
+                    return ids.isEmpty() ? 0 : repository.deleteAllByIdIn(ids);
+                });
+                deleted += removed;
+                deletedTotal.addAndGet(removed);
+                if (removed < chunkSize || !pause()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            failures.incrementAndGet();
+            log.warn("Refresh token cleanup stopped after {} rows: {}", deleted, ex.getMessage());
+        } finally {
+            lastRunNanos = System.nanoTime() - started;
+        }
+        if (deleted > 0) {
+            log.debug("Deleted {} expired refresh tokens", deleted);
+        }
+        return deleted;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Tokens deleted since startup.
+     */
+    public long getDeletedTotal() {
+        return deletedTotal.get();
+    }
+
+    /**
+     * Runs that stopped on an error.
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Duration of the last run.
+     */
+    public Duration getLastRunDuration() {
+        return Duration.ofNanos(lastRunNanos);
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler = executor;
+        executor.scheduleWithFixedDelay(this::deleteExpired, interval.toMillis(), interval.toMillis(),
+            TimeUnit.MILLISECONDS);
+        log.info("Refresh token cleaner started, every {} in chunks of {}", interval, chunkSize);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
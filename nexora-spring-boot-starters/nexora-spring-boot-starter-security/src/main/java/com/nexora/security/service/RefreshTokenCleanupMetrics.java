@@ -0,0 +1,43 @@
+package com.nexora.security.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of a {@link RefreshTokenCleaner}:
+ * <ul>
+ *   <li>{@code nexora.security.refresh-tokens.deleted} - expired tokens deleted</li>
+ *   <li>{@code nexora.security.refresh-tokens.cleanup.failures} - runs that stopped on an error</li>
+ *   <li>{@code nexora.security.refresh-tokens.cleanup.duration} - duration of the last run</li>
+ * </ul>
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class RefreshTokenCleanupMetrics implements MeterBinder {
+
+    private final RefreshTokenCleaner cleaner;
+
+    public RefreshTokenCleanupMetrics(RefreshTokenCleaner cleaner) {
+        this.cleaner = cleaner;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("nexora.security.refresh-tokens.deleted", cleaner, RefreshTokenCleaner::getDeletedTotal)
+            .description("Expired refresh tokens deleted")
+            .register(registry);
+        FunctionCounter.builder("nexora.security.refresh-tokens.cleanup.failures", cleaner,
+                RefreshTokenCleaner::getFailures)
+            .description("Refresh token cleanup runs that stopped on an error")
+            .register(registry);
+        TimeGauge.builder("nexora.security.refresh-tokens.cleanup.duration", cleaner, TimeUnit.NANOSECONDS,
+                c -> c.getLastRunDuration().toNanos())
+            .description("Duration of the last refresh token cleanup run")
+            .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.nexora.security.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Refresh token properties.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "nexora.security.refresh-token")
+public class RefreshTokenProperties {
+
+    /**
+     * Enable refresh token management.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Where refresh tokens are kept.
+     */
+    private StoreType store = StoreType.JPA;
+
+    /**
+     * Redis store settings.
+     */
+    private Redis redis = new Redis();
+
+    /**
+     * Scheduled deletion of expired tokens (JPA store).
+     */
+    private Cleanup cleanup = new Cleanup();
+
+    /**
+     * Hash plain token values left in the {@code refresh_tokens} table by
+     * earlier versions, at startup, in chunks of {@code cleanup.chunk-size} (JPA store).
+     */
+    private boolean migrateLegacyTokens = false;
+
+    public enum StoreType {
+        /**
+         * The {@code refresh_tokens} table.
+         */
+        JPA,
+
+        /**
+         * Redis, with native expiry (requires Redisson).
+         */
+        REDIS
+    }
+
+    @Data
+    public static class Redis {
+        /**
+         * Prefix of all refresh token keys.
+         */
+        private String keyPrefix = "nexora:refresh-token:";
+    }
+
+    @Data
+    public static class Cleanup {
+        /**
+         * Enable the scheduled cleanup.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval between cleanup runs.
+         */
+        private Duration interval = Duration.ofHours(1);
+
+        /**
+         * Rows deleted per transaction.
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Pause between chunks, to limit load on the database.
+         */
+        private Duration chunkPause = Duration.ofMillis(100);
+    }
+}
@@ -3,7 +3,9 @@ package com.nexora.security.service;
 import com.nexora.security.domain.RefreshToken;
 import com.nexora.security.jwt.JwtTokenProvider;
 import com.nexora.security.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
+import com.nexora.security.store.JpaRefreshTokenStore;
+import com.nexora.security.store.RefreshTokenStore;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,9 @@ import java.util.Optional;
  * // Create refresh token
  * RefreshToken refreshToken = refreshTokenService.createRefreshToken(userId);
  *
+ * // Exchange a refresh token for a new one; the old one is consumed
+ * RefreshToken next = refreshTokenService.rotateRefreshToken(token).orElseThrow();
+ *
  * // Validate refresh token
  * if (refreshTokenService.validateRefreshToken(token)) {
  *     RefreshToken rt = refreshTokenService.findByToken(token).orElseThrow();
@@ -31,17 +36,29 @@ import java.util.Optional;
  * }
  * </pre>
  *
+ * <p>Tokens are kept in a {@link RefreshTokenStore}: the JPA repository by
+ * default, or Redis with {@code nexora.security.refresh-token.store=redis}.
+ *
  * @author sujie
  * @since 1.0.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore, JwtTokenProvider jwtTokenProvider) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtTokenProvider jwtTokenProvider) {
+        this(new JpaRefreshTokenStore(refreshTokenRepository), jwtTokenProvider);
+    }
+
     /**
      * Create a new refresh token for the user.
      *
@@ -51,8 +68,40 @@ public class RefreshTokenService {
     @Transactional
     public RefreshToken createRefreshToken(Long userId) {
         // Delete existing tokens for this user (optional - keeps only one active token)
-        refreshTokenRepository.deleteByUserId(userId);
+        refreshTokenStore.deleteByUserId(userId);
 
+        RefreshToken saved = refreshTokenStore.save(newRefreshToken(userId));
+        log.debug("Created refresh token for user: {}", userId);
+        return saved;
+    }
+
+    /**
+     * Exchange a refresh token for a new one (rotate-on-use).
+     *
+     * <p>The used token is consumed atomically, so of two concurrent
+     * rotations with the same token at most one succeeds.
+     *
+     * @param token the refresh token being used
+     * @return the new refresh token, or empty if {@code token} is invalid, revoked, expired or already used
+     */
+    @Transactional
+    public Optional<RefreshToken> rotateRefreshToken(String token) {
+        Long userId;
+        try {
+            userId = Long.valueOf(jwtTokenProvider.getSubject(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        RefreshToken replacement = newRefreshToken(userId);
+        if (!refreshTokenStore.rotate(token, replacement)) {
+            log.warn("Rejected refresh token rotation for user {}: token unknown, revoked or already used", userId);
+            return Optional.empty();
+        }
+        log.debug("Rotated refresh token for user: {}", userId);
+        return Optional.of(replacement);
+    }
+
+    private RefreshToken newRefreshToken(Long userId) {
         String token = jwtTokenProvider.generateRefreshToken(userId.toString());
         Instant expiryDate = Instant.now().plus(jwtTokenProvider.getProperties().getRefreshExpiration());
 
@@ -60,10 +109,7 @@ public class RefreshTokenService {
         refreshToken.setToken(token);
         refreshToken.setUserId(userId);
         refreshToken.setExpiryDate(expiryDate);
-
-        RefreshToken saved = refreshTokenRepository.save(refreshToken);
-        log.debug("Created refresh token for user: {}", userId);
-        return saved;
+        return refreshToken;
     }
 
     /**
@@ -73,7 +119,7 @@ public class RefreshTokenService {
      * @return the refresh token if found
      */
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        return refreshTokenStore.findByToken(token);
     }
 
     /**
@@ -95,7 +141,7 @@ public class RefreshTokenService {
      */
     @Transactional
     public void deleteRefreshToken(String token) {
-        findByToken(token).ifPresent(refreshTokenRepository::delete);
+        refreshTokenStore.delete(token);
     }
 
     /**
@@ -105,11 +151,8 @@ public class RefreshTokenService {
      */
     @Transactional
     public void revokeRefreshToken(String token) {
-        findByToken(token).ifPresent(rt -> {
-            rt.revoke();
-            refreshTokenRepository.save(rt);
-            log.debug("Revoked refresh token for user: {}", rt.getUserId());
-        });
+        refreshTokenStore.revoke(token);
+        log.debug("Revoked refresh token");
     }
 
     /**
@@ -119,7 +162,7 @@ public class RefreshTokenService {
      */
     @Transactional
     public void revokeAllUserTokens(Long userId) {
-        refreshTokenRepository.revokeAllByUserId(userId);
+        refreshTokenStore.revokeAllByUserId(userId);
         log.debug("Revoked all refresh tokens for user: {}", userId);
     }
 
@@ -130,13 +173,9 @@ public class RefreshTokenService {
      */
     @Transactional
     public int deleteExpiredTokens() {
-        List<RefreshToken> expiredTokens = refreshTokenRepository.findAll().stream()
-                .filter(RefreshToken::isExpired)
-                .toList();
-
-        refreshTokenRepository.deleteAll(expiredTokens);
-        log.debug("Deleted {} expired refresh tokens", expiredTokens.size());
-        return expiredTokens.size();
+        int deleted = refreshTokenStore.deleteExpired();
+        log.debug("Deleted {} expired refresh tokens", deleted);
+        return deleted;
     }
 
     /**
@@ -146,6 +185,6 @@ public class RefreshTokenService {
      * @return list of valid refresh tokens
      */
     public List<RefreshToken> getValidTokensByUserId(Long userId) {
-        return refreshTokenRepository.findByUserIdAndRevokedIsFalseAndExpiryDateAfter(userId, Instant.now());
+        return refreshTokenStore.findValidByUserId(userId);
     }
 }
@@ -0,0 +1,96 @@
+package com.nexora.security.store;
+
+import com.nexora.security.domain.RefreshToken;
+import com.nexora.security.repository.RefreshTokenRepository;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link RefreshTokenStore} on the JPA {@link RefreshTokenRepository}.
+ *
+ * <p>Tokens are looked up by the SHA-256 digest of their value.
+ *
+ * <p>Must be called inside a transaction, as {@link com.nexora.security.service.RefreshTokenService} does.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final RefreshTokenRepository repository;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return repository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        return repository.findByToken(token);
+    }
+
+    @Override
+    public List<RefreshToken> findValidByUserId(Long userId) {
+        return repository.findByUserIdAndRevokedIsFalseAndExpiryDateAfter(userId, Instant.now());
+    }
+
+    @Override
+    public void revoke(String token) {
+        repository.findByToken(token).ifPresent(refreshToken -> {
+            refreshToken.revoke();
+            repository.save(refreshToken);
+        });
+    }
+
+    @Override
+    public void delete(String token) {
+        repository.findByToken(token).ifPresent(repository::delete);
+    }
+
+    @Override
+    public void revokeAllByUserId(Long userId) {
+        repository.revokeAllByUserId(userId);
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        repository.deleteByUserId(userId);
+    }
+
+    @Override
+    public boolean rotate(String token, RefreshToken replacement) {
+        // Conditional update: of two concurrent rotations of one token only one matches the row
+        if (repository.revokeIfValid(TokenDigests.sha256(token), replacement.getUserId(), Instant.now()) == 0) {
+            return false;
+        }
+        repository.save(replacement);
+        return true;
+    }
+
+    /**
+     * Deletes in chunks of {@value #DELETE_CHUNK_SIZE} ids within the caller's transaction;
+     * {@link com.nexora.security.service.RefreshTokenCleaner} commits per chunk instead.
+     */
+    @Override
+    public int deleteExpired() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = repository.findExpiredIds(now, Limit.of(DELETE_CHUNK_SIZE));
+            if (!ids.isEmpty()) {
+                deleted += repository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == DELETE_CHUNK_SIZE);
+        return deleted;
+    }
+}
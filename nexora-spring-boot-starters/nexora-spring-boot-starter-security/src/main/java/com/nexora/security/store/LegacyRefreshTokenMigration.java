@@ -0,0 +1,93 @@
+package com.nexora.security.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces plain refresh token values in the {@code refresh_tokens} table
+ * with their SHA-256 digests, once at startup.
+ *
+ * <p>Tables created before tokens were hashed have a {@code token} column
+ * holding the full token. To migrate one, without invalidating issued tokens:
+ * <ol>
+ *   <li>{@code ALTER TABLE refresh_tokens ADD token_hash BINARY(32)} and make
+ *       {@code token} nullable (column types vary by database, e.g.
+ *       {@code BYTEA} on PostgreSQL);</li>
+ *   <li>start with {@code nexora.security.refresh-token.migrate-legacy-tokens=true};
+ *       this class hashes every row without a digest and clears its
+ *       {@code token}, chunk by chunk, each chunk in its own transaction;</li>
+ *   <li>add the unique index on {@code token_hash}, make it {@code NOT NULL},
+ *       drop the {@code token} column and its index, and turn the property off.</li>
+ * </ol>
+ * The migration is idempotent and does nothing once the {@code token} column is gone.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+@Slf4j
+public class LegacyRefreshTokenMigration implements InitializingBean {
+
+    static final String SELECT = "select id, token from refresh_tokens "
+        + "where token_hash is null and token is not null order by id";
+    static final String UPDATE = "update refresh_tokens set token_hash = ?, token = null where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public LegacyRefreshTokenMigration(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                       int chunkSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setMaxRows(chunkSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    /**
+     * Hash all plain refresh token values.
+     *
+     * @return number of migrated tokens
+     */
+    public int migrate() {
+        int migrated = 0;
+        try {
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> migrateChunk());
+                migrated += chunk;
+            } while (chunk == chunkSize);
+        } catch (BadSqlGrammarException ex) {
+            log.info("No legacy refresh_tokens.token column to migrate: {}", ex.getMessage());
+            return migrated;
+        }
+        if (migrated > 0) {
+            log.info("Replaced {} plain refresh tokens with their digests", migrated);
+        }
+        return migrated;
+    }
+
+    private int migrateChunk() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = rows.stream()
+            .map(row -> new Object[]{TokenDigests.sha256((String) row.get("token")), row.get("id")})
+            .toList();
+        jdbcTemplate.batchUpdate(UPDATE, args);
+        return rows.size();
+    }
+}
@@ -0,0 +1,233 @@
+package com.nexora.security.store;
+
+import com.nexora.security.domain.RefreshToken;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link RefreshTokenStore} in Redis.
+ *
+ * <p>Each token is a hash {@code user/created/expires} under
+ * {@code <prefix>token:<sha256(token)>} that expires natively with the
+ * token, so expired tokens never need cleaning up and the store holds no
+ * usable credentials. Each user has a set {@code <prefix>user:<id>} of token
+ * digests, so revoking all of a user's tokens needs no scan. Revoking a token
+ * deletes it.
+ *
+ * <p>Every write is one Lua script, hence one atomic round trip; rotation
+ * deletes the used token and stores its replacement only if the used token
+ * still exists, so a refresh token can be used once. The scripts derive key
+ * names from the prefix and are meant for standalone or Sentinel Redis, not
+ * Redis Cluster.
+ *
+ * <p>Tokens listed by {@link #findValidByUserId} have no {@code token} value.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    /**
+     * KEYS[1] token key, KEYS[2] user set; ARGV[1] digest, ARGV[2] user id, ARGV[3] created and
+     * ARGV[4] expires (epoch millis), ARGV[5] TTL in milliseconds. The user set lives as long as
+     * its longest-living token.
+     */
+    static final String SAVE = """
+        redis.call('HSET', KEYS[1], 'user', ARGV[2], 'created', ARGV[3], 'expires', ARGV[4])
+        redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+        redis.call('SADD', KEYS[2], ARGV[1])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[5]) then
+          redis.call('PEXPIRE', KEYS[2], ARGV[5])
+        end
+        return 1
+        """;
+
+    /**
+     * KEYS[1] used token key, KEYS[2] new token key, KEYS[3] user set; ARGV[1] used token digest,
+     * ARGV[2] new token digest, ARGV[3..6] as ARGV[2..5] of {@link #SAVE}.
+     */
+    static final String ROTATE = """
+        if redis.call('HGET', KEYS[1], 'user') ~= ARGV[3] then
+          return 0
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('SREM', KEYS[3], ARGV[1])
+        redis.call('HSET', KEYS[2], 'user', ARGV[3], 'created', ARGV[4], 'expires', ARGV[5])
+        redis.call('PEXPIREAT', KEYS[2], ARGV[5])
+        redis.call('SADD', KEYS[3], ARGV[2])
+        if redis.call('PTTL', KEYS[3]) < tonumber(ARGV[6]) then
+          redis.call('PEXPIRE', KEYS[3], ARGV[6])
+        end
+        return 1
+        """;
+
+    /**
+     * KEYS[1] token key; ARGV[1] digest, ARGV[2] user set key prefix.
+     */
+    static final String DELETE = """
+        local user = redis.call('HGET', KEYS[1], 'user')
+        if not user then
+          return 0
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('SREM', ARGV[2] .. user, ARGV[1])
+        return 1
+        """;
+
+    /**
+     * KEYS[1] user set; ARGV[1] token key prefix.
+     */
+    static final String DELETE_ALL = """
+        local digests = redis.call('SMEMBERS', KEYS[1])
+        for _, digest in ipairs(digests) do
+          redis.call('DEL', ARGV[1] .. digest)
+        end
+        redis.call('DEL', KEYS[1])
+        return #digests
+        """;
+
+    /**
+     * KEYS[1] user set; ARGV[1] token key prefix. Returns created/expires pairs and
+     * drops digests whose token has expired.
+     */
+    static final String LIST = """
+        local result = {}
+        for _, digest in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+          local fields = redis.call('HMGET', ARGV[1] .. digest, 'created', 'expires')
+          if fields[1] then
+            table.insert(result, fields[1])
+            table.insert(result, fields[2])
+          else
+            redis.call('SREM', KEYS[1], digest)
+          end
+        end
+        return result
+        """;
+
+    private final RedissonClient redissonClient;
+    private final String tokenKeyPrefix;
+    private final String userKeyPrefix;
+
+    public RedisRefreshTokenStore(RedissonClient redissonClient, String keyPrefix) {
+        this.redissonClient = redissonClient;
+        this.tokenKeyPrefix = keyPrefix + "token:";
+        this.userKeyPrefix = keyPrefix + "user:";
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        String digest = digest(refreshToken.getToken());
+        eval(SAVE, RScript.ReturnType.LONG, List.of(tokenKeyPrefix + digest, userKey(refreshToken.getUserId())),
+            tokenArgs(null, digest, refreshToken));
+        return refreshToken;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        Map<String, String> fields = redissonClient.<String, String>getMap(tokenKeyPrefix + digest(token),
+            StringCodec.INSTANCE).readAllMap();
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshToken refreshToken = refreshToken(Long.valueOf(fields.get("user")), fields.get("created"),
+            fields.get("expires"));
+        refreshToken.setToken(token);
+        return Optional.of(refreshToken);
+    }
+
+    @Override
+    public List<RefreshToken> findValidByUserId(Long userId) {
+        List<Object> pairs = eval(LIST, RScript.ReturnType.LIST, List.of(userKey(userId)), tokenKeyPrefix);
+        List<RefreshToken> tokens = new ArrayList<>(pairs.size() / 2);
+        for (int i = 0; i + 1 < pairs.size(); i += 2) {
+            tokens.add(refreshToken(userId, (String) pairs.get(i), (String) pairs.get(i + 1)));
+        }
+        return tokens;
+    }
+
+    @Override
+    public void revoke(String token) {
+        delete(token);
+    }
+
+    @Override
+    public void delete(String token) {
+        String digest = digest(token);
+        eval(DELETE, RScript.ReturnType.LONG, List.of(tokenKeyPrefix + digest), digest, userKeyPrefix);
+    }
+
+    @Override
+    public void revokeAllByUserId(Long userId) {
+        deleteByUserId(userId);
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        eval(DELETE_ALL, RScript.ReturnType.LONG, List.of(userKey(userId)), tokenKeyPrefix);
+    }
+
+    @Override
+    public boolean rotate(String token, RefreshToken replacement) {
+        String usedDigest = digest(token);
+        String digest = digest(replacement.getToken());
+        Long rotated = eval(ROTATE, RScript.ReturnType.LONG,
+            List.of(tokenKeyPrefix + usedDigest, tokenKeyPrefix + digest, userKey(replacement.getUserId())),
+            tokenArgs(usedDigest, digest, replacement));
+        return rotated != null && rotated == 1;
+    }
+
+    /**
+     * Always 0: Redis expires tokens itself.
+     */
+    @Override
+    public int deleteExpired() {
+        return 0;
+    }
+
+    /**
+     * Arguments of {@link #SAVE}, preceded by the used token's digest for {@link #ROTATE}.
+     */
+    private static Object[] tokenArgs(String usedDigest, String digest, RefreshToken refreshToken) {
+        long created = refreshToken.getCreatedDate().toEpochMilli();
+        long expires = refreshToken.getExpiryDate().toEpochMilli();
+        List<Object> args = new ArrayList<>(6);
+        if (usedDigest != null) {
+            args.add(usedDigest);
+        }
+        args.add(digest);
+        args.add(refreshToken.getUserId().toString());
+        args.add(Long.toString(created));
+        args.add(Long.toString(expires));
+        args.add(Long.toString(Math.max(1, expires - System.currentTimeMillis())));
+        return args.toArray();
+    }
+
+    private <R> R eval(String script, RScript.ReturnType returnType, List<Object> keys, Object... args) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, script, returnType,
+            keys, args);
+    }
+
+    private String userKey(Long userId) {
+        return userKeyPrefix + userId;
+    }
+
+    private static RefreshToken refreshToken(Long userId, String created, String expires) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUserId(userId);
+        refreshToken.setCreatedDate(Instant.ofEpochMilli(Long.parseLong(created)));
+        refreshToken.setExpiryDate(Instant.ofEpochMilli(Long.parseLong(expires)));
+        return refreshToken;
+    }
+
+    static String digest(String token) {
+        return HexFormat.of().formatHex(TokenDigests.sha256(token));
+    }
+}
@@ -0,0 +1,70 @@
+package com.nexora.security.store;
+
+import com.nexora.security.domain.RefreshToken;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence of refresh tokens used by {@link com.nexora.security.service.RefreshTokenService}.
+ *
+ * <p>{@link JpaRefreshTokenStore} keeps them in the {@code refresh_tokens}
+ * table; {@link RedisRefreshTokenStore} keeps them in Redis with a native TTL.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Store a new refresh token.
+     *
+     * @return the stored token
+     */
+    RefreshToken save(RefreshToken refreshToken);
+
+    /**
+     * Find a refresh token by its value.
+     */
+    Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * Valid (unexpired, unrevoked) refresh tokens of a user.
+     */
+    List<RefreshToken> findValidByUserId(Long userId);
+
+    /**
+     * Revoke one refresh token.
+     */
+    void revoke(String token);
+
+    /**
+     * Delete one refresh token.
+     */
+    void delete(String token);
+
+    /**
+     * Revoke every refresh token of a user.
+     */
+    void revokeAllByUserId(Long userId);
+
+    /**
+     * Delete every refresh token of a user.
+     */
+    void deleteByUserId(Long userId);
+
+    /**
+     * Atomically consume {@code token} and store {@code replacement} in its place.
+     *
+     * @return {@code false}, storing nothing, if {@code token} is unknown, revoked,
+     * expired, already used, or belongs to another user than {@code replacement}
+     */
+    boolean rotate(String token, RefreshToken replacement);
+
+    /**
+     * Delete expired refresh tokens.
+     *
+     * @return number of deleted tokens
+     */
+    int deleteExpired();
+}
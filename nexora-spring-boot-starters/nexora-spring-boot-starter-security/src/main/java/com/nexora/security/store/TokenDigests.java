@@ -0,0 +1,28 @@
+package com.nexora.security.store;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Digests under which refresh tokens are stored, so stores never hold usable credentials.
+ *
+ * @author sujie
+ * @since 1.0.0
+ */
+public final class TokenDigests {
+
+    private TokenDigests() {
+    }
+
+    /**
+     * SHA-256 of the token's UTF-8 bytes (32 bytes).
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
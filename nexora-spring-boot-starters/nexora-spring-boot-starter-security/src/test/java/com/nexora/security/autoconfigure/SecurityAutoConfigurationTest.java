@@ -3,6 +3,7 @@ package com.nexora.security.autoconfigure;
 import com.nexora.security.crypto.Encryptor;
 import com.nexora.security.jwt.JwtProperties;
 import com.nexora.security.jwt.JwtTokenProvider;
+import com.nexora.security.revocation.TokenRevocationService;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -78,6 +79,24 @@ class SecurityAutoConfigurationTest {
             });
     }
 
+    @Test
+    @DisplayName("Should wire the revocation list into the token provider when enabled")
+    void shouldWireRevocationListWhenEnabled() {
+        contextRunner
+            .withPropertyValues(
+                "nexora.security.jwt.enabled=true",
+                "nexora.security.jwt.secret=" + "a".repeat(64),
+                "nexora.security.jwt.revocation.enabled=true"
+            )
+            .run(context -> {
+                assertThat(context).hasSingleBean(TokenRevocationService.class);
+                JwtTokenProvider provider = context.getBean(JwtTokenProvider.class);
+                String token = provider.generateToken("user123", null);
+                context.getBean(TokenRevocationService.class).revoke(provider.getClaims(token));
+                assertThat(provider.validateToken(token)).isFalse();
+            });
+    }
+
     @Test
     @DisplayName("Should not create Encryptor without jasypt enabled property")
     void shouldNotCreateEncryptorWithoutJasyptEnabled() {
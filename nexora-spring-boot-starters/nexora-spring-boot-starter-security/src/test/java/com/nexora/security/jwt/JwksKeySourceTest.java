@@ -0,0 +1,140 @@
+package com.nexora.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link JwksKeySource} against the document served by {@link JwkSetEndpoint}.
+ */
+@DisplayName("JwksKeySource Tests")
+class JwksKeySourceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<String> document = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private HttpServer server;
+    private JwtProperties.SigningKey firstKey;
+    private JwtTokenProvider issuer;
+    private JwksKeySource keySource;
+    private JwtTokenProvider verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jwks.json", exchange -> {
+            fetches.incrementAndGet();
+            byte[] body = document.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        firstKey = JwtTestKeys.signingKey("k1", "RS256");
+        issuer = issuer(List.of(firstKey), null);
+
+        keySource = new JwksKeySource(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks.json"),
+            Duration.ofMinutes(5), Duration.ZERO, Duration.ofSeconds(2));
+        verifier = new JwtTokenProvider(new JwtProperties(), keySource);
+        verifier.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        keySource.stop();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Endpoint should publish public keys only, with kid and alg")
+    void testEndpointPublishesPublicKeys() throws Exception {
+        String json = document.get();
+        Map<?, ?> key = (Map<?, ?>) ((List<?>) objectMapper.readValue(json, Map.class).get("keys")).get(0);
+
+        assertEquals("k1", key.get("kid"));
+        assertEquals("RS256", key.get("alg"));
+        assertEquals("RSA", key.get("kty"));
+        assertNotNull(key.get("n"));
+        assertNull(key.get("d"));
+    }
+
+    @Test
+    @DisplayName("Verifier should accept issuer tokens after loading the JWK Set")
+    void testVerifiesIssuerTokens() {
+        keySource.start();
+
+        String token = issuer.generateToken("user123", null);
+
+        assertEquals(1, keySource.size());
+        assertEquals("user123", verifier.getSubject(token));
+        assertThrows(IllegalStateException.class, () -> verifier.generateToken("user123", null));
+    }
+
+    @Test
+    @DisplayName("Key source should start before the web server accepts requests")
+    void testStartsBeforeWebServer() {
+        assertTrue(keySource.getPhase() < WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE);
+    }
+
+    @Test
+    @DisplayName("Unknown kid should be rejected at once and trigger a background refresh")
+    void testUnknownKidTriggersRefresh() throws Exception {
+        keySource.start();
+        issuer = issuer(List.of(JwtTestKeys.verificationOnly(firstKey), JwtTestKeys.signingKey("k2", "RS256")), "k2");
+        String token = issuer.generateToken("user123", null);
+
+        assertFalse(verifier.validateToken(token));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (keySource.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(2, keySource.size());
+        assertTrue(verifier.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Failed refresh should keep serving the last known keys")
+    void testStaleKeysServedWhenRefreshFails() {
+        keySource.refresh();
+        String token = issuer.generateToken("user123", null);
+        status.set(503);
+
+        assertThrows(IllegalStateException.class, keySource::refresh);
+
+        assertEquals(1, keySource.size());
+        assertTrue(verifier.validateToken(token));
+        assertEquals(2, fetches.get());
+    }
+
+    private JwtTokenProvider issuer(List<JwtProperties.SigningKey> keys, String activeKeyId) throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setKeys(keys);
+        properties.setActiveKeyId(activeKeyId);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        JwkSetEndpoint endpoint = new JwkSetEndpoint(provider.getKeySource(), Duration.ofSeconds(30));
+        document.set(objectMapper.writeValueAsString(endpoint.jwkSet().getBody()));
+        return provider;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nexora.security.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+/**
+ * Generates asymmetric keys as configured in {@link JwtProperties.SigningKey}.
+ */
+final class JwtTestKeys {
+
+    private JwtTestKeys() {
+    }
+
+    static JwtProperties.SigningKey signingKey(String id, String algorithm) {
+        KeyPair pair = generate(algorithm);
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setId(id);
+        key.setAlgorithm(algorithm);
+        key.setPrivateKey(pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        key.setPublicKey(pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+        return key;
+    }
+
+    static JwtProperties.SigningKey verificationOnly(JwtProperties.SigningKey key) {
+        JwtProperties.SigningKey copy = new JwtProperties.SigningKey();
+        copy.setId(key.getId());
+        copy.setAlgorithm(key.getAlgorithm());
+        copy.setPublicKey(key.getPublicKey());
+        return copy;
+    }
+
+    private static KeyPair generate(String algorithm) {
+        try {
+            if (algorithm.startsWith("ES")) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            if (algorithm.equals("EdDSA")) {
+                return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+            + "\n-----END " + type + "-----\n";
+    }
+}
@@ -5,10 +5,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -107,6 +112,14 @@ class JwtTokenProviderTest {
         assertFalse(tokenProvider.validateToken(malformedToken));
     }
 
+    @Test
+    @DisplayName("Validate token should return false for null or empty token")
+    void testValidateNullOrEmptyToken() {
+        assertFalse(tokenProvider.validateToken(null));
+        assertFalse(tokenProvider.validateToken(""));
+        assertThrows(IllegalArgumentException.class, () -> tokenProvider.parseOnce(null));
+    }
+
     @Test
     @DisplayName("Get claims should return correct claims")
     void testGetClaims() {
@@ -229,4 +242,104 @@ class JwtTokenProviderTest {
         assertTrue(refreshExpiration.after(accessExpiration),
             "Refresh token should expire later than access token");
     }
+
+    @Test
+    @DisplayName("Parse once should return cached immutable claims")
+    void testParseOnceReturnsCachedImmutableClaims() {
+        String token = tokenProvider.generateToken("user123", Map.of("username", "testuser"));
+
+        io.jsonwebtoken.Claims first = tokenProvider.parseOnce(token);
+        io.jsonwebtoken.Claims second = tokenProvider.parseOnce(token);
+
+        assertSame(first, second);
+        assertEquals("user123", tokenProvider.getSubject(token));
+        assertThrows(UnsupportedOperationException.class, () -> first.put("role", "ADMIN"));
+    }
+
+    @Test
+    @DisplayName("Parse once should reject tampered tokens even after caching the original")
+    void testParseOnceRejectsTamperedToken() {
+        String token = tokenProvider.generateToken("user123", null);
+        tokenProvider.parseOnce(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> tokenProvider.parseOnce(tampered));
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    @DisplayName("Parse once should work with the claims cache disabled")
+    void testParseOnceWithoutCache() {
+        properties.getClaimsCache().setEnabled(false);
+        JwtTokenProvider uncached = new JwtTokenProvider(properties);
+        uncached.init();
+        String token = uncached.generateToken("user123", null);
+
+        assertNotSame(uncached.parseOnce(token), uncached.parseOnce(token));
+        assertEquals("user123", uncached.getSubject(token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+    @DisplayName("Asymmetric keys should sign with the kid header and verify")
+    void testAsymmetricSigning(String algorithm) {
+        JwtTokenProvider asymmetric = asymmetricProvider(List.of(JwtTestKeys.signingKey("k1", algorithm)), null);
+
+        String token = asymmetric.generateToken("user123", Map.of("username", "testuser"));
+
+        assertTrue(header(token).contains("\"kid\":\"k1\""));
+        assertTrue(header(token).contains("\"alg\":\"" + algorithm + "\""));
+        assertEquals("user123", asymmetric.getSubject(token));
+        assertTrue(asymmetric.getKeySource().isAsymmetric());
+    }
+
+    @Test
+    @DisplayName("Tokens signed with a retired key should verify after rotation")
+    void testKeyRotation() {
+        JwtProperties.SigningKey oldKey = JwtTestKeys.signingKey("old", "ES256");
+        JwtProperties.SigningKey newKey = JwtTestKeys.signingKey("new", "ES256");
+        String oldToken = asymmetricProvider(List.of(oldKey), null).generateToken("user123", null);
+
+        JwtTokenProvider rotated = asymmetricProvider(List.of(JwtTestKeys.verificationOnly(oldKey), newKey), "new");
+        String newToken = rotated.generateToken("user456", null);
+
+        assertEquals("user123", rotated.getSubject(oldToken));
+        assertEquals("user456", rotated.getSubject(newToken));
+        assertEquals(2, rotated.getKeySource().publicJwks().size());
+    }
+
+    @Test
+    @DisplayName("Tokens with an unknown kid or an HMAC signature should be rejected by asymmetric keys")
+    void testAsymmetricRejectsForeignTokens() {
+        JwtTokenProvider first = asymmetricProvider(List.of(JwtTestKeys.signingKey("k1", "RS256")), null);
+        JwtTokenProvider second = asymmetricProvider(List.of(JwtTestKeys.signingKey("k2", "RS256"),
+            JwtTestKeys.signingKey("k3", "RS256")), null);
+
+        assertFalse(second.validateToken(first.generateToken("user123", null)));
+        assertFalse(first.validateToken(tokenProvider.generateToken("user123", null)));
+    }
+
+    @Test
+    @DisplayName("Init should fail when the active key has no private key")
+    void testInitRejectsVerificationOnlyActiveKey() {
+        JwtProperties.SigningKey key = JwtTestKeys.verificationOnly(JwtTestKeys.signingKey("k1", "RS256"));
+        properties.setKeys(List.of(key));
+        properties.setActiveKeyId("k1");
+
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenProvider(properties).init());
+    }
+
+    private JwtTokenProvider asymmetricProvider(List<JwtProperties.SigningKey> keys, String activeKeyId) {
+        JwtProperties asymmetricProperties = new JwtProperties();
+        asymmetricProperties.setKeys(keys);
+        asymmetricProperties.setActiveKeyId(activeKeyId);
+        JwtTokenProvider provider = new JwtTokenProvider(asymmetricProperties);
+        provider.init();
+        return provider;
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,104 @@
+package com.nexora.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ReactiveJwtTokenProvider}.
+ */
+@DisplayName("ReactiveJwtTokenProvider Tests")
+class ReactiveJwtTokenProviderTest {
+
+    private JwtTokenProvider tokenProvider;
+    private ReactiveJwtTokenProvider reactiveProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("a".repeat(64));
+        properties.setExpiration(Duration.ofHours(1));
+        properties.setIssuer("test-issuer");
+        properties.setAudience("test-audience");
+
+        tokenProvider = new JwtTokenProvider(properties);
+        tokenProvider.init();
+        reactiveProvider = new ReactiveJwtTokenProvider(properties);
+    }
+
+    @Test
+    @DisplayName("Validation should run on the subscribing thread")
+    void testValidationRunsInline() {
+        String token = tokenProvider.generateToken("user123", null);
+        Thread caller = Thread.currentThread();
+
+        Thread verifiedOn = reactiveProvider.validateToken(token)
+            .map(claims -> Thread.currentThread())
+            .block();
+
+        assertSame(caller, verifiedOn);
+    }
+
+    @Test
+    @DisplayName("Getters should read the cached claims")
+    void testGettersShareVerifiedClaims() {
+        String token = tokenProvider.generateToken("user123", Map.of("username", "testuser"));
+
+        assertEquals("user123", reactiveProvider.getUserId(token).block());
+        assertEquals("testuser", reactiveProvider.getUsername(token).block());
+        assertSame(reactiveProvider.validateToken(token).block(), reactiveProvider.validateToken(token).block());
+        assertTrue(reactiveProvider.isValid(token).block());
+        assertFalse(reactiveProvider.isExpired(token).block());
+    }
+
+    @Test
+    @DisplayName("Claims should be stored in the exchange and reused for the same token")
+    void testClaimsCachedPerExchange() {
+        String token = tokenProvider.generateToken("user123", null);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+
+        Claims first = reactiveProvider.validateToken(exchange, token).block();
+
+        assertNotNull(exchange.getAttribute(ReactiveJwtTokenProvider.CLAIMS_ATTRIBUTE));
+        assertSame(first, reactiveProvider.validateToken(exchange, token).block());
+    }
+
+    @Test
+    @DisplayName("Exchange cache should not vouch for a different token")
+    void testExchangeCacheChecksToken() {
+        String token = tokenProvider.generateToken("user123", null);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        reactiveProvider.validateToken(exchange, token).block();
+
+        assertThrows(ReactiveJwtTokenProvider.JwtValidationException.class,
+            () -> reactiveProvider.validateToken(exchange, "invalid.token.string").block());
+        assertFalse(reactiveProvider.isValid("invalid.token.string").block());
+    }
+
+    @Test
+    @DisplayName("Asymmetric verification should run on the parallel scheduler and cache hits inline")
+    void testAsymmetricVerificationOnParallelScheduler() {
+        JwtProperties properties = new JwtProperties();
+        properties.setKeys(List.of(JwtTestKeys.signingKey("k1", "RS256")));
+        JwtTokenProvider issuer = new JwtTokenProvider(properties);
+        issuer.init();
+        ReactiveJwtTokenProvider verifier = new ReactiveJwtTokenProvider(properties);
+        String token = issuer.generateToken("user123", null);
+        Thread caller = Thread.currentThread();
+
+        Thread verifiedOn = verifier.validateToken(token).map(claims -> Thread.currentThread()).block();
+        Thread cachedOn = verifier.validateToken(token).map(claims -> Thread.currentThread()).block();
+
+        assertTrue(verifiedOn.getName().startsWith("parallel-"), verifiedOn.getName());
+        assertSame(caller, cachedOn);
+    }
+}
@@ -0,0 +1,81 @@
+package com.nexora.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link VerifiedClaimsCache}.
+ */
+@DisplayName("VerifiedClaimsCache Tests")
+class VerifiedClaimsCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    @DisplayName("Token should be verified once while cached")
+    void testVerifiesOnce() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(100, Duration.ofMinutes(5));
+        Function<String, Claims> verifier = verifier(new Date(System.currentTimeMillis() + 60_000));
+
+        Claims first = cache.get("token", verifier);
+        Claims second = cache.get("token", verifier);
+
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Claims past their expiry should not be served from the cache")
+    void testExpiredClaimsNotCached() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(100, Duration.ofMinutes(5));
+        Function<String, Claims> verifier = verifier(new Date(System.currentTimeMillis() - 1_000));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Verification failures should propagate and not be cached")
+    void testFailuresNotCached() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(100, Duration.ofMinutes(5));
+        Function<String, Claims> failing = token -> {
+            verifications.incrementAndGet();
+            throw new IllegalArgumentException("bad token");
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("token", failing));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("token", failing));
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Invalidate should force re-verification")
+    void testInvalidate() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(100, Duration.ofMinutes(5));
+        Function<String, Claims> verifier = verifier(new Date(System.currentTimeMillis() + 60_000));
+
+        cache.get("token", verifier);
+        cache.invalidate("token");
+        cache.get("token", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    private Function<String, Claims> verifier(Date expiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Jwts.claims().subject("user").expiration(expiration).build();
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.nexora.security.revocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TokenRevocationList}.
+ */
+@DisplayName("TokenRevocationList Tests")
+class TokenRevocationListTest {
+
+    private MutableClock clock;
+    private TokenRevocationList list;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        list = new TokenRevocationList(Duration.ofMinutes(1), Duration.ofHours(1), clock);
+    }
+
+    @Test
+    @DisplayName("Revoked ids should be found by id and expiry")
+    void testRevokeAndCheck() {
+        Instant expiresAt = clock.instant().plus(Duration.ofMinutes(30));
+
+        assertTrue(list.revoke("jti-1", expiresAt));
+
+        assertTrue(list.isRevoked("jti-1", expiresAt.getEpochSecond()));
+        assertFalse(list.isRevoked("jti-2", expiresAt.getEpochSecond()));
+        assertFalse(list.isRevoked("jti-1", expiresAt.plus(Duration.ofMinutes(5)).getEpochSecond()));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    @DisplayName("Buckets should grow and keep every revoked id")
+    void testManyRevocationsInOneBucket() {
+        Instant expiresAt = clock.instant().plus(Duration.ofMinutes(10));
+        for (int i = 0; i < 1000; i++) {
+            list.revoke("jti-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(list.isRevoked("jti-" + i, expiresAt.getEpochSecond()));
+        }
+        assertFalse(list.isRevoked("jti-1000", expiresAt.getEpochSecond()));
+        assertEquals(1000, list.size());
+    }
+
+    @Test
+    @DisplayName("Entries should age out once their bucket is reused")
+    void testEntriesAgeOut() {
+        Instant expiresAt = clock.instant().plus(Duration.ofMinutes(2));
+        list.revoke("jti-1", expiresAt);
+
+        clock.advance(Duration.ofMinutes(3));
+        assertEquals(0, list.size());
+
+        // A token expiring one ring length later lands in the same slot and replaces the old bucket
+        Instant later = expiresAt.plus(Duration.ofMinutes(62));
+        list.revoke("jti-2", later);
+        assertTrue(list.isRevoked("jti-2", later.getEpochSecond()));
+        assertFalse(list.isRevoked("jti-1", later.getEpochSecond()));
+    }
+
+    @Test
+    @DisplayName("Expired tokens need no entry and expiries beyond the window are rejected")
+    void testBounds() {
+        assertFalse(list.revoke("jti-1", clock.instant().minusSeconds(1)));
+        assertEquals(0, list.size());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> list.revoke("jti-2", clock.instant().plus(Duration.ofHours(2))));
+    }
+
+    @Test
+    @DisplayName("Wire format should round-trip and reject garbage")
+    void testEncoding() {
+        TokenRevocation revocation = new TokenRevocation("a:b", Instant.ofEpochSecond(1_767_225_600L));
+
+        assertEquals(revocation, TokenRevocation.decode(revocation.encode()));
+        assertThrows(IllegalArgumentException.class, () -> TokenRevocation.decode("nonsense"));
+        assertThrows(IllegalArgumentException.class, () -> TokenRevocation.decode("x:jti"));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.nexora.security.revocation;
+
+import com.nexora.security.jwt.JwtProperties;
+import com.nexora.security.jwt.JwtTokenProvider;
+import com.nexora.security.jwt.ReactiveJwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TokenRevocationService} across two nodes sharing an in-memory bus.
+ */
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    private final InMemoryBus bus = new InMemoryBus();
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationService node1;
+    private TokenRevocationService node2;
+    private JwtTokenProvider node2Provider;
+    private ReactiveJwtTokenProvider node2ReactiveProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("a".repeat(64));
+        properties.setExpiration(Duration.ofMinutes(15));
+
+        node1 = new TokenRevocationService(new TokenRevocationList(Duration.ofMinutes(1), Duration.ofMinutes(15)), bus);
+        node2 = new TokenRevocationService(new TokenRevocationList(Duration.ofMinutes(1), Duration.ofMinutes(15)), bus);
+
+        tokenProvider = new JwtTokenProvider(properties);
+        tokenProvider.setRevocationList(node1.getRevocationList());
+        tokenProvider.init();
+        node2Provider = new JwtTokenProvider(properties);
+        node2Provider.setRevocationList(node2.getRevocationList());
+        node2Provider.init();
+        node2ReactiveProvider = new ReactiveJwtTokenProvider(properties);
+        node2ReactiveProvider.setRevocationList(node2.getRevocationList());
+    }
+
+    @Test
+    @DisplayName("Revoked token should be rejected on every node, even with cached claims")
+    void testRevocationPropagates() {
+        String token = tokenProvider.generateToken("user123", null);
+        String other = tokenProvider.generateToken("user123", null);
+        assertTrue(tokenProvider.validateToken(token));
+        assertTrue(node2Provider.validateToken(token));
+        assertNotNull(node2ReactiveProvider.validateToken(token).block());
+
+        Claims claims = tokenProvider.getClaims(token);
+        node1.revoke(claims);
+
+        assertTrue(node2.isRevoked(claims));
+        assertFalse(tokenProvider.validateToken(token));
+        assertFalse(node2Provider.validateToken(token));
+        assertThrows(TokenRevokedException.class, () -> node2Provider.parseOnce(token));
+        assertFalse(node2ReactiveProvider.isValid(token).block());
+        assertTrue(node2Provider.validateToken(other));
+        assertEquals(1, bus.published.size());
+    }
+
+    @Test
+    @DisplayName("Tokens should carry a unique jti")
+    void testTokensCarryJti() {
+        String first = tokenProvider.generateToken("user123", null);
+        String second = tokenProvider.generateToken("user123", null);
+
+        assertNotNull(tokenProvider.getClaims(first).getId());
+        assertNotEquals(tokenProvider.getClaims(first).getId(), tokenProvider.getClaims(second).getId());
+    }
+
+    private static final class InMemoryBus implements TokenRevocationBus {
+
+        private final List<Consumer<TokenRevocation>> handlers = new ArrayList<>();
+        private final List<String> published = new ArrayList<>();
+
+        @Override
+        public void publish(TokenRevocation revocation) {
+            published.add(revocation.encode());
+            handlers.forEach(handler -> handler.accept(TokenRevocation.decode(revocation.encode())));
+        }
+
+        @Override
+        public void subscribe(Consumer<TokenRevocation> handler) {
+            handlers.add(handler);
+        }
+    }
+}
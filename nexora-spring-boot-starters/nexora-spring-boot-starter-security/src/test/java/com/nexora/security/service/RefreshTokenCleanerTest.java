@@ -0,0 +1,125 @@
+package com.nexora.security.service;
+
+import com.nexora.security.domain.RefreshToken;
+import com.nexora.security.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RefreshTokenCleaner} and the bulk statements of {@link RefreshTokenRepository}.
+ */
+@DisplayName("RefreshTokenCleaner Tests")
+class RefreshTokenCleanerTest {
+
+    private SessionFactory sessionFactory;
+    private RefreshTokenRepository repository;
+    private JpaTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(RefreshToken.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:refresh-token-cleaner;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .buildSessionFactory();
+        repository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(sessionFactory))
+            .getRepository(RefreshTokenRepository.class);
+        transactionManager = new JpaTransactionManager(sessionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should delete expired tokens in chunks and keep valid ones")
+    void testDeleteExpiredInChunks() {
+        persist(1L, 7, Instant.now().minusSeconds(60));
+        persist(2L, 3, Instant.now().plusSeconds(3600));
+
+        RefreshTokenCleaner cleaner = new RefreshTokenCleaner(repository, transactionManager, cleanup(3));
+
+        assertEquals(7, cleaner.deleteExpired());
+        assertEquals(3, repository.count());
+        assertTrue(repository.findAll().stream().allMatch(token -> token.getUserId() == 2L));
+        assertEquals(0, cleaner.deleteExpired());
+        assertEquals(7, cleaner.getDeletedTotal());
+        assertEquals(0, cleaner.getFailures());
+    }
+
+    @Test
+    @DisplayName("Should revoke all of a user's tokens in one statement")
+    void testRevokeAllByUserId() {
+        persist(1L, 3, Instant.now().plusSeconds(3600));
+        persist(2L, 1, Instant.now().plusSeconds(3600));
+
+        int revoked = new TransactionTemplate(transactionManager)
+            .execute(status -> repository.revokeAllByUserId(1L, Instant.now()));
+
+        assertEquals(3, revoked);
+        assertTrue(repository.findByUserIdAndRevokedIsFalseAndExpiryDateAfter(1L, Instant.now()).isEmpty());
+        assertEquals(1, repository.findByUserIdAndRevokedIsFalseAndExpiryDateAfter(2L, Instant.now()).size());
+    }
+
+    @Test
+    @DisplayName("Should expose cleanup meters")
+    void testMetrics() {
+        persist(1L, 2, Instant.now().minusSeconds(60));
+        RefreshTokenCleaner cleaner = new RefreshTokenCleaner(repository, transactionManager, cleanup(10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new RefreshTokenCleanupMetrics(cleaner).bindTo(registry);
+
+        cleaner.deleteExpired();
+
+        assertEquals(2, registry.get("nexora.security.refresh-tokens.deleted").functionCounter().count());
+        assertEquals(0, registry.get("nexora.security.refresh-tokens.cleanup.failures").functionCounter().count());
+        assertNotNull(registry.get("nexora.security.refresh-tokens.cleanup.duration").timeGauge());
+    }
+
+    @Test
+    @DisplayName("Should count a failed run and stop")
+    void testFailureIsCounted() {
+        RefreshTokenCleaner cleaner = new RefreshTokenCleaner(repository, transactionManager, cleanup(10));
+        sessionFactory.close();
+
+        assertEquals(0, cleaner.deleteExpired());
+        assertEquals(1, cleaner.getFailures());
+    }
+
+    private void persist(Long userId, int count, Instant expiryDate) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < count; i++) {
+                RefreshToken token = new RefreshToken();
+                token.setToken(UUID.randomUUID().toString());
+                token.setUserId(userId);
+                token.setExpiryDate(expiryDate);
+                session.persist(token);
+            }
+        });
+    }
+
+    private static RefreshTokenProperties.Cleanup cleanup(int chunkSize) {
+        RefreshTokenProperties.Cleanup cleanup = new RefreshTokenProperties.Cleanup();
+        cleanup.setChunkSize(chunkSize);
+        cleanup.setChunkPause(Duration.ZERO);
+        return cleanup;
+    }
+}
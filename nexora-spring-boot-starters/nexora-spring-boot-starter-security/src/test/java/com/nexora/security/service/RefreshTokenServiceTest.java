@@ -0,0 +1,97 @@
+package com.nexora.security.service;
+
+import com.nexora.security.domain.RefreshToken;
+import com.nexora.security.jwt.JwtProperties;
+import com.nexora.security.jwt.JwtTokenProvider;
+import com.nexora.security.store.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link RefreshTokenService}.
+ */
+@DisplayName("RefreshTokenService Tests")
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenStore store;
+
+    private JwtTokenProvider tokenProvider;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("a".repeat(64));
+        properties.setRefreshExpiration(Duration.ofDays(7));
+        tokenProvider = new JwtTokenProvider(properties);
+        tokenProvider.init();
+        service = new RefreshTokenService(store, tokenProvider);
+    }
+
+    @Test
+    @DisplayName("Create should replace the user's tokens in the store")
+    void testCreate() {
+        when(store.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RefreshToken created = service.createRefreshToken(42L);
+
+        verify(store).deleteByUserId(42L);
+        assertEquals(42L, created.getUserId());
+        assertEquals("42", tokenProvider.getSubject(created.getToken()));
+        assertTrue(created.getExpiryDate().isAfter(Instant.now().plus(Duration.ofDays(6))));
+    }
+
+    @Test
+    @DisplayName("Rotate should hand the used token and its replacement to the store")
+    void testRotate() {
+        String used = tokenProvider.generateRefreshToken("42");
+        when(store.rotate(eq(used), any())).thenReturn(true);
+
+        Optional<RefreshToken> rotated = service.rotateRefreshToken(used);
+
+        ArgumentCaptor<RefreshToken> replacement = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(store).rotate(eq(used), replacement.capture());
+        assertTrue(rotated.isPresent());
+        assertSame(replacement.getValue(), rotated.get());
+        assertEquals(42L, rotated.get().getUserId());
+        assertNotEquals(used, rotated.get().getToken());
+    }
+
+    @Test
+    @DisplayName("Rotate should fail for reused or forged tokens")
+    void testRotateRejected() {
+        String used = tokenProvider.generateRefreshToken("42");
+        when(store.rotate(eq(used), any())).thenReturn(false);
+
+        assertTrue(service.rotateRefreshToken(used).isEmpty());
+        assertTrue(service.rotateRefreshToken("not.a.token").isEmpty());
+        verify(store, never()).rotate(eq("not.a.token"), any());
+        verify(store, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Revoke all should go to the store in one call")
+    void testRevokeAll() {
+        service.revokeAllUserTokens(42L);
+
+        verify(store).revokeAllByUserId(42L);
+        verify(store, never()).findByToken(anyString());
+    }
+}
@@ -0,0 +1,128 @@
+package com.nexora.security.store;
+
+import com.nexora.security.domain.RefreshToken;
+import com.nexora.security.repository.RefreshTokenRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for digest-based refresh token storage and {@link LegacyRefreshTokenMigration}.
+ */
+@DisplayName("LegacyRefreshTokenMigration Tests")
+class LegacyRefreshTokenMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:legacy-refresh-tokens;DB_CLOSE_DELAY=-1";
+
+    private SessionFactory sessionFactory;
+    private RefreshTokenRepository repository;
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(RefreshToken.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .buildSessionFactory();
+        repository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(sessionFactory))
+            .getRepository(RefreshTokenRepository.class);
+        dataSource = new DriverManagerDataSource(URL, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should persist only the digest and find tokens by value")
+    void testDigestStorage() {
+        RefreshToken token = new RefreshToken();
+        token.setToken("refresh-token");
+        token.setUserId(1L);
+        token.setExpiryDate(Instant.now().plusSeconds(3600));
+        sessionFactory.inTransaction(session -> session.persist(token));
+
+        assertArrayEquals(TokenDigests.sha256("refresh-token"),
+            jdbcTemplate.queryForObject("select token_hash from refresh_tokens", byte[].class));
+        RefreshToken found = repository.findByToken("refresh-token").orElseThrow();
+        assertEquals("refresh-token", found.getToken());
+        assertEquals(1L, found.getUserId());
+        assertTrue(repository.findByToken("other-token").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rotate a token by its digest only once")
+    void testRotateByDigest() {
+        RefreshToken used = new RefreshToken();
+        used.setToken("used-token");
+        used.setUserId(1L);
+        used.setExpiryDate(Instant.now().plusSeconds(3600));
+        sessionFactory.inTransaction(session -> session.persist(used));
+        JpaRefreshTokenStore store = new JpaRefreshTokenStore(repository);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new JpaTransactionManager(sessionFactory));
+
+        Boolean first = transactionTemplate.execute(status -> store.rotate("used-token", replacement("new-token")));
+        Boolean second = transactionTemplate.execute(status -> store.rotate("used-token", replacement("other-token")));
+
+        assertEquals(Boolean.TRUE, first);
+        assertEquals(Boolean.FALSE, second);
+        assertTrue(repository.findByToken("used-token").orElseThrow().isRevoked());
+        assertFalse(repository.findByToken("new-token").orElseThrow().isRevoked());
+    }
+
+    @Test
+    @DisplayName("Should hash legacy plain tokens in chunks")
+    void testMigrateLegacyTokens() {
+        jdbcTemplate.execute("alter table refresh_tokens alter column token_hash set null");
+        jdbcTemplate.execute("alter table refresh_tokens add column token varchar(512)");
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("insert into refresh_tokens (token, user_id, created_date, expiry_date, revoked) "
+                + "values (?, 1, current_timestamp, dateadd('HOUR', 1, current_timestamp), false)", "legacy-" + i);
+        }
+        LegacyRefreshTokenMigration migration =
+            new LegacyRefreshTokenMigration(dataSource, new DataSourceTransactionManager(dataSource), 2);
+
+        assertEquals(5, migration.migrate());
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "select count(*) from refresh_tokens where token is not null or token_hash is null", Integer.class));
+        assertEquals("legacy-3", repository.findByToken("legacy-3").orElseThrow().getToken());
+        assertEquals(0, migration.migrate());
+    }
+
+    @Test
+    @DisplayName("Should do nothing without a legacy token column")
+    void testNothingToMigrate() {
+        LegacyRefreshTokenMigration migration =
+            new LegacyRefreshTokenMigration(dataSource, new DataSourceTransactionManager(dataSource), 2);
+
+        assertEquals(0, migration.migrate());
+    }
+
+    private static RefreshToken replacement(String value) {
+        RefreshToken token = new RefreshToken();
+        token.setToken(value);
+        token.setUserId(1L);
+        token.setExpiryDate(Instant.now().plusSeconds(3600));
+        return token;
+    }
+}
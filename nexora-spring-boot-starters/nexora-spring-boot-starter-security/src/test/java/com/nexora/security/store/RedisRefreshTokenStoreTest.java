@@ -0,0 +1,95 @@
+package com.nexora.security.store;
+
+import com.nexora.security.domain.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the keys and arguments {@link RedisRefreshTokenStore} passes to its scripts.
+ */
+@DisplayName("RedisRefreshTokenStore Tests")
+@ExtendWith(MockitoExtension.class)
+class RedisRefreshTokenStoreTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScript script;
+
+    private RedisRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+        store = new RedisRefreshTokenStore(redissonClient, "rt:");
+    }
+
+    @Test
+    @DisplayName("Rotate should pass the used digest followed by the save arguments")
+    void testRotateArguments() {
+        when(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(),
+            any(Object[].class))).thenReturn(1L);
+        RefreshToken replacement = refreshToken("new-token");
+
+        assertTrue(store.rotate("used-token", replacement));
+
+        ArgumentCaptor<List<Object>> keys = ArgumentCaptor.captor();
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), eq(RedisRefreshTokenStore.ROTATE),
+            eq(RScript.ReturnType.LONG), keys.capture(), args.capture());
+        String used = RedisRefreshTokenStore.digest("used-token");
+        String fresh = RedisRefreshTokenStore.digest("new-token");
+        assertEquals(List.of("rt:token:" + used, "rt:token:" + fresh, "rt:user:42"), keys.getValue());
+        Object[] values = args.getValue();
+        assertEquals(6, values.length);
+        assertEquals(used, values[0]);
+        assertEquals(fresh, values[1]);
+        assertEquals("42", values[2]);
+        assertEquals(Long.toString(replacement.getExpiryDate().toEpochMilli()), values[4]);
+        assertEquals(64, used.length());
+    }
+
+    @Test
+    @DisplayName("Save should key the token by digest and index it under the user")
+    void testSaveArguments() {
+        RefreshToken token = refreshToken("token");
+
+        store.save(token);
+
+        ArgumentCaptor<List<Object>> keys = ArgumentCaptor.captor();
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), eq(RedisRefreshTokenStore.SAVE),
+            eq(RScript.ReturnType.LONG), keys.capture(), args.capture());
+        assertEquals(List.of("rt:token:" + RedisRefreshTokenStore.digest("token"), "rt:user:42"), keys.getValue());
+        assertEquals(5, args.getValue().length);
+        assertTrue(Long.parseLong((String) args.getValue()[4]) > Duration.ofDays(6).toMillis());
+    }
+
+    private static RefreshToken refreshToken(String value) {
+        RefreshToken token = new RefreshToken();
+        token.setToken(value);
+        token.setUserId(42L);
+        token.setExpiryDate(Instant.now().plus(Duration.ofDays(7)));
+        return token;
+    }
+}